@@ -0,0 +1,56 @@
+package hackthon.fiap.luis.bulk;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class AdaptiveBackoff {
+    private final long minMillis;
+    private final long maxMillis;
+    private final AtomicLong delayMillis = new AtomicLong();
+
+    AdaptiveBackoff(long minMillis, long maxMillis) {
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    void onThrottled() {
+        delayMillis.updateAndGet(current -> Math.min(maxMillis, Math.max(minMillis, current * 2)));
+    }
+
+    void onSuccess() {
+        delayMillis.updateAndGet(current -> current <= minMillis ? 0 : current * 3 / 4);
+    }
+
+    void pace() {
+        sleep(jitter(delayMillis.get()));
+    }
+
+    void retry(int attempt) {
+        long exponential = Math.min(maxMillis, minMillis << Math.min(attempt, 20));
+        sleep(jitter(Math.max(exponential, delayMillis.get())));
+    }
+
+    long currentDelayMillis() {
+        return delayMillis.get();
+    }
+
+    private static long jitter(long ceiling) {
+        if (ceiling <= 0) {
+            return 0;
+        }
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package hackthon.fiap.luis.bulk;
+
+import java.util.List;
+
+public record BulkImportReport(
+        int total,
+        int created,
+        int invalid,
+        int failed,
+        int batches,
+        int retries,
+        long elapsedMillis,
+        List<BulkRowResult> results
+) {
+    public static BulkImportReport of(List<BulkRowResult> results, int batches, int retries, long elapsedMillis) {
+        int created = 0;
+        int invalid = 0;
+        int failed = 0;
+        for (BulkRowResult result : results) {
+            switch (result.status()) {
+                case BulkRowResult.CREATED -> created++;
+                case BulkRowResult.INVALID -> invalid++;
+                default -> failed++;
+            }
+        }
+        return new BulkImportReport(results.size(), created, invalid, failed, batches, retries, elapsedMillis, results);
+    }
+}
@@ -0,0 +1,22 @@
+package hackthon.fiap.luis.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkRowResult(int row, String status, String vehicleId, String error) {
+    public static final String CREATED = "CREATED";
+    public static final String INVALID = "INVALID";
+    public static final String FAILED = "FAILED";
+
+    public static BulkRowResult created(int row, String vehicleId) {
+        return new BulkRowResult(row, CREATED, vehicleId, null);
+    }
+
+    public static BulkRowResult invalid(int row, String error) {
+        return new BulkRowResult(row, INVALID, null, error);
+    }
+
+    public static BulkRowResult failed(int row, String vehicleId, String error) {
+        return new BulkRowResult(row, FAILED, vehicleId, error);
+    }
+}
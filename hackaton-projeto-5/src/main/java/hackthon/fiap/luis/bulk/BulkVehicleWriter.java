@@ -0,0 +1,143 @@
+package hackthon.fiap.luis.bulk;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BulkVehicleWriter {
+    public static final int BATCH_SIZE = 25;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "bulk-write-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String table;
+    private final Semaphore inFlight;
+    private final AdaptiveBackoff backoff = new AdaptiveBackoff(20, 1_000);
+    private final List<CompletableFuture<List<BulkRowResult>>> pending = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Map<String, AttributeValue>> written = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicInteger retries = new AtomicInteger();
+
+    public BulkVehicleWriter(DynamoDbClient dynamoDbClient, String table, int concurrency) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.table = table;
+        this.inFlight = new Semaphore(Math.max(1, concurrency));
+    }
+
+    public void submit(List<Row> rows) {
+        inFlight.acquireUninterruptibly();
+        CompletableFuture<List<BulkRowResult>> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> write(rows), EXECUTOR);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        pending.add(future.whenComplete((ignored, error) -> inFlight.release()));
+    }
+
+    public List<BulkRowResult> finish() {
+        List<BulkRowResult> results = new ArrayList<>();
+        for (CompletableFuture<List<BulkRowResult>> future : pending) {
+            results.addAll(future.join());
+        }
+        pending.clear();
+        return results;
+    }
+
+    public List<Map<String, AttributeValue>> written() {
+        return List.copyOf(written);
+    }
+
+    public int batches() {
+        return batches.get();
+    }
+
+    public int retries() {
+        return retries.get();
+    }
+
+    private List<BulkRowResult> write(List<Row> rows) {
+        Map<String, Row> remaining = new HashMap<>((int) (rows.size() / 0.75f) + 1);
+        List<WriteRequest> requests = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            remaining.put(row.vehicleId(), row);
+            requests.add(WriteRequest.builder().putRequest(PutRequest.builder().item(row.item()).build()).build());
+        }
+
+        List<BulkRowResult> results = new ArrayList<>(rows.size());
+        String lastError = "UnprocessedItems after " + MAX_ATTEMPTS + " attempts";
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !requests.isEmpty(); attempt++) {
+            List<WriteRequest> unprocessed;
+            try {
+                if (attempt == 1) {
+                    backoff.pace();
+                } else {
+                    retries.incrementAndGet();
+                    backoff.retry(attempt);
+                }
+                batches.incrementAndGet();
+                BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                        .requestItems(Map.of(table, requests))
+                        .build());
+                unprocessed = response.unprocessedItems().getOrDefault(table, List.of());
+            } catch (ProvisionedThroughputExceededException | RequestLimitExceededException e) {
+                backoff.onThrottled();
+                lastError = e.awsErrorDetails() == null ? e.getMessage() : e.awsErrorDetails().errorMessage();
+                continue;
+            } catch (DynamoDbException e) {
+                lastError = e.awsErrorDetails() == null ? e.getMessage() : e.awsErrorDetails().errorMessage();
+                break;
+            } catch (RuntimeException e) {
+                lastError = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                break;
+            }
+
+            Map<String, Row> stillPending = new HashMap<>();
+            for (WriteRequest request : unprocessed) {
+                String vehicleId = request.putRequest().item().get("vehicleId").s();
+                stillPending.put(vehicleId, remaining.remove(vehicleId));
+            }
+            for (Row row : remaining.values()) {
+                written.add(row.item());
+                results.add(BulkRowResult.created(row.index(), row.vehicleId()));
+            }
+            remaining = stillPending;
+            requests = unprocessed;
+            if (unprocessed.isEmpty()) {
+                backoff.onSuccess();
+            } else {
+                backoff.onThrottled();
+            }
+        }
+        for (Row row : remaining.values()) {
+            results.add(BulkRowResult.failed(row.index(), row.vehicleId(), lastError));
+        }
+        return results;
+    }
+
+    public record Row(int index, String vehicleId, Map<String, AttributeValue> item) {
+    }
+}
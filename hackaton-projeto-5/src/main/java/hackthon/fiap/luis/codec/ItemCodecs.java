@@ -0,0 +1,189 @@
+package hackthon.fiap.luis.codec;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class ItemCodecs {
+    private ItemCodecs() {
+    }
+
+    public static int capacity(int attributes) {
+        return (int) (attributes / 0.75f) + 1;
+    }
+
+    public static void putString(Map<String, AttributeValue> item, String name, String value) {
+        if (value != null) {
+            item.put(name, AttributeValue.builder().s(value).build());
+        }
+    }
+
+    public static void putNumber(Map<String, AttributeValue> item, String name, long value) {
+        item.put(name, AttributeValue.builder().n(Long.toString(value)).build());
+    }
+
+    public static void putNumber(Map<String, AttributeValue> item, String name, double value) {
+        item.put(name, AttributeValue.builder().n(number(value)).build());
+    }
+
+    public static void putNumber(Map<String, AttributeValue> item, String name, Number value) {
+        if (value == null) {
+            return;
+        }
+        String text;
+        if (value instanceof BigDecimal decimal) {
+            text = decimal.toPlainString();
+        } else if (value instanceof Double || value instanceof Float) {
+            text = number(value.doubleValue());
+        } else {
+            text = value.toString();
+        }
+        item.put(name, AttributeValue.builder().n(text).build());
+    }
+
+    public static void putBoolean(Map<String, AttributeValue> item, String name, Boolean value) {
+        if (value != null) {
+            item.put(name, AttributeValue.builder().bool(value).build());
+        }
+    }
+
+    public static void putBytes(Map<String, AttributeValue> item, String name, byte[] value) {
+        if (value != null) {
+            item.put(name, AttributeValue.builder().b(SdkBytes.fromByteArray(value)).build());
+        }
+    }
+
+    public static void putStringSet(Map<String, AttributeValue> item, String name, Set<String> value) {
+        if (value != null && !value.isEmpty()) {
+            item.put(name, AttributeValue.builder().ss(value).build());
+        }
+    }
+
+    public static void putStringList(Map<String, AttributeValue> item, String name, List<String> value) {
+        if (value == null) {
+            return;
+        }
+        List<AttributeValue> values = new ArrayList<>(value.size());
+        for (String element : value) {
+            values.add(AttributeValue.builder().s(element).build());
+        }
+        item.put(name, AttributeValue.builder().l(values).build());
+    }
+
+    public static void putStringMap(Map<String, AttributeValue> item, String name, Map<String, String> value) {
+        if (value == null) {
+            return;
+        }
+        Map<String, AttributeValue> values = new HashMap<>(capacity(value.size()));
+        for (Map.Entry<String, String> entry : value.entrySet()) {
+            values.put(entry.getKey(), AttributeValue.builder().s(entry.getValue()).build());
+        }
+        item.put(name, AttributeValue.builder().m(values).build());
+    }
+
+    public static String getString(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null ? null : value.s();
+    }
+
+    public static int getInt(Map<String, AttributeValue> item, String name) {
+        String number = number(item, name);
+        return number == null ? 0 : Integer.parseInt(number);
+    }
+
+    public static Integer getIntOrNull(Map<String, AttributeValue> item, String name) {
+        String number = number(item, name);
+        return number == null ? null : Integer.valueOf(number);
+    }
+
+    public static long getLong(Map<String, AttributeValue> item, String name) {
+        String number = number(item, name);
+        return number == null ? 0L : Long.parseLong(number);
+    }
+
+    public static Long getLongOrNull(Map<String, AttributeValue> item, String name) {
+        String number = number(item, name);
+        return number == null ? null : Long.valueOf(number);
+    }
+
+    public static double getDouble(Map<String, AttributeValue> item, String name) {
+        String number = number(item, name);
+        return number == null ? 0d : Double.parseDouble(number);
+    }
+
+    public static Double getDoubleOrNull(Map<String, AttributeValue> item, String name) {
+        String number = number(item, name);
+        return number == null ? null : Double.valueOf(number);
+    }
+
+    public static BigDecimal getDecimal(Map<String, AttributeValue> item, String name) {
+        String number = number(item, name);
+        return number == null ? null : new BigDecimal(number);
+    }
+
+    public static boolean getBoolean(Map<String, AttributeValue> item, String name) {
+        return Boolean.TRUE.equals(getBooleanOrNull(item, name));
+    }
+
+    public static Boolean getBooleanOrNull(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null ? null : value.bool();
+    }
+
+    public static byte[] getBytes(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null || value.b() == null ? null : value.b().asByteArray();
+    }
+
+    public static Set<String> getStringSet(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null || !value.hasSs() ? null : new LinkedHashSet<>(value.ss());
+    }
+
+    public static List<String> getStringList(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        if (value == null || !value.hasL()) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(value.l().size());
+        for (AttributeValue element : value.l()) {
+            values.add(element.s());
+        }
+        return values;
+    }
+
+    public static Map<String, String> getStringMap(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        if (value == null || !value.hasM()) {
+            return null;
+        }
+        Map<String, String> values = new HashMap<>(capacity(value.m().size()));
+        for (Map.Entry<String, AttributeValue> entry : value.m().entrySet()) {
+            values.put(entry.getKey(), entry.getValue().s());
+        }
+        return values;
+    }
+
+    static String number(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Number must be finite: " + value);
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        String text = Double.toString(value);
+        return text.indexOf('E') < 0 ? text : new BigDecimal(text).toPlainString();
+    }
+
+    private static String number(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        return value == null ? null : value.n();
+    }
+}
@@ -0,0 +1,125 @@
+package hackthon.fiap.luis.codec.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes(ItemCodecProcessor.ANNOTATION)
+public final class ItemCodecProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "hackthon.fiap.luis.codec.DynamoItem";
+
+    private static final Map<String, Mapping> MAPPINGS = Map.ofEntries(
+            Map.entry("java.lang.String", new Mapping("putString", "getString")),
+            Map.entry("int", new Mapping("putNumber", "getInt")),
+            Map.entry("java.lang.Integer", new Mapping("putNumber", "getIntOrNull")),
+            Map.entry("long", new Mapping("putNumber", "getLong")),
+            Map.entry("java.lang.Long", new Mapping("putNumber", "getLongOrNull")),
+            Map.entry("double", new Mapping("putNumber", "getDouble")),
+            Map.entry("java.lang.Double", new Mapping("putNumber", "getDoubleOrNull")),
+            Map.entry("java.math.BigDecimal", new Mapping("putNumber", "getDecimal")),
+            Map.entry("boolean", new Mapping("putBoolean", "getBoolean")),
+            Map.entry("java.lang.Boolean", new Mapping("putBoolean", "getBooleanOrNull")),
+            Map.entry("byte[]", new Mapping("putBytes", "getBytes")),
+            Map.entry("java.util.Set<java.lang.String>", new Mapping("putStringSet", "getStringSet")),
+            Map.entry("java.util.List<java.lang.String>", new Mapping("putStringList", "getStringList")),
+            Map.entry("java.util.Map<java.lang.String,java.lang.String>", new Mapping("putStringMap", "getStringMap"))
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD) {
+                    error(element, "@DynamoItem is only supported on records");
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) {
+        List<? extends RecordComponentElement> components = record.getRecordComponents();
+        for (RecordComponentElement component : components) {
+            if (mapping(component.asType()) == null) {
+                error(component, "Unsupported attribute type " + component.asType() + " for @DynamoItem");
+                return;
+            }
+        }
+
+        String packageName = ((PackageElement) record.getEnclosingElement()).getQualifiedName().toString();
+        String recordName = record.getSimpleName().toString();
+        String codecName = recordName + "Codec";
+
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import hackthon.fiap.luis.codec.ItemCodecs;\n");
+        source.append("import software.amazon.awssdk.services.dynamodb.model.AttributeValue;\n\n");
+        source.append("import java.util.HashMap;\n");
+        source.append("import java.util.Map;\n\n");
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        source.append("public final class ").append(codecName).append(" {\n");
+        source.append("    public static final int ATTRIBUTES = ").append(components.size()).append(";\n");
+        source.append("    private static final int CAPACITY = ItemCodecs.capacity(ATTRIBUTES);\n\n");
+        source.append("    private ").append(codecName).append("() {\n    }\n\n");
+
+        source.append("    public static Map<String, AttributeValue> toItem(").append(recordName).append(" value) {\n");
+        source.append("        Map<String, AttributeValue> item = new HashMap<>(CAPACITY);\n");
+        for (RecordComponentElement component : components) {
+            String name = component.getSimpleName().toString();
+            source.append("        ItemCodecs.").append(mapping(component.asType()).writer())
+                    .append("(item, \"").append(name).append("\", value.").append(name).append("());\n");
+        }
+        source.append("        return item;\n    }\n\n");
+
+        source.append("    public static ").append(recordName).append(" fromItem(Map<String, AttributeValue> item) {\n");
+        source.append("        return new ").append(recordName).append("(");
+        for (int i = 0; i < components.size(); i++) {
+            RecordComponentElement component = components.get(i);
+            source.append(i == 0 ? "\n" : ",\n");
+            source.append("                ItemCodecs.").append(mapping(component.asType()).reader())
+                    .append("(item, \"").append(component.getSimpleName()).append("\")");
+        }
+        source.append("\n        );\n    }\n}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName + "." + codecName, record);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            error(record, "Could not write " + codecName + ": " + e.getMessage());
+        }
+    }
+
+    private static Mapping mapping(TypeMirror type) {
+        return MAPPINGS.get(type.toString());
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private record Mapping(String writer, String reader) {
+    }
+}
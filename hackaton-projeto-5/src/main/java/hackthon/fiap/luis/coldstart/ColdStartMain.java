@@ -0,0 +1,139 @@
+package hackthon.fiap.luis.coldstart;
+
+import hackthon.fiap.luis.common.JsonUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class ColdStartMain {
+    private static final String USAGE = "Usage: ColdStartMain [--handlers A,B] [--runs <n>] [--endpoint stub|memory|<url>]"
+            + " [--output <report.json>] [--baseline <report.json>] [--jvm-args \"<flags>\"] [--timeout-seconds <n>]";
+    private static final String TEST_ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    private ColdStartMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ColdStartOptions options;
+        Map<String, Map<String, Double>> baseline;
+        try {
+            options = ColdStartOptions.parse(args);
+            baseline = options.baseline() == null ? Map.of() : ColdStartReport.readBaseline(options.baseline());
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        List<ColdStartReport.HandlerResult> results = new ArrayList<>();
+        StubEndpoint stub = options.endpoint().equals("stub") ? StubEndpoint.start() : null;
+        try {
+            String endpoint = stub != null ? stub.url() : options.endpoint();
+            for (String handler : options.handlers()) {
+                List<ColdStartSample> samples = new ArrayList<>();
+                List<String> failures = new ArrayList<>();
+                for (int run = 0; run < options.runs(); run++) {
+                    try {
+                        samples.add(probe(handler, endpoint, options));
+                    } catch (IllegalStateException e) {
+                        failures.add(e.getMessage());
+                    }
+                }
+                results.add(new ColdStartReport.HandlerResult(handler, samples, failures));
+                System.err.println("measured " + handler + " (" + samples.size() + "/" + options.runs() + " runs)");
+            }
+        } finally {
+            if (stub != null) {
+                stub.close();
+            }
+        }
+
+        ColdStartReport report = new ColdStartReport(Instant.now().toString(), System.getProperty("java.version"),
+                options.endpoint(), options.jvmArgs(), options.runs(), results);
+        report.write(options.output());
+        System.out.print(report.table(baseline));
+        System.out.println("report=" + options.output().toAbsolutePath());
+    }
+
+    private static ColdStartSample probe(String handler, String endpoint, ColdStartOptions options) throws IOException,
+            InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options.jvmArgs());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ColdStartProbe.class.getName());
+        command.add(handler);
+
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        configureEnvironment(builder.environment(), endpoint);
+
+        long started = System.nanoTime();
+        Process process = builder.start();
+        List<String> lines = new ArrayList<>();
+        Thread reader = new Thread(() -> {
+            try (BufferedReader output = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = output.readLine()) != null) {
+                    synchronized (lines) {
+                        lines.add(line);
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+
+        if (!process.waitFor(options.timeoutSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("timed out after " + options.timeoutSeconds() + "s");
+        }
+        double processMillis = (System.nanoTime() - started) / 1_000_000.0;
+        reader.join(TimeUnit.SECONDS.toMillis(5));
+
+        synchronized (lines) {
+            for (String line : lines) {
+                if (line.startsWith(ColdStartProbe.PREFIX)) {
+                    Map<?, ?> probe = JsonUtils.fromJson(line.substring(ColdStartProbe.PREFIX.length()), Map.class);
+                    return ColdStartSample.from(probe, processMillis);
+                }
+            }
+            String last = lines.isEmpty() ? "no output" : lines.get(lines.size() - 1);
+            throw new IllegalStateException("probe exited with " + process.exitValue() + ": " + last);
+        }
+    }
+
+    private static void configureEnvironment(Map<String, String> environment, String endpoint) {
+        environment.putIfAbsent("AWS_REGION", "us-east-1");
+        environment.putIfAbsent("VEHICLES_TABLE", "VehiclesTable");
+        environment.putIfAbsent("CLIENTS_TABLE", "ClientsTable");
+        environment.putIfAbsent("BUYERS_TABLE", "ClientsTable");
+        environment.putIfAbsent("SALES_TABLE", "SalesTable");
+        environment.putIfAbsent("RESERVATIONS_TABLE", "ReservationsTable");
+        environment.putIfAbsent("CATALOG_STATE_TABLE", "CatalogStateTable");
+        environment.putIfAbsent("SALES_AGGREGATES_TABLE", "SalesAggregatesTable");
+        environment.putIfAbsent("STATUS_PRICE_INDEX", "status-price-index");
+        environment.putIfAbsent("SOLD_TIMELINE_INDEX", "soldMonth-soldAt-index");
+        environment.putIfAbsent("CLIENT_EMAIL_INDEX", "email-blind-index");
+        environment.putIfAbsent("CLIENT_DOCUMENT_INDEX", "document-blind-index");
+        environment.putIfAbsent("STATE_MACHINE_ARN", "arn:aws:states:us-east-1:000000000000:stateMachine:purchase-saga");
+        environment.putIfAbsent("CLIENT_DATA_ENCRYPTION_KEY", TEST_ENCRYPTION_KEY);
+        if (endpoint.equals("memory")) {
+            environment.put("DYNAMODB_ENGINE", "memory");
+        } else {
+            environment.remove("DYNAMODB_ENGINE");
+            environment.put("AWS_ENDPOINT_OVERRIDE", endpoint);
+        }
+    }
+}
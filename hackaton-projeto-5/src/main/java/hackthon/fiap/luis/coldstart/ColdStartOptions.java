@@ -0,0 +1,82 @@
+package hackthon.fiap.luis.coldstart;
+
+import hackthon.fiap.luis.runtime.HandlerRegistry;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record ColdStartOptions(
+        List<String> handlers,
+        int runs,
+        String endpoint,
+        Path output,
+        Path baseline,
+        List<String> jvmArgs,
+        int timeoutSeconds
+) {
+    private static final String PACKAGE = "hackthon.fiap.luis.";
+
+    public static ColdStartOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if (!name.startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected '--option value' pairs, got '" + name + "'");
+            }
+            values.put(name.substring(2), args[++i]);
+        }
+
+        Set<String> known = HandlerRegistry.names();
+        List<String> handlers = values.containsKey("handlers")
+                ? split(values.get("handlers")).stream().map(handler -> resolve(handler, known)).toList()
+                : List.copyOf(known);
+        String endpoint = values.getOrDefault("endpoint", "stub");
+        if (!endpoint.equals("stub") && !endpoint.equals("memory") && !endpoint.startsWith("http")) {
+            throw new IllegalArgumentException("Option '--endpoint' must be stub, memory or an http(s) URL");
+        }
+        Path output = Path.of(values.getOrDefault("output", "cold-start-report.json"));
+        Path baseline = values.containsKey("baseline") ? Path.of(values.get("baseline")) : null;
+        List<String> jvmArgs = values.containsKey("jvm-args")
+                ? Arrays.stream(values.get("jvm-args").trim().split("\\s+")).filter(arg -> !arg.isEmpty()).toList()
+                : List.of();
+
+        return new ColdStartOptions(handlers, positiveInt(values, "runs", 5, 100), endpoint, output, baseline,
+                jvmArgs, positiveInt(values, "timeout-seconds", 60, 600));
+    }
+
+    private static String resolve(String handler, Set<String> known) {
+        if (known.contains(handler)) {
+            return handler;
+        }
+        for (String name : known) {
+            if (name.endsWith("." + handler) || name.equals(PACKAGE + handler)) {
+                return name;
+            }
+        }
+        throw new IllegalArgumentException("Unknown handler '" + handler + "'");
+    }
+
+    private static List<String> split(String raw) {
+        return Arrays.stream(raw.split(",")).map(String::trim).filter(value -> !value.isEmpty()).toList();
+    }
+
+    private static int positiveInt(Map<String, String> values, String key, int defaultValue, int max) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(raw);
+            if (value < 1 || value > max) {
+                throw new IllegalArgumentException("Option '--" + key + "' must be between 1 and " + max);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option '--" + key + "' must be an integer");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package hackthon.fiap.luis.coldstart;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import hackthon.fiap.luis.common.JsonUtils;
+import hackthon.fiap.luis.runtime.InvocationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class ColdStartProbe {
+    static final String PREFIX = "COLDSTART ";
+
+    private ColdStartProbe() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+        String handlerName = args[0];
+        byte[] event = SampleEvents.forHandler(handlerName).getBytes(StandardCharsets.UTF_8);
+        Context context = new InvocationContext("coldstart-probe",
+                "arn:aws:lambda:us-east-1:000000000000:function:coldstart", System.currentTimeMillis() + 60_000);
+
+        long started = System.nanoTime();
+        Object handler = Class.forName(handlerName).getDeclaredConstructor().newInstance();
+        long constructNanos = System.nanoTime() - started;
+        int classesAfterInit = classes.getLoadedClassCount();
+        System.gc();
+        long heapAfterInit = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        String outcome;
+        started = System.nanoTime();
+        try {
+            invoke(handler, event, response, context);
+            outcome = "ok";
+        } catch (Exception e) {
+            outcome = e.getClass().getSimpleName();
+        }
+        long firstResponseNanos = System.nanoTime() - started;
+        int classesAfterFirstResponse = classes.getLoadedClassCount();
+
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("handler", handlerName);
+        sample.put("outcome", "ok".equals(outcome) ? statusOf(response.toByteArray()) : outcome);
+        sample.put("jvmStartMillis", (double) jvmStartMillis);
+        sample.put("constructMillis", constructNanos / 1_000_000.0);
+        sample.put("firstResponseMillis", firstResponseNanos / 1_000_000.0);
+        sample.put("classesAfterInit", classesAfterInit);
+        sample.put("classesAfterFirstResponse", classesAfterFirstResponse);
+        sample.put("heapAfterInitKb", heapAfterInit / 1024);
+        System.out.println(PREFIX + JsonUtils.toJson(sample));
+        System.exit(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void invoke(Object handler, byte[] event, ByteArrayOutputStream output, Context context) throws Exception {
+        if (handler instanceof RequestStreamHandler stream) {
+            stream.handleRequest(new ByteArrayInputStream(event), output, context);
+            return;
+        }
+        RequestHandler<Map<String, Object>, Map<String, Object>> requestHandler =
+                (RequestHandler<Map<String, Object>, Map<String, Object>>) handler;
+        JsonUtils.write(output, requestHandler.handleRequest(JsonUtils.readEvent(new ByteArrayInputStream(event)), context));
+    }
+
+    private static String statusOf(byte[] response) {
+        try {
+            Object statusCode = JsonUtils.readEvent(new ByteArrayInputStream(response)).get("statusCode");
+            return statusCode == null ? "ok" : "HTTP " + statusCode;
+        } catch (Exception e) {
+            return "ok";
+        }
+    }
+}
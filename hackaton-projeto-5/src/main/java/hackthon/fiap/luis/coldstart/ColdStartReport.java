@@ -0,0 +1,120 @@
+package hackthon.fiap.luis.coldstart;
+
+import hackthon.fiap.luis.common.JsonUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public record ColdStartReport(
+        String generatedAt,
+        String javaVersion,
+        String endpoint,
+        List<String> jvmArgs,
+        int runs,
+        List<HandlerResult> handlers
+) {
+    public record HandlerResult(String handler, List<ColdStartSample> samples, List<String> failures) {
+        Map<String, Double> median() {
+            Map<String, Double> median = new LinkedHashMap<>();
+            if (samples.isEmpty()) {
+                return median;
+            }
+            for (String metric : samples.get(0).metrics().keySet()) {
+                double[] values = samples.stream().mapToDouble(sample -> sample.metrics().get(metric)).sorted().toArray();
+                int middle = values.length / 2;
+                median.put(metric, values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2);
+            }
+            return median;
+        }
+
+        String outcome() {
+            return samples.isEmpty() ? "failed" : samples.get(samples.size() - 1).outcome();
+        }
+    }
+
+    public Map<String, Object> toJson() {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (HandlerResult result : handlers) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("handler", result.handler());
+            entry.put("outcome", result.outcome());
+            entry.put("median", result.median());
+            entry.put("samples", result.samples());
+            entry.put("failures", result.failures());
+            results.add(entry);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("generatedAt", generatedAt);
+        json.put("javaVersion", javaVersion);
+        json.put("endpoint", endpoint);
+        json.put("jvmArgs", jvmArgs);
+        json.put("runs", runs);
+        json.put("handlers", results);
+        return json;
+    }
+
+    public void write(Path output) throws IOException {
+        Files.writeString(output, JsonUtils.toJson(toJson()));
+    }
+
+    public String table(Map<String, Map<String, Double>> baseline) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%-34s %7s %10s %10s %9s %8s %8s %9s  %s%n",
+                "handler", "jvm ms", "ctor ms", "first ms", "total ms", "cls init", "cls 1st", "heap KB", "outcome"));
+        for (HandlerResult result : handlers) {
+            Map<String, Double> median = result.median();
+            String name = result.handler().substring(result.handler().lastIndexOf('.') + 1);
+            if (median.isEmpty()) {
+                table.append(String.format(Locale.ROOT, "%-34s %s%n", name, String.join("; ", result.failures())));
+                continue;
+            }
+            Map<String, Double> previous = baseline.getOrDefault(result.handler(), Map.of());
+            table.append(String.format(Locale.ROOT, "%-34s %7.0f %10s %10s %9s %8.0f %8.0f %9.0f  %s%n",
+                    name,
+                    median.get("jvmStartMillis"),
+                    withDelta(median, previous, "constructMillis"),
+                    withDelta(median, previous, "firstResponseMillis"),
+                    withDelta(median, previous, "processMillis"),
+                    median.get("classesAfterInit"),
+                    median.get("classesAfterFirstResponse"),
+                    median.get("heapAfterInitKb"),
+                    result.outcome()));
+        }
+        return table.toString();
+    }
+
+    public static Map<String, Map<String, Double>> readBaseline(Path path) throws IOException {
+        Map<?, ?> json = JsonUtils.fromJson(Files.readString(path), Map.class);
+        Map<String, Map<String, Double>> baseline = new HashMap<>();
+        if (json.get("handlers") instanceof List<?> entries) {
+            for (Object raw : entries) {
+                if (raw instanceof Map<?, ?> entry && entry.get("median") instanceof Map<?, ?> median) {
+                    Map<String, Double> metrics = new HashMap<>();
+                    median.forEach((key, value) -> {
+                        if (value instanceof Number number) {
+                            metrics.put(String.valueOf(key), number.doubleValue());
+                        }
+                    });
+                    baseline.put(String.valueOf(entry.get("handler")), metrics);
+                }
+            }
+        }
+        return baseline;
+    }
+
+    private static String withDelta(Map<String, Double> median, Map<String, Double> previous, String metric) {
+        double value = median.get(metric);
+        Double before = previous.get(metric);
+        if (before == null) {
+            return String.format(Locale.ROOT, "%.1f", value);
+        }
+        return String.format(Locale.ROOT, "%.0f(%+.0f)", value, value - before);
+    }
+}
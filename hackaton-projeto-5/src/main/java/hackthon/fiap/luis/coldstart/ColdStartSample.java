@@ -0,0 +1,47 @@
+package hackthon.fiap.luis.coldstart;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record ColdStartSample(
+        String outcome,
+        double jvmStartMillis,
+        double constructMillis,
+        double firstResponseMillis,
+        double processMillis,
+        int classesAfterInit,
+        int classesAfterFirstResponse,
+        long heapAfterInitKb
+) {
+    static ColdStartSample from(Map<?, ?> probe, double processMillis) {
+        return new ColdStartSample(
+                String.valueOf(probe.get("outcome")),
+                number(probe, "jvmStartMillis").doubleValue(),
+                number(probe, "constructMillis").doubleValue(),
+                number(probe, "firstResponseMillis").doubleValue(),
+                processMillis,
+                number(probe, "classesAfterInit").intValue(),
+                number(probe, "classesAfterFirstResponse").intValue(),
+                number(probe, "heapAfterInitKb").longValue()
+        );
+    }
+
+    Map<String, Double> metrics() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("jvmStartMillis", jvmStartMillis);
+        metrics.put("constructMillis", constructMillis);
+        metrics.put("firstResponseMillis", firstResponseMillis);
+        metrics.put("processMillis", processMillis);
+        metrics.put("classesAfterInit", (double) classesAfterInit);
+        metrics.put("classesAfterFirstResponse", (double) classesAfterFirstResponse);
+        metrics.put("heapAfterInitKb", (double) heapAfterInitKb);
+        return metrics;
+    }
+
+    private static Number number(Map<?, ?> probe, String key) {
+        if (probe.get(key) instanceof Number number) {
+            return number;
+        }
+        throw new IllegalArgumentException("Probe output without '" + key + "'");
+    }
+}
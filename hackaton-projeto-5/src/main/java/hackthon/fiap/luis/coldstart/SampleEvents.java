@@ -0,0 +1,59 @@
+package hackthon.fiap.luis.coldstart;
+
+import java.util.Map;
+
+final class SampleEvents {
+    private static final String SAGA_INPUT = """
+            {"saleId": "sale-coldstart-0001", "vehicleId": "vehicle-coldstart", "clientId": "client-coldstart",
+             "reservationId": "res-coldstart", "paymentApproved": true, "paymentCheckAttempt": 0}
+            """;
+
+    private static final Map<String, String> EVENTS = Map.ofEntries(
+            Map.entry("CreateVehicleHandler", http("POST /vehicles", null, null,
+                    "{\"brand\":\"Fiat\",\"model\":\"Uno\",\"year\":2010,\"color\":\"red\",\"price\":10000}")),
+            Map.entry("BulkImportVehiclesHandler", http("POST /vehicles/bulk", null, null,
+                    "{\"brand\":\"Fiat\",\"model\":\"Uno\",\"year\":2010,\"color\":\"red\",\"price\":10000}\n")),
+            Map.entry("UpdateVehicleHandler", http("PUT /vehicles/{vehicleId}",
+                    "{\"vehicleId\": \"vehicle-coldstart\"}", null, "{\"price\":9500}")),
+            Map.entry("ListVehiclesForSaleStreamHandler", http("GET /vehicles/for-sale", null,
+                    "{\"limit\": \"20\"}", null)),
+            Map.entry("ListSoldVehiclesStreamHandler", http("GET /vehicles/sold", null, "{\"limit\": \"20\"}", null)),
+            Map.entry("SearchVehiclesHandler", http("GET /vehicles/search", null, "{\"q\": \"fiat\"}", null)),
+            Map.entry("CreateClientHandler", http("POST /clients", null, null,
+                    "{\"fullName\":\"Cold Start\",\"email\":\"cold@start.dev\",\"documentNumber\":\"12345678900\","
+                            + "\"paymentKey\":\"pix-cold\",\"address\":\"Rua A, 1\"}")),
+            Map.entry("LookupClientHandler", http("GET /clients/lookup", null, "{\"email\": \"cold@start.dev\"}", null)),
+            Map.entry("GetClientHandler", http("GET /clients/{clientId}", "{\"clientId\": \"client-coldstart\"}",
+                    "{\"fields\": \"address\"}", null)),
+            Map.entry("StartPurchaseSagaHandler", http("POST /sales", null, null,
+                    "{\"vehicleId\":\"vehicle-coldstart\",\"clientId\":\"client-coldstart\"}")),
+            Map.entry("GetSaleHandler", http("GET /sales/{saleId}", "{\"saleId\": \"sale-coldstart-0001\"}", null, null)),
+            Map.entry("BatchGetSalesHandler", http("GET /sales", null, "{\"ids\": \"sale-a,sale-b\"}", null)),
+            Map.entry("GetSalesReportHandler", http("GET /reports/sales", null, null, null)),
+            Map.entry("GetReservationHandler", http("GET /reservations/{reservationId}",
+                    "{\"reservationId\": \"res-coldstart\"}", null, null)),
+            Map.entry("BatchGetReservationsHandler", http("GET /reservations", null, "{\"ids\": \"res-a,res-b\"}", null)),
+            Map.entry("PaymentCallbackHandler", http("POST /payments/callback", null, null,
+                    "{\"saleId\":\"sale-coldstart-0001\",\"paymentStatus\":\"APPROVED\"}")),
+            Map.entry("RouterHandler", http("GET /sales/{saleId}", "{\"saleId\": \"sale-coldstart-0001\"}", null, null)),
+            Map.entry("SalesAggregatesStreamHandler", "{\"Records\": []}")
+    );
+
+    private SampleEvents() {
+    }
+
+    static String forHandler(String className) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return EVENTS.getOrDefault(simpleName, SAGA_INPUT);
+    }
+
+    private static String http(String routeKey, String pathParameters, String queryParameters, String body) {
+        int space = routeKey.indexOf(' ');
+        return "{\"version\": \"2.0\", \"routeKey\": \"" + routeKey + "\", \"rawPath\": \"" + routeKey.substring(space + 1) + "\""
+                + ", \"requestContext\": {\"http\": {\"method\": \"" + routeKey.substring(0, space) + "\"}}"
+                + (pathParameters == null ? "" : ", \"pathParameters\": " + pathParameters)
+                + (queryParameters == null ? "" : ", \"queryStringParameters\": " + queryParameters)
+                + (body == null ? "" : ", \"body\": \"" + body.replace("\"", "\\\"").replace("\n", "\\n") + "\"")
+                + "}";
+    }
+}
@@ -0,0 +1,43 @@
+package hackthon.fiap.luis.coldstart;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+final class StubEndpoint implements AutoCloseable {
+    private static final byte[] EMPTY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+
+    private StubEndpoint(HttpServer server) {
+        this.server = server;
+    }
+
+    static StubEndpoint start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try (InputStream request = exchange.getRequestBody(); OutputStream response = exchange.getResponseBody()) {
+                request.readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", "application/x-amz-json-1.0");
+                exchange.sendResponseHeaders(200, EMPTY.length);
+                response.write(EMPTY);
+            }
+        });
+        server.start();
+        return new StubEndpoint(server);
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -1,5 +1,6 @@
 package hackthon.fiap.luis.common;
 
+import java.util.HashMap;
 import java.util.Map;
 
 public final class ApiResponse {
@@ -10,14 +11,32 @@ public final class ApiResponse {
         return build(200, payload);
     }
 
+    public static Map<String, Object> ok(Object payload, Map<String, String> headers) {
+        return build(200, payload, headers);
+    }
+
     public static Map<String, Object> created(Object payload) {
         return build(201, payload);
     }
 
+    public static Map<String, Object> created(Object payload, Map<String, String> headers) {
+        return build(201, payload, headers);
+    }
+
     public static Map<String, Object> accepted(Object payload) {
         return build(202, payload);
     }
 
+    public static Map<String, Object> notModified(Map<String, String> headers) {
+        Map<String, String> merged = new HashMap<>(headers);
+        merged.put("Access-Control-Allow-Origin", "*");
+        return Map.of(
+                "statusCode", 304,
+                "headers", merged,
+                "body", ""
+        );
+    }
+
     public static Map<String, Object> badRequest(String message) {
         return build(400, Map.of("error", message));
     }
@@ -30,17 +49,25 @@ public final class ApiResponse {
         return build(409, Map.of("error", message));
     }
 
+    public static Map<String, Object> preconditionFailed(String message, Map<String, String> headers) {
+        return build(412, Map.of("error", message), headers);
+    }
+
     public static Map<String, Object> serverError(String message) {
         return build(500, Map.of("error", message));
     }
 
     private static Map<String, Object> build(int statusCode, Object payload) {
+        return build(statusCode, payload, Map.of());
+    }
+
+    private static Map<String, Object> build(int statusCode, Object payload, Map<String, String> extraHeaders) {
+        Map<String, String> headers = new HashMap<>(extraHeaders);
+        headers.put("Content-Type", "application/json");
+        headers.put("Access-Control-Allow-Origin", "*");
         return Map.of(
                 "statusCode", statusCode,
-                "headers", Map.of(
-                        "Content-Type", "application/json",
-                        "Access-Control-Allow-Origin", "*"
-                ),
+                "headers", headers,
                 "body", JsonUtils.toJson(payload)
         );
     }
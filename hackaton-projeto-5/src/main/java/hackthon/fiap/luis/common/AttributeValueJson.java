@@ -0,0 +1,65 @@
+package hackthon.fiap.luis.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public final class AttributeValueJson {
+    private AttributeValueJson() {
+    }
+
+    public static void writeItem(JsonGenerator generator, Map<String, AttributeValue> item) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writeValue(generator, entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    public static void writeValue(JsonGenerator generator, AttributeValue value) throws IOException {
+        switch (value.type()) {
+            case S -> generator.writeString(value.s());
+            case N -> generator.writeNumber(value.n());
+            case BOOL -> generator.writeBoolean(value.bool());
+            case NUL -> generator.writeNull();
+            case B -> generator.writeBinary(value.b().asByteArrayUnsafe());
+            case M -> writeItem(generator, value.m());
+            case L -> {
+                generator.writeStartArray();
+                for (AttributeValue element : value.l()) {
+                    writeValue(generator, element);
+                }
+                generator.writeEndArray();
+            }
+            case SS -> writeStrings(generator, value.ss());
+            case NS -> {
+                generator.writeStartArray();
+                for (String number : value.ns()) {
+                    generator.writeNumber(number);
+                }
+                generator.writeEndArray();
+            }
+            case BS -> {
+                generator.writeStartArray();
+                for (SdkBytes bytes : value.bs()) {
+                    generator.writeBinary(bytes.asByteArrayUnsafe());
+                }
+                generator.writeEndArray();
+            }
+            default -> generator.writeNull();
+        }
+    }
+
+    private static void writeStrings(JsonGenerator generator, List<String> values) throws IOException {
+        generator.writeStartArray();
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -1,8 +1,14 @@
 package hackthon.fiap.luis.common;
 
+import hackthon.fiap.luis.inmemory.InMemoryDynamoDbClient;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.ContainerCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.EnvironmentVariableCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.sfn.SfnClient;
@@ -10,31 +16,50 @@ import software.amazon.awssdk.services.sfn.SfnClient;
 import java.net.URI;
 
 public final class AwsClientFactory {
+    static {
+        SnapStartPriming.register();
+    }
+
     private AwsClientFactory() {
     }
 
     public static DynamoDbClient dynamoDb() {
-        var builder = DynamoDbClient.builder().region(region());
-        String endpoint = endpointOverride();
-        if (endpoint != null) {
-            builder.endpointOverride(URI.create(endpoint));
-            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")));
-        } else {
-            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        if ("memory".equalsIgnoreCase(EnvConfig.value("DYNAMODB_ENGINE"))) {
+            return InMemoryDynamoDbClient.shared();
         }
-        return builder.build();
+        return DynamoDbHolder.CLIENT;
     }
 
     public static SfnClient stepFunctions() {
-        var builder = SfnClient.builder().region(region());
+        return SfnHolder.CLIENT;
+    }
+
+    static AwsCredentialsProvider credentials() {
+        return CredentialsHolder.PROVIDER;
+    }
+
+    private static <B extends AwsClientBuilder<B, ?> & AwsSyncClientBuilder<B, ?>> B configure(B builder) {
+        builder.region(region())
+                .httpClient(HttpTransport.shared())
+                .credentialsProvider(credentials());
         String endpoint = endpointOverride();
         if (endpoint != null) {
             builder.endpointOverride(URI.create(endpoint));
-            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")));
-        } else {
-            builder.credentialsProvider(DefaultCredentialsProvider.create());
         }
-        return builder.build();
+        return builder;
+    }
+
+    private static AwsCredentialsProvider createCredentials() {
+        if (endpointOverride() != null) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+        }
+        if (EnvConfig.value("AWS_ACCESS_KEY_ID") != null && EnvConfig.value("AWS_SECRET_ACCESS_KEY") != null) {
+            return EnvironmentVariableCredentialsProvider.create();
+        }
+        if (EnvConfig.value("AWS_CONTAINER_CREDENTIALS_FULL_URI") != null) {
+            return ContainerCredentialsProvider.builder().build();
+        }
+        return DefaultCredentialsProvider.create();
     }
 
     private static Region region() {
@@ -52,4 +77,16 @@ public final class AwsClientFactory {
         }
         return endpoint;
     }
+
+    private static final class CredentialsHolder {
+        private static final AwsCredentialsProvider PROVIDER = createCredentials();
+    }
+
+    private static final class DynamoDbHolder {
+        private static final DynamoDbClient CLIENT = configure(DynamoDbClient.builder()).build();
+    }
+
+    private static final class SfnHolder {
+        private static final SfnClient CLIENT = configure(SfnClient.builder()).build();
+    }
 }
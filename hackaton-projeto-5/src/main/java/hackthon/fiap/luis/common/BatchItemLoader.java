@@ -0,0 +1,109 @@
+package hackthon.fiap.luis.common;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BatchItemLoader {
+    public static final int MAX_KEYS_PER_REQUEST = 100;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_BACKOFF_MILLIS = 20;
+    private static final long MAX_BACKOFF_MILLIS = 1_000;
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            EnvConfig.intValue("BATCH_GET_CONCURRENCY", 4),
+            runnable -> {
+                Thread thread = new Thread(runnable, "batch-get-" + THREADS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String table;
+    private final String keyAttribute;
+    private final boolean consistentRead;
+
+    public BatchItemLoader(DynamoDbClient dynamoDbClient, String table, String keyAttribute) {
+        this(dynamoDbClient, table, keyAttribute, false);
+    }
+
+    public BatchItemLoader(DynamoDbClient dynamoDbClient, String table, String keyAttribute, boolean consistentRead) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.table = table;
+        this.keyAttribute = keyAttribute;
+        this.consistentRead = consistentRead;
+    }
+
+    public Map<String, Map<String, AttributeValue>> load(List<String> ids) {
+        if (ids.size() <= MAX_KEYS_PER_REQUEST) {
+            return loadChunk(ids);
+        }
+        List<CompletableFuture<Map<String, Map<String, AttributeValue>>>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_KEYS_PER_REQUEST) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_KEYS_PER_REQUEST));
+            chunks.add(CompletableFuture.supplyAsync(() -> loadChunk(chunk), EXECUTOR));
+        }
+        Map<String, Map<String, AttributeValue>> found = new HashMap<>((int) (ids.size() / 0.75f) + 1);
+        try {
+            for (CompletableFuture<Map<String, Map<String, AttributeValue>>> chunk : chunks) {
+                found.putAll(chunk.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return found;
+    }
+
+    private Map<String, Map<String, AttributeValue>> loadChunk(List<String> ids) {
+        List<Map<String, AttributeValue>> keys = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            keys.add(Map.of(keyAttribute, AttributeValue.builder().s(id).build()));
+        }
+        Map<String, KeysAndAttributes> pending = Map.of(table, KeysAndAttributes.builder().keys(keys).consistentRead(consistentRead).build());
+        Map<String, Map<String, AttributeValue>> found = new HashMap<>((int) (ids.size() / 0.75f) + 1);
+        for (int attempt = 1; ; attempt++) {
+            BatchGetItemResponse response = dynamoDbClient.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(pending)
+                    .build());
+            for (Map<String, AttributeValue> item : response.responses().getOrDefault(table, List.of())) {
+                found.put(item.get(keyAttribute).s(), item);
+            }
+            KeysAndAttributes unprocessed = response.unprocessedKeys().get(table);
+            if (unprocessed == null || unprocessed.keys().isEmpty()) {
+                return found;
+            }
+            if (attempt >= MAX_ATTEMPTS) {
+                throw new IllegalStateException(unprocessed.keys().size() + " keys still unprocessed after "
+                        + attempt + " BatchGetItem attempts on " + table);
+            }
+            sleep(attempt);
+            pending = Map.of(table, unprocessed);
+        }
+    }
+
+    private static void sleep(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << attempt);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying BatchGetItem", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package hackthon.fiap.luis.common;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public final class BoundedTtlCache<K, V> {
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Consumer<V> onEvict;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public BoundedTtlCache(int maxEntries, long ttlMillis, Consumer<V> onEvict) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.onEvict = onEvict;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public boolean enabled() {
+        return maxEntries > 0 && ttlNanos > 0;
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (expired(entry, System.nanoTime())) {
+            entries.remove(key);
+            evict(entry);
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        if (!enabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        sweep(now);
+        Entry<V> previous = entries.put(key, new Entry<>(value, now));
+        if (previous != null && previous.value() != value) {
+            evict(previous);
+        }
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            Entry<V> removed = eldest.next().getValue();
+            eldest.remove();
+            evict(removed);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.values().forEach(this::evict);
+        entries.clear();
+    }
+
+    public synchronized Stats stats() {
+        sweep(System.nanoTime());
+        return new Stats(hits, misses, evictions, entries.size());
+    }
+
+    private void sweep(long now) {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            if (expired(entry, now)) {
+                iterator.remove();
+                evict(entry);
+            }
+        }
+    }
+
+    private boolean expired(Entry<V> entry, long now) {
+        return now - entry.storedAt() > ttlNanos;
+    }
+
+    private void evict(Entry<V> entry) {
+        evictions++;
+        if (onEvict != null) {
+            onEvict.accept(entry.value());
+        }
+    }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {
+        @Override
+        public String toString() {
+            return "hits=" + hits + " misses=" + misses + " evictions=" + evictions + " size=" + size;
+        }
+    }
+}
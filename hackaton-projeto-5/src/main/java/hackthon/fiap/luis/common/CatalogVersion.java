@@ -0,0 +1,122 @@
+package hackthon.fiap.luis.common;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public final class CatalogVersion {
+    private static final String TABLE = EnvConfig.value("CATALOG_STATE_TABLE");
+    private static final Map<String, AttributeValue> KEY =
+            Map.of("catalogKey", AttributeValue.builder().s("vehicles").build());
+    private static final AttributeValue ONE = AttributeValue.builder().n("1").build();
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long RETRY_BACKOFF_MILLIS = 25;
+    private static final String DELTA_PREFIX = "vehicles#";
+    private static final int MAX_DELTA_IDS = EnvConfig.intValue("CATALOG_DELTA_MAX_IDS", 1000);
+    private static final int DELTA_TTL_SECONDS = EnvConfig.intValue("CATALOG_DELTA_TTL_SECONDS", 3600);
+
+    private CatalogVersion() {
+    }
+
+    public static boolean tracked() {
+        return TABLE != null;
+    }
+
+    public static long current(DynamoDbClient dynamoDbClient) {
+        if (TABLE == null) {
+            return 0L;
+        }
+        Map<String, AttributeValue> item = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(TABLE)
+                .key(KEY)
+                .consistentRead(true)
+                .projectionExpression("version")
+                .build()).item();
+        return readVersion(item);
+    }
+
+    public static void bump(DynamoDbClient dynamoDbClient, Context context, Collection<String> vehicleIds) {
+        if (TABLE == null) {
+            return;
+        }
+        Map<String, AttributeValue> attributes = withRetry(context, "Catalog version bump", () -> dynamoDbClient.updateItem(
+                UpdateItemRequest.builder()
+                        .tableName(TABLE)
+                        .key(KEY)
+                        .updateExpression("ADD version :one")
+                        .expressionAttributeValues(Map.of(":one", ONE))
+                        .returnValues(ReturnValue.UPDATED_NEW)
+                        .build()).attributes());
+        if (attributes == null || vehicleIds.isEmpty() || vehicleIds.size() > MAX_DELTA_IDS) {
+            return;
+        }
+        long version = readVersion(attributes);
+        withRetry(context, "Catalog delta write", () -> dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(TABLE)
+                .item(Map.of(
+                        "catalogKey", AttributeValue.builder().s(DELTA_PREFIX + version).build(),
+                        "vehicleIds", AttributeValue.builder().ss(vehicleIds).build(),
+                        "expiresAt", AttributeValue.builder()
+                                .n(String.valueOf(Instant.now().getEpochSecond() + DELTA_TTL_SECONDS))
+                                .build()))
+                .build()));
+    }
+
+    public static Set<String> changedSince(DynamoDbClient dynamoDbClient, long from, long to) {
+        if (TABLE == null) {
+            return null;
+        }
+        List<String> deltaKeys = new ArrayList<>((int) Math.max(0, to - from));
+        for (long version = from + 1; version <= to; version++) {
+            deltaKeys.add(DELTA_PREFIX + version);
+        }
+        Map<String, Map<String, AttributeValue>> deltas =
+                new BatchItemLoader(dynamoDbClient, TABLE, "catalogKey", true).load(deltaKeys);
+        if (deltas.size() != deltaKeys.size()) {
+            return null;
+        }
+        Set<String> changed = new HashSet<>();
+        deltas.values().forEach(delta -> changed.addAll(delta.get("vehicleIds").ss()));
+        return changed;
+    }
+
+    private static <T> T withRetry(Context context, String operation, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    context.getLogger().log(operation + " failed after " + attempt + " attempts: " + e.getMessage());
+                    return null;
+                }
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    context.getLogger().log(operation + " interrupted: " + e.getMessage());
+                    return null;
+                }
+            }
+        }
+    }
+
+    private static long readVersion(Map<String, AttributeValue> item) {
+        if (item == null || item.get("version") == null || item.get("version").n() == null) {
+            return 0L;
+        }
+        return Long.parseLong(item.get("version").n());
+    }
+}
@@ -0,0 +1,79 @@
+package hackthon.fiap.luis.common;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+
+public final class EntityTags {
+    private EntityTags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static Map<String, String> header(long version) {
+        return Map.of("ETag", of(version));
+    }
+
+    public static String strong(String... parts) {
+        long hash = 0xcbf29ce484222325L;
+        for (String part : parts) {
+            for (int i = 0; i < part.length(); i++) {
+                hash = (hash ^ part.charAt(i)) * 0x100000001b3L;
+            }
+            hash = (hash ^ '\n') * 0x100000001b3L;
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    public static String ofItem(Map<String, AttributeValue> item) {
+        AttributeValue stamp = item.get("updatedAt");
+        if (stamp == null || stamp.s() == null) {
+            stamp = item.get("createdAt");
+        }
+        return stamp == null || stamp.s() == null ? null : strong(stamp.s());
+    }
+
+    public static String weak(String etag) {
+        return etag.startsWith("W/") ? etag : "W/" + etag;
+    }
+
+    public static boolean notModified(Map<String, Object> event, String etag) {
+        String ifNoneMatch = HttpEventUtils.header(event, "If-None-Match");
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String current = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || opaque(tag).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Long expectedVersion(Map<String, Object> event) {
+        String ifMatch = HttpEventUtils.header(event, "If-Match");
+        if (ifMatch == null || "*".equals(ifMatch)) {
+            return null;
+        }
+        String tag = ifMatch.startsWith("W/") ? ifMatch.substring(2) : ifMatch;
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            long version = Long.parseLong(tag);
+            if (version >= 1) {
+                return version;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Header 'If-Match' must be an ETag returned by the API");
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
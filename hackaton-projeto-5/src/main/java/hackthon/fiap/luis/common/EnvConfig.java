@@ -0,0 +1,23 @@
+package hackthon.fiap.luis.common;
+
+public final class EnvConfig {
+    private EnvConfig() {
+    }
+
+    public static String value(String name) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    public static int intValue(String name, int defaultValue) {
+        String raw = value(name);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -6,13 +6,33 @@ public final class HttpEventUtils {
     private HttpEventUtils() {
     }
 
-    @SuppressWarnings("unchecked")
     public static String pathParam(Map<String, Object> event, String key) {
-        Object raw = event.get("pathParameters");
-        if (!(raw instanceof Map<?, ?> pathParams)) {
+        return stringEntry(event.get("pathParameters"), key);
+    }
+
+    public static String queryParam(Map<String, Object> event, String key) {
+        return stringEntry(event.get("queryStringParameters"), key);
+    }
+
+    public static String header(Map<String, Object> event, String name) {
+        if (!(event.get("headers") instanceof Map<?, ?> headers)) {
+            return null;
+        }
+        for (Map.Entry<?, ?> entry : headers.entrySet()) {
+            if (name.equalsIgnoreCase(String.valueOf(entry.getKey())) && entry.getValue() != null) {
+                String value = String.valueOf(entry.getValue()).trim();
+                return value.isBlank() ? null : value;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String stringEntry(Object raw, String key) {
+        if (!(raw instanceof Map<?, ?> params)) {
             return null;
         }
-        Object value = ((Map<String, Object>) pathParams).get(key);
+        Object value = ((Map<String, Object>) params).get(key);
         if (value == null) {
             return null;
         }
@@ -0,0 +1,64 @@
+package hackthon.fiap.luis.common;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+
+import java.time.Duration;
+
+public final class HttpTransport {
+    public static final String URL_CONNECTION = "urlconnection";
+    public static final String CRT = "crt";
+
+    private HttpTransport() {
+    }
+
+    public static SdkHttpClient shared() {
+        return Holder.CLIENT;
+    }
+
+    public static String selected() {
+        String transport = EnvConfig.value("SDK_HTTP_CLIENT");
+        return transport == null ? URL_CONNECTION : transport.toLowerCase();
+    }
+
+    private static SdkHttpClient create() {
+        Duration connectTimeout = Duration.ofMillis(EnvConfig.intValue("SDK_CONNECT_TIMEOUT_MS", 2_000));
+        Duration socketTimeout = Duration.ofMillis(EnvConfig.intValue("SDK_SOCKET_TIMEOUT_MS", 10_000));
+        int maxConnections = EnvConfig.intValue("SDK_MAX_CONNECTIONS", 32);
+        return switch (selected()) {
+            case CRT -> Crt.create(connectTimeout, maxConnections);
+            case URL_CONNECTION -> urlConnection(connectTimeout, socketTimeout, maxConnections);
+            default -> throw new IllegalStateException("SDK_HTTP_CLIENT must be '" + URL_CONNECTION + "' or '" + CRT + "'");
+        };
+    }
+
+    private static SdkHttpClient urlConnection(Duration connectTimeout, Duration socketTimeout, int maxConnections) {
+        if (System.getProperty("http.maxConnections") == null) {
+            System.setProperty("http.maxConnections", String.valueOf(maxConnections));
+        }
+        return UrlConnectionHttpClient.builder()
+                .connectionTimeout(connectTimeout)
+                .socketTimeout(socketTimeout)
+                .build();
+    }
+
+    private static final class Crt {
+        private static SdkHttpClient create(Duration connectTimeout, int maxConnections) {
+            try {
+                Class.forName("software.amazon.awssdk.http.crt.AwsCrtHttpClient");
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("SDK_HTTP_CLIENT=crt requires a build with the 'crt' Maven profile", e);
+            }
+            return AwsCrtHttpClient.builder()
+                    .connectionTimeout(connectTimeout)
+                    .connectionMaxIdleTime(Duration.ofSeconds(50))
+                    .maxConcurrency(maxConnections)
+                    .build();
+        }
+    }
+
+    private static final class Holder {
+        private static final SdkHttpClient CLIENT = create();
+    }
+}
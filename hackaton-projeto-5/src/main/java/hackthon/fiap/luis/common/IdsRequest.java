@@ -0,0 +1,31 @@
+package hackthon.fiap.luis.common;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record IdsRequest(List<String> ids) {
+    public static final int MAX_IDS = 500;
+
+    public static IdsRequest from(Map<String, Object> event) {
+        String raw = HttpEventUtils.queryParam(event, "ids");
+        if (raw == null) {
+            throw new IllegalArgumentException("Query parameter 'ids' is required");
+        }
+        Set<String> ids = new LinkedHashSet<>();
+        for (String part : raw.split(",")) {
+            String id = part.trim();
+            if (!id.isEmpty()) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("Query parameter 'ids' is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Query parameter 'ids' accepts at most " + MAX_IDS + " ids");
+        }
+        return new IdsRequest(List.copyOf(ids));
+    }
+}
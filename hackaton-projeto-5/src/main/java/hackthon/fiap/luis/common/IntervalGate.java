@@ -0,0 +1,26 @@
+package hackthon.fiap.luis.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IntervalGate {
+    private final long intervalNanos;
+    private final AtomicLong nextAt;
+
+    public IntervalGate(long intervalMillis) {
+        this.intervalNanos = intervalMillis * 1_000_000L;
+        this.nextAt = new AtomicLong(System.nanoTime() + intervalNanos);
+    }
+
+    public static IntervalGate statsLog() {
+        return new IntervalGate(EnvConfig.intValue("CACHE_STATS_LOG_INTERVAL_SECONDS", 300) * 1000L);
+    }
+
+    public boolean tryPass() {
+        if (intervalNanos <= 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long due = nextAt.get();
+        return now - due >= 0 && nextAt.compareAndSet(due, now + intervalNanos);
+    }
+}
@@ -0,0 +1,61 @@
+package hackthon.fiap.luis.common;
+
+import java.io.IOException;
+import java.io.Writer;
+
+final class JsonStringEscapingWriter extends Writer {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer target;
+
+    JsonStringEscapingWriter(Writer target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) throws IOException {
+        int end = offset + length;
+        int runStart = offset;
+        for (int i = offset; i < end; i++) {
+            char c = buffer[i];
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            if (i > runStart) {
+                target.write(buffer, runStart, i - runStart);
+            }
+            writeEscaped(c);
+            runStart = i + 1;
+        }
+        if (end > runStart) {
+            target.write(buffer, runStart, end - runStart);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void writeEscaped(char c) throws IOException {
+        switch (c) {
+            case '"' -> target.write("\\\"");
+            case '\\' -> target.write("\\\\");
+            case '\n' -> target.write("\\n");
+            case '\r' -> target.write("\\r");
+            case '\t' -> target.write("\\t");
+            case '\b' -> target.write("\\b");
+            case '\f' -> target.write("\\f");
+            default -> {
+                target.write("\\u00");
+                target.write(HEX[(c >> 4) & 0xF]);
+                target.write(HEX[c & 0xF]);
+            }
+        }
+    }
+}
@@ -1,14 +1,30 @@
 package hackthon.fiap.luis.common;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public final class JsonUtils {
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final byte[] EMPTY_OBJECT = {'{', '}'};
 
     private JsonUtils() {
     }
@@ -21,77 +37,102 @@ public final class JsonUtils {
         }
     }
 
-    public static Map<String, Object> parseBody(Map<String, Object> event) {
-        Object body = event.get("body");
-        if (body == null) {
-            return new HashMap<>();
-        }
-        if (body instanceof Map<?, ?> mapBody) {
-            Map<String, Object> normalized = new HashMap<>();
-            mapBody.forEach((k, v) -> normalized.put(String.valueOf(k), v));
-            return normalized;
-        }
-        String json = String.valueOf(body);
-        if (json.isBlank()) {
-            return new HashMap<>();
-        }
+    public static JsonFactory factory() {
+        return MAPPER.getFactory();
+    }
+
+    public static Map<String, Object> readEvent(InputStream input) throws IOException {
+        return MAPPER.readValue(input, new TypeReference<>() {
+        });
+    }
+
+    public static void write(OutputStream output, Object value) throws IOException {
+        MAPPER.writeValue(output, value);
+    }
+
+    public static <T> T fromJson(String json, Class<T> type) {
         try {
-            return MAPPER.readValue(json, new TypeReference<>() {
-            });
+            return MAPPER.readValue(json, type);
         } catch (IOException e) {
-            throw new IllegalArgumentException("Malformed JSON body", e);
+            throw new IllegalArgumentException("Malformed JSON payload", e);
         }
     }
 
-    public static String requiredString(Map<String, Object> body, String key) {
-        Object raw = body.get(key);
-        if (raw == null || String.valueOf(raw).isBlank()) {
-            throw new IllegalArgumentException("Field '" + key + "' is required");
+    public static <T> T readBody(Map<String, Object> event, Class<T> type) {
+        Object body = event.get("body");
+        ObjectReader reader = reader(type);
+        try {
+            if (body instanceof Map<?, ?> || body instanceof List<?>) {
+                TokenBuffer tokens = new TokenBuffer(MAPPER, false);
+                MAPPER.writeValue(tokens, body);
+                return reader.readValue(tokens.asParser());
+            }
+            String text = body == null ? "" : String.valueOf(body);
+            if (text.isBlank()) {
+                return reader.readValue(EMPTY_OBJECT);
+            }
+            if (Boolean.TRUE.equals(event.get("isBase64Encoded"))) {
+                return reader.readValue(Base64.getDecoder().decode(text));
+            }
+            return reader.readValue(text);
+        } catch (IOException e) {
+            throw bindingError(e);
         }
-        return String.valueOf(raw).trim();
     }
 
-    public static String optionalString(Map<String, Object> body, String key) {
-        Object raw = body.get(key);
-        if (raw == null) {
-            return null;
+    public static String bodyText(Map<String, Object> event) {
+        Object body = event.get("body");
+        if (body == null) {
+            return "";
         }
-        String value = String.valueOf(raw).trim();
-        return value.isBlank() ? null : value;
+        if (!(body instanceof String text)) {
+            return toJson(body);
+        }
+        if (Boolean.TRUE.equals(event.get("isBase64Encoded"))) {
+            return new String(Base64.getDecoder().decode(text), StandardCharsets.UTF_8);
+        }
+        return text;
     }
 
-    public static int requiredInt(Map<String, Object> body, String key) {
-        Object raw = body.get(key);
-        if (raw == null) {
-            throw new IllegalArgumentException("Field '" + key + "' is required");
-        }
+    public static <T> MappingIterator<T> readRows(String json, Class<T> type) {
         try {
-            return Integer.parseInt(String.valueOf(raw));
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Field '" + key + "' must be an integer");
+            return reader(type).readValues(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed JSON body", e);
         }
     }
 
-    public static double requiredDouble(Map<String, Object> body, String key) {
-        Object raw = body.get(key);
-        if (raw == null) {
-            throw new IllegalArgumentException("Field '" + key + "' is required");
+    public static IllegalArgumentException bindingError(Exception e) {
+        if (e instanceof ValueInstantiationException && e.getCause() instanceof IllegalArgumentException cause) {
+            return cause;
         }
-        try {
-            return Double.parseDouble(String.valueOf(raw));
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Field '" + key + "' must be a number");
+        if (e instanceof MismatchedInputException mismatch) {
+            List<JsonMappingException.Reference> path = mismatch.getPath();
+            if (path.isEmpty() || path.get(0).getFieldName() == null) {
+                return new IllegalArgumentException("Request body must be a JSON object", e);
+            }
+            return new IllegalArgumentException(
+                    "Field '" + path.get(0).getFieldName() + "' must be " + describe(mismatch.getTargetType()), e);
         }
+        return new IllegalArgumentException("Malformed JSON body", e);
     }
 
-    public static boolean optionalBoolean(Map<String, Object> body, String key, boolean defaultValue) {
-        Object raw = body.get(key);
-        if (raw == null) {
-            return defaultValue;
+    private static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, key -> MAPPER.readerFor(key)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .without(DeserializationFeature.ACCEPT_FLOAT_AS_INT));
+    }
+
+    private static String describe(Class<?> type) {
+        if (type == Integer.class || type == int.class || type == Long.class || type == long.class) {
+            return "an integer";
+        }
+        if (type == Double.class || type == double.class || type == Float.class || type == float.class) {
+            return "a number";
         }
-        if (raw instanceof Boolean b) {
-            return b;
+        if (type == Boolean.class || type == boolean.class) {
+            return "a boolean";
         }
-        return Boolean.parseBoolean(String.valueOf(raw));
+        return "a string";
     }
 }
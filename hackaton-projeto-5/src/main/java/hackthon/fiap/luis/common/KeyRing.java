@@ -0,0 +1,127 @@
+package hackthon.fiap.luis.common;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+final class KeyRing {
+    static final String KEY_ENV = "CLIENT_DATA_ENCRYPTION_KEY";
+    static final String KEYS_ENV = "CLIENT_DATA_ENCRYPTION_KEYS";
+    static final String ACTIVE_ENV = "CLIENT_DATA_ENCRYPTION_ACTIVE_VERSION";
+    static final String INDEX_KEY_ENV = "CLIENT_DATA_INDEX_KEY";
+    private static final String INDEX_KEY_CONTEXT = "client-blind-index";
+
+    private final Map<Integer, SecretKeySpec> keys;
+    private final int activeVersion;
+    private final SecretKeySpec activeKey;
+    private final SecretKeySpec indexKey;
+
+    private KeyRing(Map<Integer, SecretKeySpec> keys, int activeVersion, SecretKeySpec indexKey) {
+        this.keys = keys;
+        this.activeVersion = activeVersion;
+        this.activeKey = keys.get(activeVersion);
+        this.indexKey = indexKey;
+    }
+
+    static KeyRing fromEnvironment() {
+        Map<Integer, SecretKeySpec> keys = new HashMap<>();
+        String legacy = EnvConfig.value(KEY_ENV);
+        if (legacy != null) {
+            keys.put(1, decode(KEY_ENV, legacy));
+        }
+        String rotated = EnvConfig.value(KEYS_ENV);
+        if (rotated != null) {
+            for (String entry : rotated.split(",")) {
+                String trimmed = entry.trim();
+                int separator = trimmed.indexOf(':');
+                if (separator < 1) {
+                    throw new IllegalStateException(KEYS_ENV + " entries must look like '<version>:<base64 key>'");
+                }
+                int version = parseVersion(KEYS_ENV, trimmed.substring(0, separator));
+                if (keys.put(version, decode(KEYS_ENV + " v" + version, trimmed.substring(separator + 1))) != null) {
+                    throw new IllegalStateException(KEYS_ENV + " defines key v" + version + " more than once");
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalStateException(KEY_ENV + " is not configured");
+        }
+
+        String active = EnvConfig.value(ACTIVE_ENV);
+        int activeVersion = active == null ? Collections.max(keys.keySet()) : parseVersion(ACTIVE_ENV, active);
+        if (!keys.containsKey(activeVersion)) {
+            throw new IllegalStateException(ACTIVE_ENV + " points to unknown key v" + activeVersion);
+        }
+        return new KeyRing(Map.copyOf(keys), activeVersion, indexKey(keys.get(1)));
+    }
+
+    int activeVersion() {
+        return activeVersion;
+    }
+
+    SecretKeySpec activeKey() {
+        return activeKey;
+    }
+
+    SecretKeySpec indexKey() {
+        if (indexKey == null) {
+            throw new IllegalStateException(INDEX_KEY_ENV + " is required when " + KEY_ENV + " is not set");
+        }
+        return indexKey;
+    }
+
+    SecretKeySpec key(int version) {
+        SecretKeySpec key = keys.get(version);
+        if (key == null) {
+            throw new IllegalStateException("No client data key configured for enc:v" + version);
+        }
+        return key;
+    }
+
+    private static SecretKeySpec indexKey(SecretKeySpec legacyKey) {
+        String configured = EnvConfig.value(INDEX_KEY_ENV);
+        if (configured != null) {
+            return new SecretKeySpec(decode(INDEX_KEY_ENV, configured).getEncoded(), "HmacSHA256");
+        }
+        if (legacyKey == null) {
+            return null;
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(legacyKey.getEncoded(), "HmacSHA256"));
+            return new SecretKeySpec(mac.doFinal(INDEX_KEY_CONTEXT.getBytes(StandardCharsets.UTF_8)), "HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not derive the blind index key", e);
+        }
+    }
+
+    private static SecretKeySpec decode(String source, String base64) {
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(base64.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(source + " is not valid Base64");
+        }
+        if (decoded.length != 32) {
+            throw new IllegalStateException(source + " must decode to 32 bytes (AES-256)");
+        }
+        return new SecretKeySpec(decoded, "AES");
+    }
+
+    private static int parseVersion(String source, String raw) {
+        try {
+            int version = Integer.parseInt(raw.trim().startsWith("v") ? raw.trim().substring(1) : raw.trim());
+            if (version < 1) {
+                throw new NumberFormatException();
+            }
+            return version;
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(source + " has an invalid key version '" + raw + "'");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package hackthon.fiap.luis.common;
+
+public final class ListingCache {
+    private static final ListingCache SHARED = new ListingCache(
+            EnvConfig.intValue("LISTING_CACHE_MAX_ENTRIES", 256),
+            EnvConfig.intValue("LISTING_CACHE_TTL_SECONDS", 30) * 1000L
+    );
+
+    private final BoundedTtlCache<String, ListingPage> pages;
+    private final IntervalGate statsLog = IntervalGate.statsLog();
+
+    private ListingCache(int maxEntries, long ttlMillis) {
+        this.pages = new BoundedTtlCache<>(maxEntries, ttlMillis, null);
+    }
+
+    public static ListingCache shared() {
+        return SHARED;
+    }
+
+    public boolean enabled() {
+        return pages.enabled();
+    }
+
+    public ListingPage get(String key, long catalogVersion) {
+        return pages.get(versionedKey(key, catalogVersion));
+    }
+
+    public void put(String key, long catalogVersion, ListingPage page) {
+        pages.put(versionedKey(key, catalogVersion), page);
+    }
+
+    public BoundedTtlCache.Stats stats() {
+        return pages.stats();
+    }
+
+    public String periodicStats() {
+        return statsLog.tryPass() ? "Listing cache: " + stats() : null;
+    }
+
+    private static String versionedKey(String key, long catalogVersion) {
+        return catalogVersion + "#" + key;
+    }
+}
@@ -0,0 +1,9 @@
+package hackthon.fiap.luis.common;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.List;
+import java.util.Map;
+
+public record ListingPage(List<Map<String, AttributeValue>> items, String nextCursor) {
+}
@@ -0,0 +1,117 @@
+package hackthon.fiap.luis.common;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class PageCursor {
+    private static final String KEY_ENV = "PAGINATION_CURSOR_KEY";
+    private static final String FALLBACK_KEY_ENV = "CLIENT_DATA_ENCRYPTION_KEY";
+    private static final String HMAC = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static volatile SecretKeySpec signingKey;
+
+    private PageCursor() {
+    }
+
+    public static String encode(Map<String, AttributeValue> lastEvaluatedKey, String scope) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+        Map<String, String> payload = new TreeMap<>();
+        lastEvaluatedKey.forEach((name, value) -> payload.put(name, encodeValue(name, value)));
+        String body = ENCODER.encodeToString(JsonUtils.toJson(payload).getBytes(StandardCharsets.UTF_8));
+        return body + "." + ENCODER.encodeToString(sign(scope, body));
+    }
+
+    public static Map<String, AttributeValue> decode(String cursor, String scope) {
+        if (cursor == null) {
+            return null;
+        }
+        int separator = cursor.indexOf('.');
+        if (separator <= 0 || separator == cursor.length() - 1) {
+            throw invalid();
+        }
+        String body = cursor.substring(0, separator);
+        try {
+            byte[] signature = DECODER.decode(cursor.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, sign(scope, body))) {
+                throw invalid();
+            }
+            Map<?, ?> payload = JsonUtils.fromJson(new String(DECODER.decode(body), StandardCharsets.UTF_8), Map.class);
+            Map<String, AttributeValue> key = new HashMap<>();
+            payload.forEach((name, value) -> key.put(String.valueOf(name), decodeValue(String.valueOf(value))));
+            return key;
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static String encodeValue(String name, AttributeValue value) {
+        if (value.s() != null) {
+            return "S:" + value.s();
+        }
+        if (value.n() != null) {
+            return "N:" + value.n();
+        }
+        throw new IllegalStateException("Unsupported key attribute type for '" + name + "'");
+    }
+
+    private static AttributeValue decodeValue(String encoded) {
+        if (encoded.startsWith("S:")) {
+            return AttributeValue.builder().s(encoded.substring(2)).build();
+        }
+        if (encoded.startsWith("N:")) {
+            return AttributeValue.builder().n(encoded.substring(2)).build();
+        }
+        throw invalid();
+    }
+
+    private static byte[] sign(String scope, String body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(signingKey());
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) '\n');
+            return mac.doFinal(body.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not sign pagination cursor", e);
+        }
+    }
+
+    private static SecretKeySpec signingKey() throws Exception {
+        SecretKeySpec key = signingKey;
+        if (key == null) {
+            key = resolveKey();
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private static SecretKeySpec resolveKey() throws Exception {
+        String raw = System.getenv(KEY_ENV);
+        if (raw != null && !raw.isBlank()) {
+            return new SecretKeySpec(Base64.getDecoder().decode(raw), HMAC);
+        }
+        String fallback = System.getenv(FALLBACK_KEY_ENV);
+        if (fallback == null || fallback.isBlank()) {
+            throw new IllegalStateException(KEY_ENV + " is not configured");
+        }
+        Mac mac = Mac.getInstance(HMAC);
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(fallback), HMAC));
+        return new SecretKeySpec(mac.doFinal("pagination-cursor".getBytes(StandardCharsets.UTF_8)), HMAC);
+    }
+
+    private static IllegalArgumentException invalid() {
+        return new IllegalArgumentException("Query parameter 'cursor' is invalid");
+    }
+}
@@ -0,0 +1,29 @@
+package hackthon.fiap.luis.common;
+
+import java.util.Map;
+
+public record PageRequest(int limit, String cursor) {
+    public static final int DEFAULT_LIMIT = 25;
+    public static final int MAX_LIMIT = 100;
+
+    public static PageRequest from(Map<String, Object> event) {
+        return new PageRequest(
+                parseLimit(HttpEventUtils.queryParam(event, "limit")),
+                HttpEventUtils.queryParam(event, "cursor")
+        );
+    }
+
+    private static int parseLimit(String raw) {
+        if (raw == null) {
+            return DEFAULT_LIMIT;
+        }
+        try {
+            int parsed = Integer.parseInt(raw);
+            if (parsed >= 1 && parsed <= MAX_LIMIT) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Query parameter 'limit' must be between 1 and " + MAX_LIMIT);
+    }
+}
@@ -0,0 +1,53 @@
+package hackthon.fiap.luis.common;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class PlaintextCache {
+    private static final PlaintextCache SHARED = new PlaintextCache(
+            EnvConfig.intValue("CLIENT_PLAINTEXT_CACHE_MAX_ENTRIES", 512),
+            EnvConfig.intValue("CLIENT_PLAINTEXT_CACHE_TTL_SECONDS", 60) * 1000L
+    );
+
+    private final BoundedTtlCache<String, char[]> values;
+    private final AtomicLong decryptions = new AtomicLong();
+    private final IntervalGate statsLog = IntervalGate.statsLog();
+
+    private PlaintextCache(int maxEntries, long ttlMillis) {
+        this.values = new BoundedTtlCache<>(maxEntries, ttlMillis, value -> Arrays.fill(value, '\0'));
+    }
+
+    public static PlaintextCache shared() {
+        return SHARED;
+    }
+
+    public String decrypt(String ciphertext) {
+        synchronized (values) {
+            char[] cached = values.get(ciphertext);
+            if (cached != null) {
+                return new String(cached);
+            }
+        }
+        char[] plaintext = SensitiveDataProtector.decryptChars(ciphertext);
+        decryptions.incrementAndGet();
+        String value = new String(plaintext);
+        if (values.enabled()) {
+            values.put(ciphertext, plaintext);
+        } else {
+            Arrays.fill(plaintext, '\0');
+        }
+        return value;
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    public String stats() {
+        return values.stats() + " decryptions=" + decryptions.get();
+    }
+
+    public String periodicStats() {
+        return statsLog.tryPass() ? "Client plaintext cache: " + stats() : null;
+    }
+}
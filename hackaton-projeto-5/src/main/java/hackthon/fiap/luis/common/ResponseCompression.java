@@ -0,0 +1,108 @@
+package hackthon.fiap.luis.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+public final class ResponseCompression {
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private static final int MIN_BYTES = EnvConfig.intValue("RESPONSE_COMPRESSION_MIN_BYTES", 1024);
+
+    private ResponseCompression() {
+    }
+
+    public static String negotiate(Map<String, Object> event) {
+        String accept = HttpEventUtils.header(event, "Accept-Encoding");
+        if (accept == null) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double any = 0;
+        for (String part : accept.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(tokens);
+            switch (coding) {
+                case GZIP -> gzip = quality;
+                case DEFLATE -> deflate = quality;
+                case "*" -> any = quality;
+                default -> {
+                }
+            }
+        }
+        gzip = gzip < 0 ? any : gzip;
+        deflate = deflate < 0 ? any : deflate;
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        return deflate > 0 ? DEFLATE : null;
+    }
+
+    public static Map<String, Object> apply(Map<String, Object> event, Map<String, Object> response) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> headers = (Map<String, String>) response.get("headers");
+        String body = String.valueOf(response.get("body"));
+        String encoding = negotiate(event);
+        byte[] raw = body.getBytes(StandardCharsets.UTF_8);
+        if (encoding == null || raw.length < MIN_BYTES) {
+            return Map.of(
+                    "statusCode", response.get("statusCode"),
+                    "headers", headers(headers, null),
+                    "body", body
+            );
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 4 + 64);
+        try (OutputStream output = wrap(compressed, encoding)) {
+            output.write(raw);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not compress response", e);
+        }
+        return Map.of(
+                "statusCode", response.get("statusCode"),
+                "headers", headers(headers, encoding),
+                "body", Base64.getEncoder().encodeToString(compressed.toByteArray()),
+                "isBase64Encoded", true
+        );
+    }
+
+    public static Map<String, String> headers(Map<String, String> headers, String encoding) {
+        Map<String, String> merged = new HashMap<>(headers);
+        merged.put("Vary", "Accept-Encoding");
+        if (encoding != null) {
+            merged.put("Content-Encoding", encoding);
+            String etag = merged.get("ETag");
+            if (etag != null) {
+                merged.put("ETag", EntityTags.weak(etag));
+            }
+        }
+        return merged;
+    }
+
+    public static DeflaterOutputStream wrap(OutputStream output, String encoding) throws IOException {
+        return GZIP.equals(encoding) ? new GZIPOutputStream(output, 8192) : new DeflaterOutputStream(output);
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String parameter = tokens[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
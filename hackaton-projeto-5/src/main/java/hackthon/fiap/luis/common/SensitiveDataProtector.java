@@ -1,79 +1,211 @@
 package hackthon.fiap.luis.common;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
 import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
-import java.security.MessageDigest;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public final class SensitiveDataProtector {
-    private static final String KEY_ENV = "CLIENT_DATA_ENCRYPTION_KEY";
-    private static final String PREFIX = "enc:v1";
+    private static final String PREFIX = "enc:v";
     private static final int IV_BYTES = 12;
     private static final int TAG_BITS = 128;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
     private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(SensitiveDataProtector::newCipher);
+    private static final ThreadLocal<Mac> BLIND_INDEX = ThreadLocal.withInitial(SensitiveDataProtector::newBlindIndexMac);
+
+    private static volatile KeyRing keyRing;
 
     private SensitiveDataProtector() {
     }
 
     public static String encrypt(String plaintext) {
-        if (plaintext == null || plaintext.isBlank()) {
-            throw new IllegalArgumentException("Sensitive value is required");
-        }
-        try {
-            byte[] iv = new byte[IV_BYTES];
-            RANDOM.nextBytes(iv);
+        requireValue(plaintext, "Sensitive value is required");
+        byte[] iv = new byte[IV_BYTES];
+        RANDOM.nextBytes(iv);
+        return seal(keyRing(), iv, 0, plaintext);
+    }
 
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            cipher.init(Cipher.ENCRYPT_MODE, key(), new GCMParameterSpec(TAG_BITS, iv));
-            byte[] encrypted = cipher.doFinal(plaintext.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    public static String decrypt(String ciphertext) {
+        byte[] plaintext = decryptBytes(ciphertext);
+        try {
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
+        }
+    }
 
-            return PREFIX + ":" +
-                    Base64.getEncoder().encodeToString(iv) + ":" +
-                    Base64.getEncoder().encodeToString(encrypted);
-        } catch (Exception e) {
-            throw new IllegalStateException("Could not encrypt sensitive data", e);
+    public static char[] decryptChars(String ciphertext) {
+        byte[] plaintext = decryptBytes(ciphertext);
+        CharBuffer decoded = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(plaintext));
+        try {
+            char[] chars = new char[decoded.remaining()];
+            decoded.get(chars);
+            return chars;
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
+            Arrays.fill(decoded.array(), '\0');
         }
     }
 
-    public static String sha256(String value) {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("Value is required");
+    private static byte[] decryptBytes(String ciphertext) {
+        if (ciphertext == null || !ciphertext.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Value is not an encrypted field");
         }
+        int versionEnd = ciphertext.indexOf(':', PREFIX.length());
+        int ivEnd = versionEnd < 0 ? -1 : ciphertext.indexOf(':', versionEnd + 1);
+        if (ivEnd < 0) {
+            throw new IllegalArgumentException("Malformed encrypted field");
+        }
+        int version;
+        byte[] iv;
+        byte[] encrypted;
         try {
-            byte[] hash = MessageDigest.getInstance("SHA-256")
-                    .digest(value.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-            StringBuilder out = new StringBuilder(hash.length * 2);
-            for (byte b : hash) {
-                out.append(String.format("%02x", b));
-            }
-            return out.toString();
-        } catch (Exception e) {
-            throw new IllegalStateException("Could not hash value", e);
+            version = Integer.parseInt(ciphertext.substring(PREFIX.length(), versionEnd));
+            iv = DECODER.decode(ciphertext.substring(versionEnd + 1, ivEnd));
+            encrypted = DECODER.decode(ciphertext.substring(ivEnd + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed encrypted field", e);
         }
+        try {
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, keyRing().key(version), new GCMParameterSpec(TAG_BITS, iv));
+            return cipher.doFinal(encrypted);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt sensitive data", e);
+        }
+    }
+
+    public static String blindIndex(String field, String value) {
+        requireValue(value, "Value is required");
+        Mac mac = BLIND_INDEX.get();
+        mac.update(field.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0);
+        return hex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
     }
 
     public static String last4(String value) {
         if (value == null) {
             return "";
         }
-        String clean = value.replaceAll("\\D", "");
-        if (clean.length() <= 4) {
-            return clean;
+        char[] digits = new char[4];
+        int found = 0;
+        for (int i = value.length() - 1; i >= 0 && found < 4; i--) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits[3 - found++] = c;
+            }
+        }
+        return new String(digits, 4 - found, found);
+    }
+
+    public static Batch batch() {
+        return new Batch();
+    }
+
+    public static final class Batch {
+        private final List<String> encryptNames = new ArrayList<>(4);
+        private final List<String> encryptValues = new ArrayList<>(4);
+        private final Map<String, String> sealed = new LinkedHashMap<>();
+
+        private Batch() {
+        }
+
+        public Batch encrypt(String attribute, String plaintext) {
+            requireValue(plaintext, "Sensitive value is required");
+            encryptNames.add(attribute);
+            encryptValues.add(plaintext);
+            return this;
+        }
+
+        public Batch blindIndex(String attribute, String field, String value) {
+            sealed.put(attribute, SensitiveDataProtector.blindIndex(field, value));
+            return this;
+        }
+
+        public Map<String, String> seal() {
+            if (!encryptNames.isEmpty()) {
+                KeyRing ring = keyRing();
+                byte[] ivs = new byte[IV_BYTES * encryptNames.size()];
+                RANDOM.nextBytes(ivs);
+                for (int i = 0; i < encryptNames.size(); i++) {
+                    sealed.put(encryptNames.get(i), SensitiveDataProtector.seal(ring, ivs, i * IV_BYTES, encryptValues.get(i)));
+                }
+            }
+            return sealed;
         }
-        return clean.substring(clean.length() - 4);
     }
 
-    private static SecretKeySpec key() {
-        String raw = System.getenv(KEY_ENV);
-        if (raw == null || raw.isBlank()) {
-            throw new IllegalStateException(KEY_ENV + " is not configured");
+    private static String seal(KeyRing ring, byte[] ivs, int offset, String plaintext) {
+        try {
+            GCMParameterSpec spec = new GCMParameterSpec(TAG_BITS, ivs, offset, IV_BYTES);
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, ring.activeKey(), spec);
+            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            return PREFIX + ring.activeVersion() + ":"
+                    + ENCODER.encodeToString(spec.getIV()) + ":"
+                    + ENCODER.encodeToString(encrypted);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt sensitive data", e);
         }
-        byte[] decoded = Base64.getDecoder().decode(raw);
-        if (decoded.length != 32) {
-            throw new IllegalStateException(KEY_ENV + " must decode to 32 bytes (AES-256)");
+    }
+
+    private static KeyRing keyRing() {
+        KeyRing ring = keyRing;
+        if (ring == null) {
+            synchronized (SensitiveDataProtector.class) {
+                ring = keyRing;
+                if (ring == null) {
+                    ring = KeyRing.fromEnvironment();
+                    keyRing = ring;
+                }
+            }
+        }
+        return ring;
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            out[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            out[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(out);
+    }
+
+    private static void requireValue(String value, String message) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance("AES/GCM/NoPadding");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/GCM is not available", e);
+        }
+    }
+
+    private static Mac newBlindIndexMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(keyRing().indexKey());
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
         }
-        return new SecretKeySpec(decoded, "AES");
     }
 }
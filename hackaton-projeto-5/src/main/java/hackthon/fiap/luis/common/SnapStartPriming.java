@@ -0,0 +1,93 @@
+package hackthon.fiap.luis.common;
+
+import com.amazonaws.services.lambda.runtime.LambdaRuntime;
+import hackthon.fiap.luis.models.Reservation;
+import hackthon.fiap.luis.models.ReservationCodec;
+import hackthon.fiap.luis.models.Vehicle;
+import hackthon.fiap.luis.models.VehicleCodec;
+import hackthon.fiap.luis.requests.CreateVehicleRequest;
+import hackthon.fiap.luis.requests.StartPurchaseRequest;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class SnapStartPriming implements Resource {
+    private static final SnapStartPriming INSTANCE = new SnapStartPriming();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+    private static final String PRIMING_ID = "snapstart-priming";
+
+    private SnapStartPriming() {
+    }
+
+    public static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            Core.getGlobalContext().register(INSTANCE);
+        }
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        run("json", SnapStartPriming::primeJson);
+        run("crypto", SnapStartPriming::primeCrypto);
+        run("dynamodb", SnapStartPriming::primeDynamoDb);
+        run("stepfunctions", AwsClientFactory::stepFunctions);
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        run("credentials", () -> AwsClientFactory.credentials().resolveCredentials());
+    }
+
+    private static void primeJson() {
+        Vehicle vehicle = Vehicle.available(PRIMING_ID, "brand", "model", 2024, "color", 1.0);
+        Reservation reservation = Reservation.reserved(PRIMING_ID, PRIMING_ID, PRIMING_ID, PRIMING_ID, 15, Instant.now());
+        JsonUtils.toJson(Map.of("vehicle", vehicle, "reservation", reservation));
+        JsonUtils.readBody(Map.of("body", JsonUtils.toJson(vehicle)), CreateVehicleRequest.class);
+        JsonUtils.readBody(Map.of("body", JsonUtils.toJson(Map.of("vehicleId", PRIMING_ID, "clientId", PRIMING_ID))),
+                StartPurchaseRequest.class);
+        JsonUtils.fromJson(JsonUtils.toJson(vehicle), Vehicle.class);
+        VehicleCodec.fromItem(VehicleCodec.toItem(vehicle));
+        ReservationCodec.fromItem(ReservationCodec.toItem(reservation));
+    }
+
+    private static void primeCrypto() throws Exception {
+        Cipher.getInstance("AES/GCM/NoPadding");
+        Mac.getInstance("HmacSHA256");
+        if (EnvConfig.value("CLIENT_DATA_ENCRYPTION_KEY") != null) {
+            SensitiveDataProtector.decrypt(SensitiveDataProtector.encrypt(PRIMING_ID));
+        }
+    }
+
+    private static void primeDynamoDb() {
+        String table = EnvConfig.value("VEHICLES_TABLE");
+        if (table == null) {
+            AwsClientFactory.dynamoDb();
+            return;
+        }
+        AwsClientFactory.dynamoDb().getItem(GetItemRequest.builder()
+                .tableName(table)
+                .key(Map.of("vehicleId", AttributeValue.builder().s(PRIMING_ID).build()))
+                .build());
+    }
+
+    private static void run(String step, PrimingStep action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            LambdaRuntime.getLogger().log("SnapStart priming step '" + step + "' failed: " + e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface PrimingStep {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,108 @@
+package hackthon.fiap.luis.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+
+public final class StreamingApiResponse {
+    private StreamingApiResponse() {
+    }
+
+    public static void write(OutputStream output, Map<String, Object> response) throws IOException {
+        JsonUtils.write(output, response);
+    }
+
+    public static void writeListing(
+            OutputStream output,
+            ListingPage page,
+            Map<String, String> headers,
+            String encoding
+    ) throws IOException {
+        write(output, 200, headers, encoding, body -> {
+            body.writeStartObject();
+            body.writeArrayFieldStart("items");
+            for (Map<String, AttributeValue> item : page.items()) {
+                AttributeValueJson.writeItem(body, item);
+            }
+            body.writeEndArray();
+            body.writeNumberField("count", page.items().size());
+            body.writeStringField("nextCursor", page.nextCursor());
+            body.writeEndObject();
+        });
+    }
+
+    public static void write(
+            OutputStream output,
+            int statusCode,
+            Map<String, String> headers,
+            String encoding,
+            BodyWriter bodyWriter
+    ) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 8192);
+        JsonGenerator envelope = JsonUtils.factory().createGenerator(writer);
+        envelope.writeStartObject();
+        envelope.writeNumberField("statusCode", statusCode);
+        envelope.writeObjectFieldStart("headers");
+        envelope.writeStringField("Content-Type", "application/json");
+        envelope.writeStringField("Access-Control-Allow-Origin", "*");
+        for (Map.Entry<String, String> header : ResponseCompression.headers(headers, encoding).entrySet()) {
+            envelope.writeStringField(header.getKey(), header.getValue());
+        }
+        envelope.writeEndObject();
+        envelope.writeBooleanField("isBase64Encoded", encoding != null);
+        envelope.writeFieldName("body");
+        envelope.writeRawValue("\"");
+        envelope.flush();
+
+        if (encoding == null) {
+            JsonGenerator body = JsonUtils.factory().createGenerator(new JsonStringEscapingWriter(writer));
+            body.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            bodyWriter.write(body);
+            body.close();
+        } else {
+            OutputStream base64 = Base64.getEncoder().wrap(new AsciiOutputStream(writer));
+            DeflaterOutputStream compressed = ResponseCompression.wrap(base64, encoding);
+            JsonGenerator body = JsonUtils.factory().createGenerator(compressed);
+            body.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            bodyWriter.write(body);
+            body.close();
+            compressed.finish();
+            base64.close();
+        }
+
+        envelope.writeRaw('"');
+        envelope.writeEndObject();
+        envelope.close();
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(JsonGenerator body) throws IOException;
+    }
+
+    private static final class AsciiOutputStream extends OutputStream {
+        private final Writer target;
+
+        private AsciiOutputStream(Writer target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package hackthon.fiap.luis.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import hackthon.fiap.luis.common.AttributeValueJson;
+import hackthon.fiap.luis.common.JsonUtils;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class CsvRowWriter implements RowWriter {
+    private final Writer writer;
+    private final List<String> columns;
+    private boolean headerWritten;
+
+    CsvRowWriter(OutputStream output, List<String> columns) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.columns = columns;
+    }
+
+    @Override
+    public void write(List<Map<String, AttributeValue>> page) throws IOException {
+        if (!headerWritten) {
+            writeRow(columns);
+            headerWritten = true;
+        }
+        List<String> row = new ArrayList<>(columns.size());
+        for (Map<String, AttributeValue> item : page) {
+            row.clear();
+            for (String column : columns) {
+                row.add(cell(item.get(column)));
+            }
+            writeRow(row);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeRow(List<String> cells) throws IOException {
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCell(cells.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCell(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String cell(AttributeValue value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+        return switch (value.type()) {
+            case S -> value.s();
+            case N -> value.n();
+            case BOOL -> String.valueOf(value.bool());
+            case NUL -> "";
+            default -> {
+                StringWriter json = new StringWriter();
+                try (JsonGenerator generator = JsonUtils.factory().createGenerator(json)) {
+                    AttributeValueJson.writeValue(generator, value);
+                }
+                yield json.toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package hackthon.fiap.luis.export;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+    NDJSON("ndjson"),
+    CSV("csv");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ExportFormat parse(String raw) {
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Option '--format' must be ndjson or csv");
+        }
+    }
+}
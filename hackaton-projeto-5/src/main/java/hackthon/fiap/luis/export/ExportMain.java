@@ -0,0 +1,27 @@
+package hackthon.fiap.luis.export;
+
+import hackthon.fiap.luis.common.AwsClientFactory;
+
+public final class ExportMain {
+    private static final String USAGE = "Usage: ExportMain --table <name> [--output <file.gz>] [--format ndjson|csv]"
+            + " [--segments <n>] [--workers <n>] [--page-size <n>] [--queue-pages <n>] [--status <STATUS>]"
+            + " [--columns a,b,c|vehicle|sale|reservation (required for csv)]";
+
+    private ExportMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ExportOptions options;
+        try {
+            options = ExportOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ExportReport report = new ParallelScanExporter(AwsClientFactory.dynamoDb(), options).run();
+        System.out.println(report);
+    }
+}
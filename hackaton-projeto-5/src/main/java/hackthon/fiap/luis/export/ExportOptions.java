@@ -0,0 +1,92 @@
+package hackthon.fiap.luis.export;
+
+import hackthon.fiap.luis.models.Reservation;
+import hackthon.fiap.luis.models.Sale;
+import hackthon.fiap.luis.models.Vehicle;
+
+import java.lang.reflect.RecordComponent;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public record ExportOptions(
+        String table,
+        Path output,
+        ExportFormat format,
+        int segments,
+        int workers,
+        int pageSize,
+        int queuePages,
+        String status,
+        List<String> columns
+) {
+    private static final int DEFAULT_SEGMENTS = 8;
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    private static final int MAX_SEGMENTS = 1_000_000;
+    private static final Map<String, Class<? extends Record>> COLUMN_PRESETS = new LinkedHashMap<>();
+
+    static {
+        COLUMN_PRESETS.put("vehicle", Vehicle.class);
+        COLUMN_PRESETS.put("sale", Sale.class);
+        COLUMN_PRESETS.put("reservation", Reservation.class);
+    }
+
+    public static ExportOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if (!name.startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected '--option value' pairs, got '" + name + "'");
+            }
+            values.put(name.substring(2), args[++i]);
+        }
+
+        String table = values.get("table");
+        if (table == null || table.isBlank()) {
+            throw new IllegalArgumentException("Option '--table' is required");
+        }
+        ExportFormat format = values.containsKey("format") ? ExportFormat.parse(values.get("format")) : ExportFormat.NDJSON;
+        Path output = values.containsKey("output")
+                ? Path.of(values.get("output"))
+                : Path.of(table + "." + format.extension() + ".gz");
+        int segments = positiveInt(values, "segments", DEFAULT_SEGMENTS, MAX_SEGMENTS);
+        int workers = positiveInt(values, "workers", segments, segments);
+        int pageSize = positiveInt(values, "page-size", DEFAULT_PAGE_SIZE, Integer.MAX_VALUE);
+        int queuePages = positiveInt(values, "queue-pages", workers * 2, Integer.MAX_VALUE);
+        List<String> columns = values.containsKey("columns") ? columns(values.get("columns")) : List.of();
+        if (format == ExportFormat.CSV && columns.isEmpty()) {
+            throw new IllegalArgumentException("Option '--columns' is required for CSV: a,b,c or one of "
+                    + String.join(", ", COLUMN_PRESETS.keySet()));
+        }
+
+        return new ExportOptions(table, output, format, segments, workers, pageSize, queuePages, values.get("status"), columns);
+    }
+
+    private static List<String> columns(String raw) {
+        Class<? extends Record> preset = COLUMN_PRESETS.get(raw.trim().toLowerCase(Locale.ROOT));
+        if (preset != null) {
+            return Arrays.stream(preset.getRecordComponents()).map(RecordComponent::getName).toList();
+        }
+        return Arrays.stream(raw.split(",")).map(String::trim).filter(column -> !column.isEmpty()).toList();
+    }
+
+    private static int positiveInt(Map<String, String> values, String key, int defaultValue, int max) {
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(raw);
+            if (value < 1 || value > max) {
+                throw new IllegalArgumentException("Option '--" + key + "' must be between 1 and " + max);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option '--" + key + "' must be an integer");
+        }
+    }
+}
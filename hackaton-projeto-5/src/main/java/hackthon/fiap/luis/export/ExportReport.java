@@ -0,0 +1,25 @@
+package hackthon.fiap.luis.export;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public record ExportReport(
+        String table,
+        Path output,
+        int segments,
+        long rows,
+        long pages,
+        double consumedCapacityUnits,
+        long elapsedMillis
+) {
+    public double rowsPerSecond() {
+        return elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "table=%s output=%s segments=%d rows=%d pages=%d elapsedMs=%d rowsPerSecond=%.1f consumedCapacityUnits=%.1f",
+                table, output, segments, rows, pages, elapsedMillis, rowsPerSecond(), consumedCapacityUnits);
+    }
+}
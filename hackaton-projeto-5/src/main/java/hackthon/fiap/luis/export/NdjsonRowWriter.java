@@ -0,0 +1,33 @@
+package hackthon.fiap.luis.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import hackthon.fiap.luis.common.AttributeValueJson;
+import hackthon.fiap.luis.common.JsonUtils;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+final class NdjsonRowWriter implements RowWriter {
+    private final JsonGenerator generator;
+
+    NdjsonRowWriter(OutputStream output) throws IOException {
+        this.generator = JsonUtils.factory().createGenerator(output);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(List<Map<String, AttributeValue>> page) throws IOException {
+        for (Map<String, AttributeValue> item : page) {
+            AttributeValueJson.writeItem(generator, item);
+            generator.writeRaw('\n');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
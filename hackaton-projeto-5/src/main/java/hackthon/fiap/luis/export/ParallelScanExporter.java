@@ -0,0 +1,142 @@
+package hackthon.fiap.luis.export;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.zip.GZIPOutputStream;
+
+public final class ParallelScanExporter {
+    private static final List<Map<String, AttributeValue>> END = new ArrayList<>(0);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final ExportOptions options;
+
+    public ParallelScanExporter(DynamoDbClient dynamoDbClient, ExportOptions options) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.options = options;
+    }
+
+    public ExportReport run() throws IOException, InterruptedException {
+        BlockingQueue<List<Map<String, AttributeValue>>> pages = new ArrayBlockingQueue<>(options.queuePages());
+        AtomicInteger pendingSegments = new AtomicInteger(options.segments());
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        DoubleAdder consumedCapacity = new DoubleAdder();
+        ExecutorService workers = Executors.newFixedThreadPool(options.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "export-scan");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long started = System.nanoTime();
+        long rows = 0;
+        long pageCount = 0;
+        try {
+            for (int segment = 0; segment < options.segments(); segment++) {
+                int current = segment;
+                workers.execute(() -> {
+                    try {
+                        scanSegment(current, pages, consumedCapacity);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, new IllegalStateException("Segment " + current + " failed: " + e.getMessage(), e));
+                    } finally {
+                        if (pendingSegments.decrementAndGet() == 0) {
+                            try {
+                                pages.put(END);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    }
+                });
+            }
+
+            try (RowWriter writer = openWriter()) {
+                while (true) {
+                    List<Map<String, AttributeValue>> page = pages.poll(1, TimeUnit.SECONDS);
+                    if (failure.get() != null) {
+                        throw failure.get();
+                    }
+                    if (page == END) {
+                        break;
+                    }
+                    if (page != null) {
+                        writer.write(page);
+                        rows += page.size();
+                        pageCount++;
+                    }
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        return new ExportReport(options.table(), options.output(), options.segments(), rows, pageCount,
+                consumedCapacity.sum(), elapsedMillis);
+    }
+
+    private void scanSegment(int segment,
+                             BlockingQueue<List<Map<String, AttributeValue>>> pages,
+                             DoubleAdder consumedCapacity) throws InterruptedException {
+        Map<String, AttributeValue> startKey = null;
+        do {
+            ScanRequest.Builder request = ScanRequest.builder()
+                    .tableName(options.table())
+                    .segment(segment)
+                    .totalSegments(options.segments())
+                    .limit(options.pageSize())
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL);
+            if (options.status() != null) {
+                request.filterExpression("#status = :status")
+                        .expressionAttributeNames(Map.of("#status", "status"))
+                        .expressionAttributeValues(Map.of(":status", AttributeValue.builder().s(options.status()).build()));
+            }
+            if (startKey != null) {
+                request.exclusiveStartKey(startKey);
+            }
+
+            ScanResponse response = dynamoDbClient.scan(request.build());
+            if (response.consumedCapacity() != null && response.consumedCapacity().capacityUnits() != null) {
+                consumedCapacity.add(response.consumedCapacity().capacityUnits());
+            }
+            if (!response.items().isEmpty()) {
+                pages.put(response.items());
+            }
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (startKey != null);
+    }
+
+    private RowWriter openWriter() throws IOException {
+        OutputStream output = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(options.output()), BUFFER_SIZE), BUFFER_SIZE);
+        return switch (options.format()) {
+            case NDJSON -> new NdjsonRowWriter(output);
+            case CSV -> new CsvRowWriter(output, options.columns());
+        };
+    }
+}
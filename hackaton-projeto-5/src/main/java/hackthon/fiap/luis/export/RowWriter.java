@@ -0,0 +1,12 @@
+package hackthon.fiap.luis.export;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+interface RowWriter extends Closeable {
+    void write(List<Map<String, AttributeValue>> page) throws IOException;
+}
@@ -0,0 +1,53 @@
+package hackthon.fiap.luis.handlers;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.BatchItemLoader;
+import hackthon.fiap.luis.common.IdsRequest;
+import hackthon.fiap.luis.common.ResponseCompression;
+import hackthon.fiap.luis.models.Sale;
+import hackthon.fiap.luis.models.SaleCodec;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BatchGetSalesHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
+    private final BatchItemLoader loader = new BatchItemLoader(dynamoDbClient, System.getenv("SALES_TABLE"), "saleId");
+
+    @Override
+    public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+        try {
+            List<String> ids = IdsRequest.from(event).ids();
+            Map<String, Map<String, AttributeValue>> found = loader.load(ids);
+
+            List<Sale> sales = new ArrayList<>(found.size());
+            List<String> missing = new ArrayList<>();
+            for (String id : ids) {
+                Map<String, AttributeValue> item = found.get(id);
+                if (item == null) {
+                    missing.add(id);
+                } else {
+                    sales.add(SaleCodec.fromItem(item));
+                }
+            }
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("items", sales);
+            payload.put("count", sales.size());
+            payload.put("missing", missing);
+            return ResponseCompression.apply(event, ApiResponse.ok(payload));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Batch get sales error: " + e.getMessage());
+            return ApiResponse.serverError("Could not load sales");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package hackthon.fiap.luis.handlers;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import hackthon.fiap.luis.bulk.BulkImportReport;
+import hackthon.fiap.luis.bulk.BulkRowResult;
+import hackthon.fiap.luis.bulk.BulkVehicleWriter;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.CatalogVersion;
+import hackthon.fiap.luis.common.EnvConfig;
+import hackthon.fiap.luis.common.JsonUtils;
+import hackthon.fiap.luis.models.Vehicle;
+import hackthon.fiap.luis.models.VehicleCodec;
+import hackthon.fiap.luis.requests.CreateVehicleRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public class BulkImportVehiclesHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
+    private final String vehiclesTable = System.getenv("VEHICLES_TABLE");
+    private final int maxRows = EnvConfig.intValue("BULK_IMPORT_MAX_ROWS", 10_000);
+    private final int concurrency = EnvConfig.intValue("BULK_IMPORT_CONCURRENCY", 8);
+
+    @Override
+    public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+        try {
+            String body = JsonUtils.bodyText(event);
+            if (body.isBlank()) {
+                return ApiResponse.badRequest("Request body must be a JSON array or NDJSON");
+            }
+            long startedAt = System.nanoTime();
+            BulkVehicleWriter writer = new BulkVehicleWriter(dynamoDbClient, vehiclesTable, concurrency);
+            List<BulkRowResult> results = new ArrayList<>();
+            try {
+                submitRows(body, writer, results);
+            } finally {
+                results.addAll(writer.finish());
+                List<Map<String, AttributeValue>> written = writer.written();
+                if (!written.isEmpty()) {
+                    CatalogVersion.bump(dynamoDbClient, context,
+                            written.stream().map(item -> item.get("vehicleId").s()).toList());
+                }
+            }
+
+            results.sort(Comparator.comparingInt(BulkRowResult::row));
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            return ApiResponse.ok(BulkImportReport.of(results, writer.batches(), writer.retries(), elapsedMillis));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Bulk import vehicles error: " + e.getMessage());
+            return ApiResponse.serverError("Could not import vehicles");
+        }
+    }
+
+    private void submitRows(String body, BulkVehicleWriter writer, List<BulkRowResult> results) throws IOException {
+        List<BulkVehicleWriter.Row> chunk = new ArrayList<>(BulkVehicleWriter.BATCH_SIZE);
+        try (MappingIterator<CreateVehicleRequest> rows = JsonUtils.readRows(body, CreateVehicleRequest.class)) {
+            int index = 0;
+            while (true) {
+                CreateVehicleRequest row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    if (index >= maxRows) {
+                        results.add(BulkRowResult.invalid(index, "Import is limited to " + maxRows + " rows"));
+                        break;
+                    }
+                    row = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    row = null;
+                    results.add(BulkRowResult.invalid(index, JsonUtils.bindingError(e).getMessage()));
+                } catch (Exception e) {
+                    results.add(BulkRowResult.invalid(index, "Malformed JSON, import stopped at this row"));
+                    break;
+                }
+                if (row != null) {
+                    try {
+                        Vehicle vehicle = row.toVehicle();
+                        chunk.add(new BulkVehicleWriter.Row(index, vehicle.vehicleId(), VehicleCodec.toItem(vehicle)));
+                    } catch (RuntimeException e) {
+                        results.add(BulkRowResult.invalid(index, e.getMessage()));
+                    }
+                }
+                if (chunk.size() == BulkVehicleWriter.BATCH_SIZE) {
+                    writer.submit(chunk);
+                    chunk = new ArrayList<>(BulkVehicleWriter.BATCH_SIZE);
+                }
+                index++;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writer.submit(chunk);
+        }
+    }
+}
@@ -6,33 +6,52 @@ import hackthon.fiap.luis.common.ApiResponse;
 import hackthon.fiap.luis.common.AwsClientFactory;
 import hackthon.fiap.luis.common.JsonUtils;
 import hackthon.fiap.luis.models.Client;
+import hackthon.fiap.luis.requests.CreateClientRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 public class CreateClientHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private static final String[] UNIQUE_FIELDS = {"email", "documentNumber"};
+
     private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
     private final String clientsTable = resolveClientsTable();
 
     @Override
     public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
         try {
-            Map<String, Object> body = JsonUtils.parseBody(event);
+            CreateClientRequest request = JsonUtils.readBody(event, CreateClientRequest.class);
             Client client = Client.newActive(
                     UUID.randomUUID().toString(),
-                    JsonUtils.requiredString(body, "fullName"),
-                    JsonUtils.requiredString(body, "email"),
-                    JsonUtils.requiredString(body, "documentNumber"),
-                    JsonUtils.requiredString(body, "paymentKey"),
-                    JsonUtils.requiredString(body, "address")
+                    request.fullName(),
+                    request.email(),
+                    request.documentNumber(),
+                    request.paymentKey(),
+                    request.address()
             );
 
-            dynamoDbClient.putItem(PutItemRequest.builder()
-                    .tableName(clientsTable)
-                    .item(client.toItem())
-                    .build());
+            Map<String, AttributeValue> item = client.toItem();
+            List<TransactWriteItem> writes = new ArrayList<>();
+            writes.add(putIfAbsent(item));
+            Client.uniquenessMarkers(item).forEach(marker -> writes.add(putIfAbsent(marker)));
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder().transactItems(writes).build());
+            } catch (TransactionCanceledException e) {
+                String duplicate = duplicateField(e);
+                if (duplicate == null) {
+                    throw e;
+                }
+                return ApiResponse.conflict("A client with this " + duplicate + " already exists");
+            }
 
             return ApiResponse.created(client.toSummary());
         } catch (IllegalArgumentException e) {
@@ -43,6 +62,25 @@ public class CreateClientHandler implements RequestHandler<Map<String, Object>,
         }
     }
 
+    private TransactWriteItem putIfAbsent(Map<String, AttributeValue> item) {
+        return TransactWriteItem.builder().put(Put.builder()
+                .tableName(clientsTable)
+                .item(item)
+                .conditionExpression("attribute_not_exists(clientId)")
+                .build()).build();
+    }
+
+    private String duplicateField(TransactionCanceledException e) {
+        List<CancellationReason> reasons = e.cancellationReasons();
+        for (int i = 0; i < UNIQUE_FIELDS.length && i + 1 < reasons.size(); i++) {
+            String code = reasons.get(i + 1).code();
+            if ("ConditionalCheckFailed".equals(code) || "TransactionConflict".equals(code)) {
+                return UNIQUE_FIELDS[i];
+            }
+        }
+        return null;
+    }
+
     private String resolveClientsTable() {
         String clients = System.getenv("CLIENTS_TABLE");
         if (clients != null && !clients.isBlank()) {
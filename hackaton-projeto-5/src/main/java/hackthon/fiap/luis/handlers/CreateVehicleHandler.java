@@ -4,13 +4,18 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.ApiResponse;
 import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.CatalogVersion;
+import hackthon.fiap.luis.common.EntityTags;
 import hackthon.fiap.luis.common.JsonUtils;
 import hackthon.fiap.luis.models.Vehicle;
+import hackthon.fiap.luis.models.VehicleCodec;
+import hackthon.fiap.luis.requests.CreateVehicleRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 public class CreateVehicleHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
     private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
@@ -19,25 +24,20 @@ public class CreateVehicleHandler implements RequestHandler<Map<String, Object>,
     @Override
     public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
         try {
-            Map<String, Object> body = JsonUtils.parseBody(event);
-            Vehicle vehicle = Vehicle.available(
-                    UUID.randomUUID().toString(),
-                    JsonUtils.requiredString(body, "brand"),
-                    JsonUtils.requiredString(body, "model"),
-                    JsonUtils.requiredInt(body, "year"),
-                    JsonUtils.requiredString(body, "color"),
-                    JsonUtils.requiredDouble(body, "price")
-            );
+            Vehicle vehicle = JsonUtils.readBody(event, CreateVehicleRequest.class).toVehicle();
 
+            Map<String, AttributeValue> item = VehicleCodec.toItem(vehicle);
             dynamoDbClient.putItem(PutItemRequest.builder()
                     .tableName(vehiclesTable)
-                    .item(vehicle.toItem())
+                    .item(item)
                     .build());
+            CatalogVersion.bump(dynamoDbClient, context, List.of(vehicle.vehicleId()));
 
             return ApiResponse.created(Map.of(
                     "vehicleId", vehicle.vehicleId(),
-                    "status", "AVAILABLE"
-            ));
+                    "status", "AVAILABLE",
+                    "version", vehicle.version()
+            ), EntityTags.header(vehicle.version()));
         } catch (IllegalArgumentException e) {
             return ApiResponse.badRequest(e.getMessage());
         } catch (Exception e) {
@@ -0,0 +1,111 @@
+package hackthon.fiap.luis.handlers;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.HttpEventUtils;
+import hackthon.fiap.luis.common.PlaintextCache;
+import hackthon.fiap.luis.models.Client;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+public class GetClientHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private static final PlaintextCache CACHE = PlaintextCache.shared();
+
+    private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
+    private final String clientsTable = resolveClientsTable();
+
+    @Override
+    public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+        try {
+            String clientId = HttpEventUtils.pathParam(event, "clientId");
+            if (clientId == null) {
+                return ApiResponse.badRequest("Path parameter 'clientId' is required");
+            }
+            Set<String> fields = requestedFields(HttpEventUtils.queryParam(event, "fields"));
+
+            Map<String, AttributeValue> item = Client.isUniquenessMarker(clientId) ? null : load(clientId, fields);
+            if (item == null || item.isEmpty()) {
+                return ApiResponse.notFound("Client not found");
+            }
+
+            Map<String, Object> client = Client.summaryOf(item);
+            for (String field : fields) {
+                AttributeValue encrypted = item.get(Client.ENCRYPTED_ATTRIBUTES.get(field));
+                if (encrypted != null && encrypted.s() != null) {
+                    client.put(field, CACHE.decrypt(encrypted.s()));
+                }
+            }
+            String stats = CACHE.periodicStats();
+            if (stats != null) {
+                context.getLogger().log(stats);
+            }
+            return ApiResponse.ok(client);
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Get client error: " + e.getMessage());
+            return ApiResponse.serverError("Could not load client");
+        }
+    }
+
+    private Map<String, AttributeValue> load(String clientId, Set<String> fields) {
+        Map<String, String> names = new HashMap<>();
+        StringJoiner projection = new StringJoiner(", ");
+        for (String attribute : Client.SUMMARY_ATTRIBUTES) {
+            names.put("#" + attribute, attribute);
+            projection.add("#" + attribute);
+        }
+        for (String field : fields) {
+            String attribute = Client.ENCRYPTED_ATTRIBUTES.get(field);
+            names.put("#" + attribute, attribute);
+            projection.add("#" + attribute);
+        }
+        return dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(clientsTable)
+                .key(Map.of("clientId", AttributeValue.builder().s(clientId).build()))
+                .projectionExpression(projection.toString())
+                .expressionAttributeNames(names)
+                .build()).item();
+    }
+
+    private Set<String> requestedFields(String raw) {
+        Set<String> fields = new LinkedHashSet<>();
+        if (raw == null) {
+            return fields;
+        }
+        for (String part : raw.split(",")) {
+            String field = part.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!Client.ENCRYPTED_ATTRIBUTES.containsKey(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "'; allowed: "
+                        + String.join(", ", new TreeSet<>(Client.ENCRYPTED_ATTRIBUTES.keySet())));
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private String resolveClientsTable() {
+        String clients = System.getenv("CLIENTS_TABLE");
+        if (clients != null && !clients.isBlank()) {
+            return clients;
+        }
+        String buyers = System.getenv("BUYERS_TABLE");
+        if (buyers != null && !buyers.isBlank()) {
+            return buyers;
+        }
+        throw new IllegalStateException("CLIENTS_TABLE is not configured");
+    }
+}
@@ -4,8 +4,10 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.ApiResponse;
 import hackthon.fiap.luis.common.AwsClientFactory;
-import hackthon.fiap.luis.common.DynamoItemMapper;
+import hackthon.fiap.luis.common.EntityTags;
 import hackthon.fiap.luis.common.HttpEventUtils;
+import hackthon.fiap.luis.common.ResponseCompression;
+import hackthon.fiap.luis.models.ReservationCodec;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
@@ -32,7 +34,12 @@ public class GetReservationHandler implements RequestHandler<Map<String, Object>
             if (item == null || item.isEmpty()) {
                 return ApiResponse.notFound("Reservation not found");
             }
-            return ApiResponse.ok(DynamoItemMapper.fromItem(item));
+            String etag = EntityTags.ofItem(item);
+            Map<String, String> headers = etag == null ? Map.of() : Map.of("ETag", etag);
+            if (EntityTags.notModified(event, etag)) {
+                return ResponseCompression.apply(event, ApiResponse.notModified(headers));
+            }
+            return ResponseCompression.apply(event, ApiResponse.ok(ReservationCodec.fromItem(item), headers));
         } catch (Exception e) {
             context.getLogger().log("Get reservation error: " + e.getMessage());
             return ApiResponse.serverError("Could not load reservation");
@@ -0,0 +1,164 @@
+package hackthon.fiap.luis.handlers;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.HttpEventUtils;
+import hackthon.fiap.luis.streams.SalesAggregates;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GetSalesReportHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private static final int DEFAULT_WINDOW_DAYS = 30;
+    private static final int MAX_WINDOW_DAYS = 366;
+
+    private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
+    private final String aggregatesTable = System.getenv("SALES_AGGREGATES_TABLE");
+
+    @Override
+    public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+        try {
+            LocalDate to = parseDate(event, "to", LocalDate.now(ZoneOffset.UTC));
+            LocalDate from = parseDate(event, "from", to.minusDays(DEFAULT_WINDOW_DAYS - 1L));
+            if (from.isAfter(to)) {
+                return ApiResponse.badRequest("Query parameter 'from' must not be after 'to'");
+            }
+            if (ChronoUnit.DAYS.between(from, to) >= MAX_WINDOW_DAYS) {
+                return ApiResponse.badRequest("Report window must not exceed " + MAX_WINDOW_DAYS + " days");
+            }
+
+            List<Map<String, AttributeValue>> days = queryAll(SalesAggregates.TYPE_DAY, from.toString(), to.toString());
+            List<Map<String, AttributeValue>> brands = queryAll(SalesAggregates.TYPE_BRAND, null, null);
+            Map<String, AttributeValue> total = dynamoDbClient.getItem(GetItemRequest.builder()
+                    .tableName(aggregatesTable)
+                    .key(Map.of(
+                            "aggregateType", AttributeValue.builder().s(SalesAggregates.TYPE_TOTAL).build(),
+                            "aggregateKey", AttributeValue.builder().s(SalesAggregates.TOTAL_KEY).build()))
+                    .build()).item();
+
+            Totals window = new Totals();
+            List<Map<String, Object>> dayEntries = new ArrayList<>(days.size());
+            for (Map<String, AttributeValue> day : days) {
+                window.add(day);
+                Map<String, Object> entry = summary(Totals.of(day));
+                entry.put("date", day.get("aggregateKey").s());
+                dayEntries.add(entry);
+            }
+            List<Map<String, Object>> brandEntries = new ArrayList<>(brands.size());
+            for (Map<String, AttributeValue> brand : brands) {
+                Map<String, Object> entry = summary(Totals.of(brand));
+                entry.put("brand", brand.get("aggregateKey").s());
+                brandEntries.add(entry);
+            }
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("from", from.toString());
+            payload.put("to", to.toString());
+            payload.put("window", summary(window));
+            payload.put("days", dayEntries);
+            payload.put("brands", brandEntries);
+            payload.put("total", summary(Totals.of(total)));
+            return ApiResponse.ok(payload);
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Sales report error: " + e.getMessage());
+            return ApiResponse.serverError("Could not load sales report");
+        }
+    }
+
+    private List<Map<String, AttributeValue>> queryAll(String type, String fromKey, String toKey) {
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":type", AttributeValue.builder().s(type).build());
+        String keyCondition = "aggregateType = :type";
+        if (fromKey != null) {
+            keyCondition += " AND aggregateKey BETWEEN :from AND :to";
+            values.put(":from", AttributeValue.builder().s(fromKey).build());
+            values.put(":to", AttributeValue.builder().s(toKey).build());
+        }
+
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryRequest.Builder query = QueryRequest.builder()
+                    .tableName(aggregatesTable)
+                    .keyConditionExpression(keyCondition)
+                    .expressionAttributeValues(values);
+            if (startKey != null) {
+                query.exclusiveStartKey(startKey);
+            }
+            QueryResponse response = dynamoDbClient.query(query.build());
+            items.addAll(response.items());
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (startKey != null);
+        return items;
+    }
+
+    private static LocalDate parseDate(Map<String, Object> event, String key, LocalDate defaultValue) {
+        String raw = HttpEventUtils.queryParam(event, key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(raw);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Query parameter '" + key + "' must be a date (yyyy-MM-dd)");
+        }
+    }
+
+    private static Map<String, Object> summary(Totals totals) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("units", totals.units);
+        summary.put("revenue", totals.revenue);
+        summary.put("averagePaymentSeconds", totals.paidCount == 0 ? null : totals.paymentSeconds / totals.paidCount);
+        summary.put("averageTicket", totals.units == 0
+                ? null
+                : totals.revenue.divide(BigDecimal.valueOf(totals.units), 2, RoundingMode.HALF_UP));
+        return summary;
+    }
+
+    private static final class Totals {
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private long paymentSeconds;
+        private long paidCount;
+
+        static Totals of(Map<String, AttributeValue> item) {
+            Totals totals = new Totals();
+            if (item != null) {
+                totals.add(item);
+            }
+            return totals;
+        }
+
+        void add(Map<String, AttributeValue> item) {
+            units += number(item, "units").longValue();
+            revenue = revenue.add(number(item, "revenue"));
+            paymentSeconds += number(item, "paymentSeconds").longValue();
+            paidCount += number(item, "paidCount").longValue();
+        }
+
+        private static BigDecimal number(Map<String, AttributeValue> item, String key) {
+            AttributeValue value = item.get(key);
+            return value == null || value.n() == null ? BigDecimal.ZERO : new BigDecimal(value.n());
+        }
+    }
+}
@@ -4,39 +4,122 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.ApiResponse;
 import hackthon.fiap.luis.common.AwsClientFactory;
-import hackthon.fiap.luis.common.DynamoItemMapper;
+import hackthon.fiap.luis.common.CatalogVersion;
+import hackthon.fiap.luis.common.EntityTags;
+import hackthon.fiap.luis.common.ListingCache;
+import hackthon.fiap.luis.common.ListingPage;
+import hackthon.fiap.luis.common.PageCursor;
+import hackthon.fiap.luis.common.PageRequest;
+import hackthon.fiap.luis.common.ResponseCompression;
+import hackthon.fiap.luis.models.Vehicle;
+import hackthon.fiap.luis.models.VehicleCodec;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class ListSoldVehiclesHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private static final ListingCache CACHE = ListingCache.shared();
+
     private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
     private final String vehiclesTable = System.getenv("VEHICLES_TABLE");
-    private final String statusPriceIndex = System.getenv("STATUS_PRICE_INDEX");
+    private final String soldTimelineIndex = System.getenv("SOLD_TIMELINE_INDEX");
 
     @Override
     public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
         try {
-            List<Map<String, Object>> vehicles = dynamoDbClient.query(QueryRequest.builder()
-                            .tableName(vehiclesTable)
-                            .indexName(statusPriceIndex)
-                            .keyConditionExpression("#status = :status")
-                            .expressionAttributeNames(Map.of("#status", "status"))
-                            .expressionAttributeValues(Map.of(":status", AttributeValue.builder().s("SOLD").build()))
-                            .scanIndexForward(true)
-                            .build())
-                    .items()
+            ListingResult result = loadPage(event, context);
+            if (result.notModified()) {
+                return ResponseCompression.apply(event, ApiResponse.notModified(result.headers()));
+            }
+            ListingPage listing = result.page();
+            List<Vehicle> vehicles = listing.items()
                     .stream()
-                    .map(DynamoItemMapper::fromItem)
+                    .map(VehicleCodec::fromItem)
                     .toList();
 
-            return ApiResponse.ok(Map.of("items", vehicles, "count", vehicles.size()));
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("items", vehicles);
+            payload.put("count", vehicles.size());
+            payload.put("nextCursor", listing.nextCursor());
+            return ResponseCompression.apply(event, ApiResponse.ok(payload, result.headers()));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
         } catch (Exception e) {
             context.getLogger().log("List sold error: " + e.getMessage());
             return ApiResponse.serverError("Could not list sold vehicles");
         }
     }
+
+    ListingResult loadPage(Map<String, Object> event, Context context) {
+        PageRequest page = PageRequest.from(event);
+        SoldWindow window = SoldWindow.from(event);
+        String cacheKey = window.scope() + "|limit=" + page.limit() + "|cursor=" + page.cursor();
+
+        long catalogVersion = CatalogVersion.current(dynamoDbClient);
+        String etag = CatalogVersion.tracked() ? EntityTags.strong("sold", Long.toString(catalogVersion), cacheKey) : null;
+        if (EntityTags.notModified(event, etag)) {
+            return ListingResult.notModified(etag);
+        }
+        ListingPage listing = CACHE.get(cacheKey, catalogVersion);
+        if (listing != null) {
+            return new ListingResult(listing, true, etag);
+        }
+        listing = queryPage(page, window);
+        CACHE.put(cacheKey, catalogVersion, listing);
+        String stats = CACHE.periodicStats();
+        if (stats != null) {
+            context.getLogger().log(stats);
+        }
+        return new ListingResult(listing, false, etag);
+    }
+
+    private ListingPage queryPage(PageRequest page, SoldWindow window) {
+        String scope = window.scope();
+        List<String> months = window.months();
+        Map<String, AttributeValue> startKey = PageCursor.decode(page.cursor(), scope);
+        int monthIndex = 0;
+        if (startKey != null) {
+            AttributeValue cursorMonth = startKey.get("soldMonth");
+            monthIndex = cursorMonth == null ? -1 : months.indexOf(cursorMonth.s());
+            if (monthIndex < 0) {
+                throw new IllegalArgumentException("Query parameter 'cursor' is invalid");
+            }
+            if (!startKey.containsKey("vehicleId")) {
+                startKey = null;
+            }
+        }
+
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        for (; monthIndex < months.size(); monthIndex++) {
+            String month = months.get(monthIndex);
+            QueryRequest.Builder query = QueryRequest.builder()
+                    .tableName(vehiclesTable)
+                    .indexName(soldTimelineIndex)
+                    .limit(page.limit() - items.size());
+            window.applyTo(query, month);
+            if (startKey != null) {
+                query.exclusiveStartKey(startKey);
+                startKey = null;
+            }
+
+            QueryResponse response = dynamoDbClient.query(query.build());
+            items.addAll(response.items());
+            if (response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()) {
+                return new ListingPage(items, PageCursor.encode(response.lastEvaluatedKey(), scope));
+            }
+            if (items.size() >= page.limit()) {
+                String nextCursor = monthIndex + 1 < months.size()
+                        ? PageCursor.encode(Map.of("soldMonth", AttributeValue.builder().s(months.get(monthIndex + 1)).build()), scope)
+                        : null;
+                return new ListingPage(items, nextCursor);
+            }
+        }
+        return new ListingPage(items, null);
+    }
 }
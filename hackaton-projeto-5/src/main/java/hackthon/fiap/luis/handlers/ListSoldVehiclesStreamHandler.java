@@ -0,0 +1,39 @@
+package hackthon.fiap.luis.handlers;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.JsonUtils;
+import hackthon.fiap.luis.common.ResponseCompression;
+import hackthon.fiap.luis.common.StreamingApiResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+public class ListSoldVehiclesStreamHandler implements RequestStreamHandler {
+    private final ListSoldVehiclesHandler delegate = new ListSoldVehiclesHandler();
+
+    @Override
+    public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+        Map<String, Object> event;
+        ListingResult result;
+        try {
+            event = JsonUtils.readEvent(input);
+            result = delegate.loadPage(event, context);
+        } catch (IllegalArgumentException e) {
+            StreamingApiResponse.write(output, ApiResponse.badRequest(e.getMessage()));
+            return;
+        } catch (Exception e) {
+            context.getLogger().log("List sold error: " + e.getMessage());
+            StreamingApiResponse.write(output, ApiResponse.serverError("Could not list sold vehicles"));
+            return;
+        }
+        if (result.notModified()) {
+            StreamingApiResponse.write(output, ResponseCompression.apply(event, ApiResponse.notModified(result.headers())));
+            return;
+        }
+        StreamingApiResponse.writeListing(output, result.page(), result.headers(), ResponseCompression.negotiate(event));
+    }
+}
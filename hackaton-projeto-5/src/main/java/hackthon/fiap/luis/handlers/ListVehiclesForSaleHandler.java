@@ -4,39 +4,119 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.ApiResponse;
 import hackthon.fiap.luis.common.AwsClientFactory;
-import hackthon.fiap.luis.common.DynamoItemMapper;
+import hackthon.fiap.luis.common.CatalogVersion;
+import hackthon.fiap.luis.common.EntityTags;
+import hackthon.fiap.luis.common.EnvConfig;
+import hackthon.fiap.luis.common.ListingCache;
+import hackthon.fiap.luis.common.ListingPage;
+import hackthon.fiap.luis.common.PageCursor;
+import hackthon.fiap.luis.common.PageRequest;
+import hackthon.fiap.luis.common.ResponseCompression;
+import hackthon.fiap.luis.models.Vehicle;
+import hackthon.fiap.luis.models.VehicleCodec;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class ListVehiclesForSaleHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private static final String STATUS = "AVAILABLE";
+    private static final ListingCache CACHE = ListingCache.shared();
+
     private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
     private final String vehiclesTable = System.getenv("VEHICLES_TABLE");
     private final String statusPriceIndex = System.getenv("STATUS_PRICE_INDEX");
+    private final int filteredScanBatch = EnvConfig.intValue("LISTING_FILTER_SCAN_BATCH", 100);
 
     @Override
     public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
         try {
-            List<Map<String, Object>> vehicles = dynamoDbClient.query(QueryRequest.builder()
-                            .tableName(vehiclesTable)
-                            .indexName(statusPriceIndex)
-                            .keyConditionExpression("#status = :status")
-                            .expressionAttributeNames(Map.of("#status", "status"))
-                            .expressionAttributeValues(Map.of(":status", AttributeValue.builder().s("AVAILABLE").build()))
-                            .scanIndexForward(true)
-                            .build())
-                    .items()
+            ListingResult result = loadPage(event, context);
+            if (result.notModified()) {
+                return ResponseCompression.apply(event, ApiResponse.notModified(result.headers()));
+            }
+            ListingPage listing = result.page();
+            List<Vehicle> vehicles = listing.items()
                     .stream()
-                    .map(DynamoItemMapper::fromItem)
+                    .map(VehicleCodec::fromItem)
                     .toList();
 
-            return ApiResponse.ok(Map.of("items", vehicles, "count", vehicles.size()));
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("items", vehicles);
+            payload.put("count", vehicles.size());
+            payload.put("nextCursor", listing.nextCursor());
+            return ResponseCompression.apply(event, ApiResponse.ok(payload, result.headers()));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
         } catch (Exception e) {
             context.getLogger().log("List for sale error: " + e.getMessage());
             return ApiResponse.serverError("Could not list vehicles");
         }
     }
+
+    ListingResult loadPage(Map<String, Object> event, Context context) {
+        PageRequest page = PageRequest.from(event);
+        VehicleListFilter filter = VehicleListFilter.from(event);
+        String cursorScope = filter.scope(STATUS);
+        String cacheKey = cursorScope + "|limit=" + page.limit() + "|cursor=" + page.cursor();
+
+        long catalogVersion = CatalogVersion.current(dynamoDbClient);
+        String etag = CatalogVersion.tracked() ? EntityTags.strong(STATUS, Long.toString(catalogVersion), cacheKey) : null;
+        if (EntityTags.notModified(event, etag)) {
+            return ListingResult.notModified(etag);
+        }
+        ListingPage listing = CACHE.get(cacheKey, catalogVersion);
+        if (listing != null) {
+            return new ListingResult(listing, true, etag);
+        }
+        listing = queryPage(page, filter, cursorScope);
+        CACHE.put(cacheKey, catalogVersion, listing);
+        String stats = CACHE.periodicStats();
+        if (stats != null) {
+            context.getLogger().log(stats);
+        }
+        return new ListingResult(listing, false, etag);
+    }
+
+    private ListingPage queryPage(PageRequest page, VehicleListFilter filter, String cursorScope) {
+        int evaluateLimit = filter.filtered() ? Math.max(page.limit(), filteredScanBatch) : page.limit();
+        Map<String, AttributeValue> startKey = PageCursor.decode(page.cursor(), cursorScope);
+        List<Map<String, AttributeValue>> items = new ArrayList<>(page.limit());
+        while (true) {
+            QueryRequest.Builder query = QueryRequest.builder()
+                    .tableName(vehiclesTable)
+                    .indexName(statusPriceIndex)
+                    .limit(evaluateLimit);
+            filter.applyTo(query, STATUS);
+            if (startKey != null) {
+                query.exclusiveStartKey(startKey);
+            }
+
+            QueryResponse response = dynamoDbClient.query(query.build());
+            int remaining = page.limit() - items.size();
+            if (response.items().size() > remaining) {
+                items.addAll(response.items().subList(0, remaining));
+                return new ListingPage(items, PageCursor.encode(indexKey(items.get(items.size() - 1)), cursorScope));
+            }
+            items.addAll(response.items());
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+            if (startKey == null || items.size() >= page.limit()) {
+                return new ListingPage(items, PageCursor.encode(startKey, cursorScope));
+            }
+        }
+    }
+
+    private static Map<String, AttributeValue> indexKey(Map<String, AttributeValue> item) {
+        return Map.of(
+                "vehicleId", item.get("vehicleId"),
+                "status", item.get("status"),
+                "price", item.get("price"));
+    }
 }
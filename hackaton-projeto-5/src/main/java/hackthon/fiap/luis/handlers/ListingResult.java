@@ -0,0 +1,27 @@
+package hackthon.fiap.luis.handlers;
+
+import hackthon.fiap.luis.common.ListingPage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+record ListingResult(ListingPage page, boolean cacheHit, String etag) {
+    static ListingResult notModified(String etag) {
+        return new ListingResult(null, false, etag);
+    }
+
+    boolean notModified() {
+        return page == null;
+    }
+
+    Map<String, String> headers() {
+        Map<String, String> headers = new HashMap<>();
+        if (page != null) {
+            headers.put("X-Cache", cacheHit ? "HIT" : "MISS");
+        }
+        if (etag != null) {
+            headers.put("ETag", etag);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,67 @@
+package hackthon.fiap.luis.handlers;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.HttpEventUtils;
+import hackthon.fiap.luis.models.Client;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.util.List;
+import java.util.Map;
+
+public class LookupClientHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
+    private final String clientsTable = resolveClientsTable();
+    private final String emailIndex = System.getenv("CLIENT_EMAIL_INDEX");
+    private final String documentIndex = System.getenv("CLIENT_DOCUMENT_INDEX");
+
+    @Override
+    public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+        try {
+            String email = HttpEventUtils.queryParam(event, "email");
+            String documentNumber = HttpEventUtils.queryParam(event, "documentNumber");
+            if ((email == null) == (documentNumber == null)) {
+                return ApiResponse.badRequest("Provide exactly one of 'email' or 'documentNumber'");
+            }
+
+            String indexName = email != null ? emailIndex : documentIndex;
+            String attribute = email != null ? Client.EMAIL_INDEX_ATTRIBUTE : Client.DOCUMENT_INDEX_ATTRIBUTE;
+            String blindIndex = email != null ? Client.emailBlindIndex(email) : Client.documentBlindIndex(documentNumber);
+
+            List<Map<String, AttributeValue>> items = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(clientsTable)
+                    .indexName(indexName)
+                    .keyConditionExpression("#index = :value")
+                    .expressionAttributeNames(Map.of("#index", attribute))
+                    .expressionAttributeValues(Map.of(":value", AttributeValue.builder().s(blindIndex).build()))
+                    .limit(1)
+                    .build()).items();
+
+            if (items.isEmpty()) {
+                return ApiResponse.notFound("Client not found");
+            }
+            return ApiResponse.ok(Client.summaryOf(items.get(0)));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Lookup client error: " + e.getMessage());
+            return ApiResponse.serverError("Could not look up client");
+        }
+    }
+
+    private String resolveClientsTable() {
+        String clients = System.getenv("CLIENTS_TABLE");
+        if (clients != null && !clients.isBlank()) {
+            return clients;
+        }
+        String buyers = System.getenv("BUYERS_TABLE");
+        if (buyers != null && !buyers.isBlank()) {
+            return buyers;
+        }
+        throw new IllegalStateException("CLIENTS_TABLE is not configured");
+    }
+}
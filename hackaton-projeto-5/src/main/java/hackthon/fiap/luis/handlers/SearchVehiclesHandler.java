@@ -0,0 +1,55 @@
+package hackthon.fiap.luis.handlers;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.ResponseCompression;
+import hackthon.fiap.luis.models.Vehicle;
+import hackthon.fiap.luis.models.VehicleCodec;
+import hackthon.fiap.luis.search.VehicleSearchIndex;
+import hackthon.fiap.luis.search.VehicleSearchQuery;
+import hackthon.fiap.luis.search.VehicleSearchResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SearchVehiclesHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
+    private final String vehiclesTable = System.getenv("VEHICLES_TABLE");
+    private final String statusPriceIndex = System.getenv("STATUS_PRICE_INDEX");
+
+    @Override
+    public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+        try {
+            VehicleSearchQuery query = VehicleSearchQuery.from(event);
+            VehicleSearchIndex index = VehicleSearchIndex.shared();
+            index.refreshIfStale(dynamoDbClient, vehiclesTable, statusPriceIndex);
+
+            long started = System.nanoTime();
+            VehicleSearchResult result = index.search(query);
+            long tookMicros = (System.nanoTime() - started) / 1_000;
+
+            List<Vehicle> vehicles = result.items()
+                    .stream()
+                    .map(VehicleCodec::fromItem)
+                    .toList();
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("items", vehicles);
+            payload.put("count", vehicles.size());
+            payload.put("total", result.total());
+            payload.put("facets", result.facets());
+            payload.put("tookMicros", tookMicros);
+            return ResponseCompression.apply(event,
+                    ApiResponse.ok(payload, Map.of("X-Search-Index-Version", String.valueOf(index.version()))));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.badRequest(e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Search vehicles error: " + e.getMessage());
+            return ApiResponse.serverError("Could not search vehicles");
+        }
+    }
+}
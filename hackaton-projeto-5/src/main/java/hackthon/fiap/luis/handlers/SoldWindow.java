@@ -0,0 +1,89 @@
+package hackthon.fiap.luis.handlers;
+
+import hackthon.fiap.luis.common.HttpEventUtils;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public record SoldWindow(
+        LocalDate from,
+        LocalDate to,
+        boolean ascending
+) {
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int MAX_MONTHS = 60;
+
+    public static SoldWindow from(Map<String, Object> event) {
+        LocalDate to = optionalDate(event, "to");
+        if (to == null) {
+            to = LocalDate.now(ZoneOffset.UTC);
+        }
+        LocalDate from = optionalDate(event, "from");
+        if (from == null) {
+            from = YearMonth.from(to).minusMonths(DEFAULT_MONTHS - 1L).atDay(1);
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Query parameter 'from' must not be after 'to'");
+        }
+        if (ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(to)) >= MAX_MONTHS) {
+            throw new IllegalArgumentException("Sold window must not exceed " + MAX_MONTHS + " months");
+        }
+        return new SoldWindow(from, to, parseSort(HttpEventUtils.queryParam(event, "sort")));
+    }
+
+    public List<String> months() {
+        List<String> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            months.add(month.toString());
+        }
+        if (!ascending) {
+            Collections.reverse(months);
+        }
+        return months;
+    }
+
+    public void applyTo(QueryRequest.Builder query, String month) {
+        query.keyConditionExpression("#soldMonth = :month AND #soldAt BETWEEN :from AND :to")
+                .expressionAttributeNames(Map.of("#soldMonth", "soldMonth", "#soldAt", "soldAt"))
+                .expressionAttributeValues(Map.of(
+                        ":month", AttributeValue.builder().s(month).build(),
+                        ":from", AttributeValue.builder().s(from.toString()).build(),
+                        ":to", AttributeValue.builder().s(to.plusDays(1).toString()).build()))
+                .scanIndexForward(ascending);
+    }
+
+    public String scope() {
+        return "vehicles:SOLD|from=" + from + "|to=" + to + "|sort=" + (ascending ? "asc" : "desc");
+    }
+
+    private static LocalDate optionalDate(Map<String, Object> event, String key) {
+        String raw = HttpEventUtils.queryParam(event, key);
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(raw);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Query parameter '" + key + "' must be a date (yyyy-MM-dd)");
+        }
+    }
+
+    private static boolean parseSort(String raw) {
+        if (raw == null || raw.equalsIgnoreCase("desc")) {
+            return false;
+        }
+        if (raw.equalsIgnoreCase("asc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Query parameter 'sort' must be asc or desc");
+    }
+}
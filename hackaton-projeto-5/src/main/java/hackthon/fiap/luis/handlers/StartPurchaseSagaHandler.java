@@ -5,6 +5,7 @@ import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.ApiResponse;
 import hackthon.fiap.luis.common.AwsClientFactory;
 import hackthon.fiap.luis.common.JsonUtils;
+import hackthon.fiap.luis.requests.StartPurchaseRequest;
 import software.amazon.awssdk.services.sfn.SfnClient;
 import software.amazon.awssdk.services.sfn.model.StartExecutionRequest;
 
@@ -20,31 +21,20 @@ public class StartPurchaseSagaHandler implements RequestHandler<Map<String, Obje
     @Override
     public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
         try {
-            Map<String, Object> body = JsonUtils.parseBody(event);
-            String vehicleId = JsonUtils.requiredString(body, "vehicleId");
-            String clientId = JsonUtils.optionalString(body, "clientId");
-            if (clientId == null) {
-                clientId = JsonUtils.optionalString(body, "buyerId");
-            }
-            if (clientId == null) {
-                throw new IllegalArgumentException("Field 'clientId' is required");
-            }
-            boolean customerCancelled = JsonUtils.optionalBoolean(body, "customerCancelled", false);
-            int reservationTtlMinutes = readInt(body.get("reservationTtlMinutes"), 15);
-            int maxPaymentChecks = readInt(body.get("maxPaymentChecks"), 6);
+            StartPurchaseRequest request = JsonUtils.readBody(event, StartPurchaseRequest.class);
 
             String saleId = UUID.randomUUID().toString();
             Map<String, Object> input = new HashMap<>();
             input.put("saleId", saleId);
-            input.put("vehicleId", vehicleId);
-            input.put("clientId", clientId);
-            input.put("customerCancelled", customerCancelled);
-            input.put("reservationTtlMinutes", reservationTtlMinutes);
-            input.put("maxPaymentChecks", maxPaymentChecks);
+            input.put("vehicleId", request.vehicleId());
+            input.put("clientId", request.clientId());
+            input.put("customerCancelled", request.customerCancelled());
+            input.put("reservationTtlMinutes", request.reservationTtlMinutes());
+            input.put("maxPaymentChecks", request.maxPaymentChecks());
             input.put("paymentCheckAttempt", 0);
             input.put("requestedAt", Instant.now().toString());
-            if (body.containsKey("paymentApproved")) {
-                input.put("paymentApproved", JsonUtils.optionalBoolean(body, "paymentApproved", false));
+            if (request.paymentApproved() != null) {
+                input.put("paymentApproved", request.paymentApproved());
             }
 
             String executionArn = sfnClient.startExecution(StartExecutionRequest.builder()
@@ -66,19 +56,4 @@ public class StartPurchaseSagaHandler implements RequestHandler<Map<String, Obje
             return ApiResponse.serverError("Could not start purchase flow");
         }
     }
-
-    private int readInt(Object raw, int defaultValue) {
-        if (raw == null) {
-            return defaultValue;
-        }
-        try {
-            int parsed = Integer.parseInt(String.valueOf(raw));
-            if (parsed < 1) {
-                return defaultValue;
-            }
-            return parsed;
-        } catch (NumberFormatException e) {
-            return defaultValue;
-        }
-    }
 }
@@ -4,18 +4,27 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.ApiResponse;
 import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.CatalogVersion;
+import hackthon.fiap.luis.common.EntityTags;
 import hackthon.fiap.luis.common.HttpEventUtils;
 import hackthon.fiap.luis.common.JsonUtils;
+import hackthon.fiap.luis.requests.UpdateVehicleRequest;
+import hackthon.fiap.luis.updates.StatusValues;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
 import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class UpdateVehicleHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private static final AttributeValue ONE = AttributeValue.builder().n("1").build();
+
     private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
     private final String vehiclesTable = System.getenv("VEHICLES_TABLE");
 
@@ -27,40 +36,52 @@ public class UpdateVehicleHandler implements RequestHandler<Map<String, Object>,
                 return ApiResponse.badRequest("Path parameter 'vehicleId' is required");
             }
 
-            Map<String, AttributeValue> existing = dynamoDbClient.getItem(GetItemRequest.builder()
-                    .tableName(vehiclesTable)
-                    .key(Map.of("vehicleId", AttributeValue.builder().s(vehicleId).build()))
-                    .build()).item();
-            if (existing == null || existing.isEmpty()) {
-                return ApiResponse.notFound("Vehicle not found");
-            }
-
-            String status = existing.get("status").s();
-            if ("SOLD".equals(status)) {
-                return ApiResponse.conflict("Sold vehicles cannot be edited");
-            }
-
-            Map<String, Object> body = JsonUtils.parseBody(event);
+            Long expectedVersion = EntityTags.expectedVersion(event);
+            UpdateVehicleRequest request = JsonUtils.readBody(event, UpdateVehicleRequest.class);
             StringBuilder expression = new StringBuilder("SET updatedAt = :updatedAt");
             Map<String, String> names = new HashMap<>();
             Map<String, AttributeValue> values = new HashMap<>();
             values.put(":updatedAt", AttributeValue.builder().s(Instant.now().toString()).build());
 
-            addStringField(body, "brand", expression, names, values);
-            addStringField(body, "model", expression, names, values);
-            addStringField(body, "color", expression, names, values);
-            addNumberField(body, "year", expression, names, values, true);
-            addNumberField(body, "price", expression, names, values, false);
+            addField("brand", string(request.brand()), expression, names, values);
+            addField("model", string(request.model()), expression, names, values);
+            addField("color", string(request.color()), expression, names, values);
+            addField("year", number(request.year()), expression, names, values);
+            addField("price", number(request.price()), expression, names, values);
+            expression.append(" ADD #version :one");
 
-            dynamoDbClient.updateItem(UpdateItemRequest.builder()
-                    .tableName(vehiclesTable)
-                    .key(Map.of("vehicleId", AttributeValue.builder().s(vehicleId).build()))
-                    .updateExpression(expression.toString())
-                    .expressionAttributeNames(names)
-                    .expressionAttributeValues(values)
-                    .build());
+            String condition = "attribute_exists(vehicleId) AND #status <> :sold";
+            names.put("#status", "status");
+            names.put("#version", "version");
+            values.put(":sold", StatusValues.SOLD);
+            values.put(":one", ONE);
+            if (expectedVersion != null) {
+                condition += " AND #version = :expectedVersion";
+                values.put(":expectedVersion", AttributeValue.builder().n(String.valueOf(expectedVersion)).build());
+            }
 
-            return ApiResponse.ok(Map.of("vehicleId", vehicleId, "message", "Vehicle updated"));
+            Map<String, AttributeValue> updated;
+            try {
+                updated = dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                        .tableName(vehiclesTable)
+                        .key(Map.of("vehicleId", AttributeValue.builder().s(vehicleId).build()))
+                        .updateExpression(expression.toString())
+                        .conditionExpression(condition)
+                        .expressionAttributeNames(names)
+                        .expressionAttributeValues(values)
+                        .returnValues(ReturnValue.ALL_NEW)
+                        .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                        .build()).attributes();
+            } catch (ConditionalCheckFailedException e) {
+                return rejected(e.item());
+            }
+            CatalogVersion.bump(dynamoDbClient, context, List.of(vehicleId));
+
+            long version = Long.parseLong(updated.get("version").n());
+            return ApiResponse.ok(
+                    Map.of("vehicleId", vehicleId, "version", version, "message", "Vehicle updated"),
+                    EntityTags.header(version)
+            );
         } catch (IllegalArgumentException e) {
             return ApiResponse.badRequest(e.getMessage());
         } catch (Exception e) {
@@ -69,14 +90,27 @@ public class UpdateVehicleHandler implements RequestHandler<Map<String, Object>,
         }
     }
 
-    private void addStringField(
-            Map<String, Object> body,
+    private Map<String, Object> rejected(Map<String, AttributeValue> existing) {
+        if (existing == null || existing.isEmpty()) {
+            return ApiResponse.notFound("Vehicle not found");
+        }
+        if (StatusValues.SOLD.equals(existing.get("status"))) {
+            return ApiResponse.conflict("Sold vehicles cannot be edited");
+        }
+        AttributeValue current = existing.get("version");
+        return ApiResponse.preconditionFailed(
+                "Vehicle was modified by another request",
+                current == null ? Map.of() : Map.of("ETag", EntityTags.of(Long.parseLong(current.n())))
+        );
+    }
+
+    private void addField(
             String field,
+            AttributeValue value,
             StringBuilder expression,
             Map<String, String> names,
             Map<String, AttributeValue> values
     ) {
-        String value = JsonUtils.optionalString(body, field);
         if (value == null) {
             return;
         }
@@ -84,33 +118,14 @@ public class UpdateVehicleHandler implements RequestHandler<Map<String, Object>,
         String valueToken = ":" + field;
         expression.append(", ").append(nameToken).append(" = ").append(valueToken);
         names.put(nameToken, field);
-        values.put(valueToken, AttributeValue.builder().s(value).build());
+        values.put(valueToken, value);
     }
 
-    private void addNumberField(
-            Map<String, Object> body,
-            String field,
-            StringBuilder expression,
-            Map<String, String> names,
-            Map<String, AttributeValue> values,
-            boolean integer
-    ) {
-        Object raw = body.get(field);
-        if (raw == null) {
-            return;
-        }
-        String numberValue;
-        try {
-            numberValue = integer
-                    ? String.valueOf(Integer.parseInt(String.valueOf(raw)))
-                    : String.valueOf(Double.parseDouble(String.valueOf(raw)));
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Field '" + field + "' must be numeric");
-        }
-        String nameToken = "#" + field;
-        String valueToken = ":" + field;
-        expression.append(", ").append(nameToken).append(" = ").append(valueToken);
-        names.put(nameToken, field);
-        values.put(valueToken, AttributeValue.builder().n(numberValue).build());
+    private static AttributeValue string(String value) {
+        return value == null ? null : AttributeValue.builder().s(value).build();
+    }
+
+    private static AttributeValue number(Number value) {
+        return value == null ? null : AttributeValue.builder().n(String.valueOf(value)).build();
     }
 }
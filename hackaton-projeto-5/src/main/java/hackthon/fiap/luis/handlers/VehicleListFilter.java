@@ -0,0 +1,128 @@
+package hackthon.fiap.luis.handlers;
+
+import hackthon.fiap.luis.common.HttpEventUtils;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public record VehicleListFilter(
+        Double minPrice,
+        Double maxPrice,
+        String brand,
+        Integer year,
+        boolean ascending
+) {
+    public static VehicleListFilter from(Map<String, Object> event) {
+        Double minPrice = optionalPrice(event, "minPrice");
+        Double maxPrice = optionalPrice(event, "maxPrice");
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("Query parameter 'minPrice' must not exceed 'maxPrice'");
+        }
+        return new VehicleListFilter(
+                minPrice,
+                maxPrice,
+                HttpEventUtils.queryParam(event, "brand"),
+                optionalYear(event),
+                parseSort(HttpEventUtils.queryParam(event, "sort"))
+        );
+    }
+
+    public void applyTo(QueryRequest.Builder query, String status) {
+        Map<String, String> names = new HashMap<>();
+        Map<String, AttributeValue> values = new HashMap<>();
+        names.put("#status", "status");
+        values.put(":status", AttributeValue.builder().s(status).build());
+
+        StringBuilder keyCondition = new StringBuilder("#status = :status");
+        if (minPrice != null || maxPrice != null) {
+            names.put("#price", "price");
+        }
+        if (minPrice != null && maxPrice != null) {
+            keyCondition.append(" AND #price BETWEEN :minPrice AND :maxPrice");
+            values.put(":minPrice", number(minPrice));
+            values.put(":maxPrice", number(maxPrice));
+        } else if (minPrice != null) {
+            keyCondition.append(" AND #price >= :minPrice");
+            values.put(":minPrice", number(minPrice));
+        } else if (maxPrice != null) {
+            keyCondition.append(" AND #price <= :maxPrice");
+            values.put(":maxPrice", number(maxPrice));
+        }
+
+        StringBuilder filter = new StringBuilder();
+        if (brand != null) {
+            names.put("#brand", "brand");
+            values.put(":brand", AttributeValue.builder().s(brand).build());
+            filter.append("#brand = :brand");
+        }
+        if (year != null) {
+            names.put("#year", "year");
+            values.put(":year", AttributeValue.builder().n(String.valueOf(year)).build());
+            filter.append(filter.isEmpty() ? "" : " AND ").append("#year = :year");
+        }
+
+        query.keyConditionExpression(keyCondition.toString())
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values)
+                .scanIndexForward(ascending);
+        if (!filter.isEmpty()) {
+            query.filterExpression(filter.toString());
+        }
+    }
+
+    public boolean filtered() {
+        return brand != null || year != null;
+    }
+
+    public String scope(String status) {
+        return "vehicles:" + status
+                + "|min=" + (minPrice == null ? "" : minPrice)
+                + "|max=" + (maxPrice == null ? "" : maxPrice)
+                + "|brand=" + (brand == null ? "" : brand)
+                + "|year=" + (year == null ? "" : year)
+                + "|sort=" + (ascending ? "asc" : "desc");
+    }
+
+    private static Double optionalPrice(Map<String, Object> event, String key) {
+        String raw = HttpEventUtils.queryParam(event, key);
+        if (raw == null) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(raw);
+            if (parsed >= 0 && Double.isFinite(parsed)) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Query parameter '" + key + "' must be a non-negative number");
+    }
+
+    private static Integer optionalYear(Map<String, Object> event) {
+        String raw = HttpEventUtils.queryParam(event, "year");
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Query parameter 'year' must be an integer");
+        }
+    }
+
+    private static boolean parseSort(String raw) {
+        if (raw == null || raw.equalsIgnoreCase("asc")) {
+            return true;
+        }
+        if (raw.equalsIgnoreCase("desc")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Query parameter 'sort' must be asc or desc");
+    }
+
+    private static AttributeValue number(double value) {
+        return AttributeValue.builder().n(String.valueOf(value)).build();
+    }
+}
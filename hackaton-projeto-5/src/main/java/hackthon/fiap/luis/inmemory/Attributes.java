@@ -0,0 +1,423 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class Attributes {
+    private Attributes() {
+    }
+
+    static String type(AttributeValue value) {
+        if (value == null || value.type() == null || value.type() == AttributeValue.Type.UNKNOWN_TO_SDK_VERSION) {
+            throw DynamoErrors.validation("Supplied AttributeValue is empty, must contain exactly one of the supported datatypes");
+        }
+        return switch (value.type()) {
+            case S -> "S";
+            case N -> "N";
+            case B -> "B";
+            case BOOL -> "BOOL";
+            case NUL -> "NULL";
+            case M -> "M";
+            case L -> "L";
+            case SS -> "SS";
+            case NS -> "NS";
+            case BS -> "BS";
+            default -> throw DynamoErrors.validation("Unsupported AttributeValue type");
+        };
+    }
+
+    static BigDecimal number(AttributeValue value) {
+        try {
+            return new BigDecimal(value.n());
+        } catch (NumberFormatException e) {
+            throw DynamoErrors.validation("A value provided cannot be converted into a number");
+        }
+    }
+
+    static AttributeValue number(BigDecimal value) {
+        return AttributeValue.builder().n(canonical(value)).build();
+    }
+
+    static boolean equal(AttributeValue left, AttributeValue right) {
+        if (left == null || right == null) {
+            return false;
+        }
+        if (left.type() != right.type()) {
+            return false;
+        }
+        return switch (left.type()) {
+            case S -> left.s().equals(right.s());
+            case N -> number(left).compareTo(number(right)) == 0;
+            case B -> left.b().equals(right.b());
+            case BOOL -> left.bool().equals(right.bool());
+            case NUL -> true;
+            case SS -> new HashSet<>(left.ss()).equals(new HashSet<>(right.ss()));
+            case NS -> numberSet(left.ns()).equals(numberSet(right.ns()));
+            case BS -> new HashSet<>(left.bs()).equals(new HashSet<>(right.bs()));
+            case M -> left.m().size() == right.m().size() && left.m().entrySet().stream()
+                    .allMatch(entry -> equal(entry.getValue(), right.m().get(entry.getKey())));
+            case L -> listEqual(left.l(), right.l());
+            default -> false;
+        };
+    }
+
+    static Integer compare(AttributeValue left, AttributeValue right) {
+        if (left == null || right == null || left.type() != right.type()) {
+            return null;
+        }
+        return switch (left.type()) {
+            case S -> compareStrings(left.s(), right.s());
+            case N -> number(left).compareTo(number(right));
+            case B -> compareBytes(left.b().asByteArrayUnsafe(), right.b().asByteArrayUnsafe());
+            default -> null;
+        };
+    }
+
+    static int compareStrings(String left, String right) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int a = left.codePointAt(i);
+            int b = right.codePointAt(j);
+            if (a != b) {
+                return Integer.compare(a, b);
+            }
+            i += Character.charCount(a);
+            j += Character.charCount(b);
+        }
+        return Integer.compare(left.length() - i, right.length() - j);
+    }
+
+    static int compareBytes(byte[] left, byte[] right) {
+        int shared = Math.min(left.length, right.length);
+        for (int i = 0; i < shared; i++) {
+            int order = Integer.compare(left[i] & 0xff, right[i] & 0xff);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(left.length, right.length);
+    }
+
+    static AttributeValue get(Map<String, AttributeValue> item, Path path) {
+        AttributeValue current = item.get(path.root());
+        for (int i = 1; i < path.elements().size() && current != null; i++) {
+            Object element = path.elements().get(i);
+            if (element instanceof Integer index) {
+                current = current.type() == AttributeValue.Type.L && index < current.l().size() ? current.l().get(index) : null;
+            } else {
+                current = current.type() == AttributeValue.Type.M ? current.m().get(element) : null;
+            }
+        }
+        return current;
+    }
+
+    static void set(Map<String, AttributeValue> item, Path path, AttributeValue value) {
+        if (path.isTopLevel()) {
+            item.put(path.root(), value);
+            return;
+        }
+        AttributeValue parent = get(item, path.parent());
+        Object last = path.last();
+        if (last instanceof Integer index && parent != null && parent.type() == AttributeValue.Type.L) {
+            List<AttributeValue> list = new ArrayList<>(parent.l());
+            if (index < list.size()) {
+                list.set(index, value);
+            } else {
+                list.add(value);
+            }
+            set(item, path.parent(), AttributeValue.builder().l(list).build());
+        } else if (last instanceof String name && parent != null && parent.type() == AttributeValue.Type.M) {
+            Map<String, AttributeValue> map = new LinkedHashMap<>(parent.m());
+            map.put(name, value);
+            set(item, path.parent(), AttributeValue.builder().m(map).build());
+        } else {
+            throw DynamoErrors.validation("The document path provided in the update expression is invalid for update");
+        }
+    }
+
+    static void remove(Map<String, AttributeValue> item, Path path) {
+        if (path.isTopLevel()) {
+            item.remove(path.root());
+            return;
+        }
+        AttributeValue parent = get(item, path.parent());
+        Object last = path.last();
+        if (last instanceof Integer index && parent != null && parent.type() == AttributeValue.Type.L) {
+            if (index < parent.l().size()) {
+                List<AttributeValue> list = new ArrayList<>(parent.l());
+                list.remove((int) index);
+                set(item, path.parent(), AttributeValue.builder().l(list).build());
+            }
+        } else if (last instanceof String name && parent != null && parent.type() == AttributeValue.Type.M) {
+            if (parent.m().containsKey(name)) {
+                Map<String, AttributeValue> map = new LinkedHashMap<>(parent.m());
+                map.remove(name);
+                set(item, path.parent(), AttributeValue.builder().m(map).build());
+            }
+        } else if (parent != null) {
+            throw DynamoErrors.validation("The document path provided in the update expression is invalid for update");
+        }
+    }
+
+    static Map<String, AttributeValue> project(Map<String, AttributeValue> item, List<Path> paths) {
+        Map<String, AttributeValue> projected = new LinkedHashMap<>();
+        for (Path path : paths) {
+            AttributeValue value = get(item, path);
+            if (value == null) {
+                continue;
+            }
+            if (path.isTopLevel()) {
+                projected.put(path.root(), value);
+            } else {
+                projectNested(projected, path, value);
+            }
+        }
+        return projected;
+    }
+
+    static Map<String, AttributeValue> normalizeItem(Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> normalized = new LinkedHashMap<>(item.size() * 2);
+        for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            if (entry.getKey() == null || entry.getKey().isEmpty()) {
+                throw DynamoErrors.validation("Attribute name must not be empty");
+            }
+            normalized.put(entry.getKey(), normalize(entry.getValue()));
+        }
+        return normalized;
+    }
+
+    static AttributeValue normalize(AttributeValue value) {
+        return switch (type(value)) {
+            case "N" -> number(number(value));
+            case "NS" -> {
+                if (value.ns().isEmpty()) {
+                    throw DynamoErrors.validation("An number set may not be empty");
+                }
+                Set<String> numbers = new LinkedHashSet<>();
+                for (String raw : value.ns()) {
+                    numbers.add(canonical(number(AttributeValue.builder().n(raw).build())));
+                }
+                yield AttributeValue.builder().ns(numbers).build();
+            }
+            case "SS" -> {
+                if (value.ss().isEmpty()) {
+                    throw DynamoErrors.validation("An string set may not be empty");
+                }
+                yield AttributeValue.builder().ss(new LinkedHashSet<>(value.ss())).build();
+            }
+            case "BS" -> {
+                if (value.bs().isEmpty()) {
+                    throw DynamoErrors.validation("Binary sets should not be empty");
+                }
+                yield AttributeValue.builder().bs(new LinkedHashSet<>(value.bs())).build();
+            }
+            case "M" -> AttributeValue.builder().m(normalizeItem(value.m())).build();
+            case "L" -> {
+                List<AttributeValue> list = new ArrayList<>(value.l().size());
+                for (AttributeValue element : value.l()) {
+                    list.add(normalize(element));
+                }
+                yield AttributeValue.builder().l(list).build();
+            }
+            default -> value;
+        };
+    }
+
+    static long itemSize(Map<String, AttributeValue> item) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            size += utf8Length(entry.getKey()) + size(entry.getValue());
+        }
+        return size;
+    }
+
+    static long size(AttributeValue value) {
+        return switch (value.type()) {
+            case S -> utf8Length(value.s());
+            case N -> value.n().length() / 2 + 1;
+            case B -> value.b().asByteArrayUnsafe().length;
+            case BOOL, NUL -> 1;
+            case SS -> value.ss().stream().mapToLong(Attributes::utf8Length).sum();
+            case NS -> value.ns().stream().mapToLong(number -> number.length() / 2 + 1).sum();
+            case BS -> value.bs().stream().mapToLong(bytes -> bytes.asByteArrayUnsafe().length).sum();
+            case M -> 3 + itemSize(value.m()) + value.m().size();
+            case L -> 3 + value.l().stream().mapToLong(element -> 1 + size(element)).sum();
+            default -> 0;
+        };
+    }
+
+    static Integer sizeFunction(AttributeValue value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.type()) {
+            case S -> value.s().getBytes(StandardCharsets.UTF_8).length;
+            case B -> value.b().asByteArrayUnsafe().length;
+            case SS -> value.ss().size();
+            case NS -> value.ns().size();
+            case BS -> value.bs().size();
+            case M -> value.m().size();
+            case L -> value.l().size();
+            default -> null;
+        };
+    }
+
+    static boolean contains(AttributeValue container, AttributeValue operand) {
+        if (container == null || operand == null) {
+            return false;
+        }
+        return switch (container.type()) {
+            case S -> operand.type() == AttributeValue.Type.S && container.s().contains(operand.s());
+            case SS -> operand.type() == AttributeValue.Type.S && container.ss().contains(operand.s());
+            case NS -> operand.type() == AttributeValue.Type.N
+                    && numberSet(container.ns()).contains(number(operand).stripTrailingZeros());
+            case BS -> operand.type() == AttributeValue.Type.B && container.bs().contains(operand.b());
+            case L -> container.l().stream().anyMatch(element -> equal(element, operand));
+            default -> false;
+        };
+    }
+
+    static boolean beginsWith(AttributeValue value, AttributeValue prefix) {
+        if (value == null || prefix == null || value.type() != prefix.type()) {
+            return false;
+        }
+        if (value.type() == AttributeValue.Type.S) {
+            return value.s().startsWith(prefix.s());
+        }
+        if (value.type() == AttributeValue.Type.B) {
+            byte[] bytes = value.b().asByteArrayUnsafe();
+            byte[] start = prefix.b().asByteArrayUnsafe();
+            if (start.length > bytes.length) {
+                return false;
+            }
+            for (int i = 0; i < start.length; i++) {
+                if (bytes[i] != start[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    static AttributeValue addToSet(AttributeValue existing, AttributeValue delta, boolean remove) {
+        String type = type(delta);
+        if (!type.equals(type(existing))) {
+            throw DynamoErrors.validation("An operand in the update expression has an incorrect data type");
+        }
+        return switch (type) {
+            case "SS" -> {
+                Set<String> values = new LinkedHashSet<>(existing.ss());
+                if (remove) {
+                    delta.ss().forEach(values::remove);
+                } else {
+                    values.addAll(delta.ss());
+                }
+                yield values.isEmpty() ? null : AttributeValue.builder().ss(values).build();
+            }
+            case "NS" -> {
+                Map<BigDecimal, String> values = new LinkedHashMap<>();
+                existing.ns().forEach(number -> values.put(new BigDecimal(number).stripTrailingZeros(), number));
+                for (String number : delta.ns()) {
+                    BigDecimal key = new BigDecimal(number).stripTrailingZeros();
+                    if (remove) {
+                        values.remove(key);
+                    } else {
+                        values.putIfAbsent(key, canonical(key));
+                    }
+                }
+                yield values.isEmpty() ? null : AttributeValue.builder().ns(values.values()).build();
+            }
+            case "BS" -> {
+                Set<SdkBytes> values = new LinkedHashSet<>(existing.bs());
+                if (remove) {
+                    delta.bs().forEach(values::remove);
+                } else {
+                    values.addAll(delta.bs());
+                }
+                yield values.isEmpty() ? null : AttributeValue.builder().bs(values).build();
+            }
+            default -> throw DynamoErrors.validation("An operand in the update expression has an incorrect data type");
+        };
+    }
+
+    private static void projectNested(Map<String, AttributeValue> projected, Path path, AttributeValue value) {
+        AttributeValue root = projected.get(path.root());
+        AttributeValue rebuilt = graft(root, path.elements(), 1, value);
+        projected.put(path.root(), rebuilt);
+    }
+
+    private static AttributeValue graft(AttributeValue node, List<Object> elements, int position, AttributeValue value) {
+        if (position == elements.size()) {
+            return value;
+        }
+        Object element = elements.get(position);
+        if (element instanceof Integer) {
+            List<AttributeValue> list = node != null && node.type() == AttributeValue.Type.L
+                    ? new ArrayList<>(node.l())
+                    : new ArrayList<>();
+            AttributeValue child = graft(null, elements, position + 1, value);
+            list.add(child);
+            return AttributeValue.builder().l(list).build();
+        }
+        Map<String, AttributeValue> map = node != null && node.type() == AttributeValue.Type.M
+                ? new LinkedHashMap<>(node.m())
+                : new LinkedHashMap<>();
+        map.put((String) element, graft(map.get(element), elements, position + 1, value));
+        return AttributeValue.builder().m(map).build();
+    }
+
+    private static boolean listEqual(List<AttributeValue> left, List<AttributeValue> right) {
+        if (left.size() != right.size()) {
+            return false;
+        }
+        for (int i = 0; i < left.size(); i++) {
+            if (!equal(left.get(i), right.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<BigDecimal> numberSet(List<String> numbers) {
+        Set<BigDecimal> set = new HashSet<>();
+        for (String number : numbers) {
+            set.add(new BigDecimal(number).stripTrailingZeros());
+        }
+        return set;
+    }
+
+    private static String canonical(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0).toPlainString() : stripped.toPlainString();
+    }
+
+    private static long utf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
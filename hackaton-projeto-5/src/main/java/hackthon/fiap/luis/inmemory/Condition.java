@@ -0,0 +1,137 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.List;
+import java.util.Map;
+
+sealed interface Condition {
+    boolean test(Map<String, AttributeValue> item);
+
+    enum Comparator { EQ, NE, LT, LE, GT, GE }
+
+    sealed interface Operand {
+        AttributeValue resolve(Map<String, AttributeValue> item);
+    }
+
+    record PathOperand(Path path) implements Operand {
+        @Override
+        public AttributeValue resolve(Map<String, AttributeValue> item) {
+            return Attributes.get(item, path);
+        }
+    }
+
+    record Constant(AttributeValue value) implements Operand {
+        @Override
+        public AttributeValue resolve(Map<String, AttributeValue> item) {
+            return value;
+        }
+    }
+
+    record Size(Path path) implements Operand {
+        @Override
+        public AttributeValue resolve(Map<String, AttributeValue> item) {
+            Integer size = Attributes.sizeFunction(Attributes.get(item, path));
+            return size == null ? null : AttributeValue.builder().n(String.valueOf(size)).build();
+        }
+    }
+
+    record And(Condition left, Condition right) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            return left.test(item) && right.test(item);
+        }
+    }
+
+    record Or(Condition left, Condition right) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            return left.test(item) || right.test(item);
+        }
+    }
+
+    record Not(Condition inner) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            return !inner.test(item);
+        }
+    }
+
+    record Compare(Operand left, Comparator comparator, Operand right) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            AttributeValue a = left.resolve(item);
+            AttributeValue b = right.resolve(item);
+            if (comparator == Comparator.EQ) {
+                return Attributes.equal(a, b);
+            }
+            if (comparator == Comparator.NE) {
+                return !Attributes.equal(a, b);
+            }
+            Integer order = Attributes.compare(a, b);
+            if (order == null) {
+                return false;
+            }
+            return switch (comparator) {
+                case LT -> order < 0;
+                case LE -> order <= 0;
+                case GT -> order > 0;
+                case GE -> order >= 0;
+                default -> false;
+            };
+        }
+    }
+
+    record Between(Operand value, Operand low, Operand high) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            AttributeValue resolved = value.resolve(item);
+            Integer lower = Attributes.compare(resolved, low.resolve(item));
+            Integer upper = Attributes.compare(resolved, high.resolve(item));
+            return lower != null && upper != null && lower >= 0 && upper <= 0;
+        }
+    }
+
+    record In(Operand value, List<Operand> options) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            AttributeValue resolved = value.resolve(item);
+            for (Operand option : options) {
+                if (Attributes.equal(resolved, option.resolve(item))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    record Exists(Path path, boolean expected) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            return (Attributes.get(item, path) != null) == expected;
+        }
+    }
+
+    record TypeIs(Path path, Operand type) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            AttributeValue value = Attributes.get(item, path);
+            AttributeValue expected = type.resolve(item);
+            return value != null && expected != null && expected.s() != null && Attributes.type(value).equals(expected.s());
+        }
+    }
+
+    record BeginsWith(Operand value, Operand prefix) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            return Attributes.beginsWith(value.resolve(item), prefix.resolve(item));
+        }
+    }
+
+    record Contains(Operand container, Operand operand) implements Condition {
+        @Override
+        public boolean test(Map<String, AttributeValue> item) {
+            return Attributes.contains(container.resolve(item), operand.resolve(item));
+        }
+    }
+}
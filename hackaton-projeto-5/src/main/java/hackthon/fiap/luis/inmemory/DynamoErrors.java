@@ -0,0 +1,85 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.IdempotentParameterMismatchException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceInUseException;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+final class DynamoErrors {
+    private static final String SERVICE = "DynamoDb";
+
+    private DynamoErrors() {
+    }
+
+    static DynamoDbException validation(String message) {
+        return (DynamoDbException) DynamoDbException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(details("ValidationException", message))
+                .build();
+    }
+
+    static ResourceNotFoundException tableNotFound(String table) {
+        String message = "Requested resource not found: Table: " + table + " not found";
+        return (ResourceNotFoundException) ResourceNotFoundException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(details("ResourceNotFoundException", message))
+                .build();
+    }
+
+    static ResourceInUseException tableExists(String table) {
+        String message = "Table already exists: " + table;
+        return (ResourceInUseException) ResourceInUseException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(details("ResourceInUseException", message))
+                .build();
+    }
+
+    static ConditionalCheckFailedException conditionalCheckFailed(Map<String, AttributeValue> item) {
+        String message = "The conditional request failed";
+        ConditionalCheckFailedException.Builder builder = ConditionalCheckFailedException.builder();
+        if (item != null) {
+            builder.item(item);
+        }
+        return (ConditionalCheckFailedException) builder
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(details("ConditionalCheckFailedException", message))
+                .build();
+    }
+
+    static TransactionCanceledException transactionCanceled(List<CancellationReason> reasons) {
+        String message = "Transaction cancelled, please refer cancellation reasons for specific reasons "
+                + reasons.stream().map(CancellationReason::code).collect(Collectors.joining(", ", "[", "]"));
+        return (TransactionCanceledException) TransactionCanceledException.builder()
+                .message(message)
+                .cancellationReasons(reasons)
+                .statusCode(400)
+                .awsErrorDetails(details("TransactionCanceledException", message))
+                .build();
+    }
+
+    static IdempotentParameterMismatchException idempotentMismatch() {
+        String message = "The request uses the same client token as a previous, but non-identical request.";
+        return (IdempotentParameterMismatchException) IdempotentParameterMismatchException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(details("IdempotentParameterMismatchException", message))
+                .build();
+    }
+
+    private static AwsErrorDetails details(String code, String message) {
+        return AwsErrorDetails.builder().errorCode(code).errorMessage(message).serviceName(SERVICE).build();
+    }
+}
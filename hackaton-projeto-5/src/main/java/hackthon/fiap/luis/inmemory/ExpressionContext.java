@@ -0,0 +1,51 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+final class ExpressionContext {
+    private final Map<String, String> names;
+    private final Map<String, AttributeValue> values;
+    private final Set<String> usedNames = new HashSet<>();
+    private final Set<String> usedValues = new HashSet<>();
+
+    ExpressionContext(Map<String, String> names, Map<String, AttributeValue> values) {
+        this.names = names == null ? Map.of() : names;
+        this.values = values == null ? Map.of() : values;
+    }
+
+    String name(String placeholder) {
+        String name = names.get(placeholder);
+        if (name == null) {
+            throw DynamoErrors.validation("An expression attribute name used in the document path is not defined; attribute name: " + placeholder);
+        }
+        usedNames.add(placeholder);
+        return name;
+    }
+
+    AttributeValue value(String placeholder) {
+        AttributeValue value = values.get(placeholder);
+        if (value == null) {
+            throw DynamoErrors.validation("An expression attribute value used in expression is not defined; attribute value: " + placeholder);
+        }
+        usedValues.add(placeholder);
+        return Attributes.normalize(value);
+    }
+
+    void verifyAllUsed() {
+        Set<String> unusedNames = new TreeSet<>(names.keySet());
+        unusedNames.removeAll(usedNames);
+        if (!unusedNames.isEmpty()) {
+            throw DynamoErrors.validation("Value provided in ExpressionAttributeNames unused in expressions: keys: " + unusedNames);
+        }
+        Set<String> unusedValues = new TreeSet<>(values.keySet());
+        unusedValues.removeAll(usedValues);
+        if (!unusedValues.isEmpty()) {
+            throw DynamoErrors.validation("Value provided in ExpressionAttributeValues unused in expressions: keys: " + unusedValues);
+        }
+    }
+}
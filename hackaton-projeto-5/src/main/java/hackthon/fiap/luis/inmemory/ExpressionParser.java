@@ -0,0 +1,409 @@
+package hackthon.fiap.luis.inmemory;
+
+import hackthon.fiap.luis.inmemory.Condition.Comparator;
+import hackthon.fiap.luis.inmemory.Condition.Operand;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+final class ExpressionParser {
+    private enum TokenType { NAME, NAME_PLACEHOLDER, VALUE_PLACEHOLDER, NUMBER, SYMBOL, END }
+
+    private record Token(TokenType type, String text) {
+    }
+
+    private final ExpressionContext context;
+    private final String expression;
+    private final List<Token> tokens;
+    private int position;
+
+    private ExpressionParser(String expression, ExpressionContext context) {
+        this.context = context;
+        this.expression = expression;
+        this.tokens = tokenize(expression);
+    }
+
+    static Condition condition(String expression, ExpressionContext context) {
+        ExpressionParser parser = new ExpressionParser(expression, context);
+        Condition condition = parser.parseOr();
+        parser.expectEnd();
+        return condition;
+    }
+
+    static List<UpdateAction> update(String expression, ExpressionContext context) {
+        ExpressionParser parser = new ExpressionParser(expression, context);
+        List<UpdateAction> actions = parser.parseUpdate();
+        parser.expectEnd();
+        return actions;
+    }
+
+    static List<Path> projection(String expression, ExpressionContext context) {
+        ExpressionParser parser = new ExpressionParser(expression, context);
+        List<Path> paths = new ArrayList<>();
+        do {
+            paths.add(parser.parsePath());
+        } while (parser.acceptSymbol(","));
+        parser.expectEnd();
+        return paths;
+    }
+
+    private Condition parseOr() {
+        Condition left = parseAnd();
+        while (acceptKeyword("OR")) {
+            left = new Condition.Or(left, parseAnd());
+        }
+        return left;
+    }
+
+    private Condition parseAnd() {
+        Condition left = parseNot();
+        while (acceptKeyword("AND")) {
+            left = new Condition.And(left, parseNot());
+        }
+        return left;
+    }
+
+    private Condition parseNot() {
+        if (acceptKeyword("NOT")) {
+            return new Condition.Not(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private Condition parsePrimary() {
+        if (acceptSymbol("(")) {
+            Condition inner = parseOr();
+            expectSymbol(")");
+            return inner;
+        }
+        Token token = peek();
+        if (token.type() == TokenType.NAME && isSymbol(1, "(") && !token.text().equals("size")) {
+            return parseFunction(next().text());
+        }
+
+        Operand left = parseOperand();
+        if (acceptKeyword("BETWEEN")) {
+            Operand low = parseOperand();
+            expectKeyword("AND");
+            return new Condition.Between(left, low, parseOperand());
+        }
+        if (acceptKeyword("IN")) {
+            expectSymbol("(");
+            List<Operand> options = new ArrayList<>();
+            do {
+                options.add(parseOperand());
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            if (options.size() > 100) {
+                throw syntax("IN supports at most 100 operands");
+            }
+            return new Condition.In(left, options);
+        }
+        Comparator comparator = parseComparator();
+        return new Condition.Compare(left, comparator, parseOperand());
+    }
+
+    private Condition parseFunction(String function) {
+        expectSymbol("(");
+        Condition condition = switch (function) {
+            case "attribute_exists" -> new Condition.Exists(parsePath(), true);
+            case "attribute_not_exists" -> new Condition.Exists(parsePath(), false);
+            case "attribute_type" -> {
+                Path path = parsePath();
+                expectSymbol(",");
+                yield new Condition.TypeIs(path, parseOperand());
+            }
+            case "begins_with" -> {
+                Operand value = parseOperand();
+                expectSymbol(",");
+                yield new Condition.BeginsWith(value, parseOperand());
+            }
+            case "contains" -> {
+                Operand container = parseOperand();
+                expectSymbol(",");
+                yield new Condition.Contains(container, parseOperand());
+            }
+            default -> throw syntax("Invalid function name; function: " + function);
+        };
+        expectSymbol(")");
+        return condition;
+    }
+
+    private Operand parseOperand() {
+        Token token = peek();
+        if (token.type() == TokenType.VALUE_PLACEHOLDER) {
+            next();
+            return new Condition.Constant(context.value(token.text()));
+        }
+        if (token.type() == TokenType.NAME && token.text().equals("size") && isSymbol(1, "(")) {
+            next();
+            expectSymbol("(");
+            Path path = parsePath();
+            expectSymbol(")");
+            return new Condition.Size(path);
+        }
+        return new Condition.PathOperand(parsePath());
+    }
+
+    private Comparator parseComparator() {
+        Token token = next();
+        if (token.type() == TokenType.SYMBOL) {
+            switch (token.text()) {
+                case "=":
+                    return Comparator.EQ;
+                case "<>":
+                    return Comparator.NE;
+                case "<":
+                    return Comparator.LT;
+                case "<=":
+                    return Comparator.LE;
+                case ">":
+                    return Comparator.GT;
+                case ">=":
+                    return Comparator.GE;
+                default:
+                    break;
+            }
+        }
+        throw syntax("Syntax error; token: \"" + token.text() + "\"");
+    }
+
+    private List<UpdateAction> parseUpdate() {
+        List<UpdateAction> actions = new ArrayList<>();
+        List<String> clauses = new ArrayList<>();
+        while (peek().type() != TokenType.END) {
+            Token clause = next();
+            String keyword = clause.type() == TokenType.NAME ? clause.text().toUpperCase(Locale.ROOT) : "";
+            if (clauses.contains(keyword)) {
+                throw syntax("The \"" + keyword + "\" section can only be used once in an update expression");
+            }
+            clauses.add(keyword);
+            switch (keyword) {
+                case "SET" -> {
+                    do {
+                        Path path = parsePath();
+                        expectSymbol("=");
+                        actions.add(new UpdateAction.Set(path, parseSetValue()));
+                    } while (acceptSymbol(","));
+                }
+                case "REMOVE" -> {
+                    do {
+                        actions.add(new UpdateAction.Remove(parsePath()));
+                    } while (acceptSymbol(","));
+                }
+                case "ADD" -> {
+                    do {
+                        Path path = parsePath();
+                        actions.add(new UpdateAction.Add(path, parseValuePlaceholder()));
+                    } while (acceptSymbol(","));
+                }
+                case "DELETE" -> {
+                    do {
+                        Path path = parsePath();
+                        actions.add(new UpdateAction.Delete(path, parseValuePlaceholder()));
+                    } while (acceptSymbol(","));
+                }
+                default -> throw syntax("Syntax error; token: \"" + clause.text() + "\"");
+            }
+        }
+        if (actions.isEmpty()) {
+            throw syntax("The expression can not be empty");
+        }
+        for (int i = 0; i < actions.size(); i++) {
+            for (int j = i + 1; j < actions.size(); j++) {
+                if (actions.get(i).path().overlaps(actions.get(j).path())) {
+                    throw DynamoErrors.validation("Invalid UpdateExpression: Two document paths overlap with each other; "
+                            + "must remove or rewrite one of these paths; path one: [" + actions.get(i).path()
+                            + "], path two: [" + actions.get(j).path() + "]");
+                }
+            }
+        }
+        return actions;
+    }
+
+    private UpdateAction.Value parseSetValue() {
+        UpdateAction.Value left = parseSetOperand();
+        if (acceptSymbol("+")) {
+            return new UpdateAction.Arithmetic(left, true, parseSetOperand());
+        }
+        if (acceptSymbol("-")) {
+            return new UpdateAction.Arithmetic(left, false, parseSetOperand());
+        }
+        return left;
+    }
+
+    private UpdateAction.Value parseSetOperand() {
+        Token token = peek();
+        if (token.type() == TokenType.VALUE_PLACEHOLDER) {
+            next();
+            return new UpdateAction.ConstantValue(context.value(token.text()));
+        }
+        if (token.type() == TokenType.NAME && isSymbol(1, "(")) {
+            String function = next().text();
+            expectSymbol("(");
+            UpdateAction.Value value;
+            if (function.equals("if_not_exists")) {
+                Path path = parsePath();
+                expectSymbol(",");
+                value = new UpdateAction.IfNotExists(path, parseSetOperand());
+            } else if (function.equals("list_append")) {
+                UpdateAction.Value first = parseSetOperand();
+                expectSymbol(",");
+                value = new UpdateAction.ListAppend(first, parseSetOperand());
+            } else {
+                throw syntax("Invalid function name; function: " + function);
+            }
+            expectSymbol(")");
+            return value;
+        }
+        return new UpdateAction.PathValue(parsePath());
+    }
+
+    private AttributeValue parseValuePlaceholder() {
+        Token token = next();
+        if (token.type() != TokenType.VALUE_PLACEHOLDER) {
+            throw syntax("Syntax error; token: \"" + token.text() + "\"");
+        }
+        return context.value(token.text());
+    }
+
+    private Path parsePath() {
+        List<Object> elements = new ArrayList<>();
+        elements.add(parseName());
+        while (true) {
+            if (acceptSymbol(".")) {
+                elements.add(parseName());
+            } else if (acceptSymbol("[")) {
+                Token index = next();
+                if (index.type() != TokenType.NUMBER) {
+                    throw syntax("List index must be a number");
+                }
+                elements.add(Integer.parseInt(index.text()));
+                expectSymbol("]");
+            } else {
+                return new Path(elements);
+            }
+        }
+    }
+
+    private String parseName() {
+        Token token = next();
+        if (token.type() == TokenType.NAME_PLACEHOLDER) {
+            return context.name(token.text());
+        }
+        if (token.type() == TokenType.NAME) {
+            return token.text();
+        }
+        throw syntax("Syntax error; token: \"" + token.text() + "\"");
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private Token next() {
+        Token token = tokens.get(position);
+        if (token.type() != TokenType.END) {
+            position++;
+        }
+        return token;
+    }
+
+    private boolean isSymbol(int offset, String symbol) {
+        int index = position + offset;
+        return index < tokens.size() && tokens.get(index).type() == TokenType.SYMBOL && tokens.get(index).text().equals(symbol);
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        if (isSymbol(0, symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!acceptSymbol(symbol)) {
+            throw syntax("Syntax error; token: \"" + peek().text() + "\", expected: \"" + symbol + "\"");
+        }
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token.type() == TokenType.NAME && token.text().equalsIgnoreCase(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw syntax("Syntax error; token: \"" + peek().text() + "\", expected: \"" + keyword + "\"");
+        }
+    }
+
+    private void expectEnd() {
+        if (peek().type() != TokenType.END) {
+            throw syntax("Syntax error; token: \"" + peek().text() + "\"");
+        }
+    }
+
+    private RuntimeException syntax(String message) {
+        return DynamoErrors.validation("Invalid expression: " + message + "; expression: " + expression);
+    }
+
+    private static List<Token> tokenize(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw DynamoErrors.validation("Invalid expression: The expression can not be empty;");
+        }
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '#' || c == ':') {
+                int start = i++;
+                while (i < expression.length() && isWordChar(expression.charAt(i))) {
+                    i++;
+                }
+                if (i == start + 1) {
+                    throw DynamoErrors.validation("Invalid expression: Syntax error; token: \"" + c + "\"");
+                }
+                tokens.add(new Token(c == '#' ? TokenType.NAME_PLACEHOLDER : TokenType.VALUE_PLACEHOLDER, expression.substring(start, i)));
+            } else if (Character.isDigit(c) && !tokens.isEmpty() && tokens.get(tokens.size() - 1).text().equals("[")) {
+                int start = i;
+                while (i < expression.length() && Character.isDigit(expression.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, expression.substring(start, i)));
+            } else if (isWordChar(c)) {
+                int start = i;
+                while (i < expression.length() && isWordChar(expression.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.NAME, expression.substring(start, i)));
+            } else if ((c == '<' || c == '>') && i + 1 < expression.length() && expression.charAt(i + 1) == '=') {
+                tokens.add(new Token(TokenType.SYMBOL, expression.substring(i, i + 2)));
+                i += 2;
+            } else if (c == '<' && i + 1 < expression.length() && expression.charAt(i + 1) == '>') {
+                tokens.add(new Token(TokenType.SYMBOL, "<>"));
+                i += 2;
+            } else if ("()[],.=<>+-".indexOf(c) >= 0) {
+                tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c)));
+                i++;
+            } else {
+                throw DynamoErrors.validation("Invalid expression: Syntax error; token: \"" + c + "\"");
+            }
+        }
+        tokens.add(new Token(TokenType.END, "<EOF>"));
+        return tokens;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
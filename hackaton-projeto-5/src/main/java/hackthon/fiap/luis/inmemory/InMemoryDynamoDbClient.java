@@ -0,0 +1,801 @@
+package hackthon.fiap.luis.inmemory;
+
+import hackthon.fiap.luis.inmemory.TableSchema.IndexSchema;
+import hackthon.fiap.luis.inmemory.TableSchema.KeyAttribute;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.CreateTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.ItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ListTablesRequest;
+import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
+import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public final class InMemoryDynamoDbClient implements DynamoDbClient {
+    private static final long MAX_ITEM_BYTES = 400 * 1024;
+    private static final long MAX_PAGE_BYTES = 1024 * 1024;
+    private static final int MAX_BATCH_GET_KEYS = 100;
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+    private static final int MAX_TRANSACTION_ITEMS = 100;
+    private static final long TOKEN_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final int LOCK_STRIPES = 1024;
+
+    private static volatile InMemoryDynamoDbClient shared;
+
+    private final Map<String, Table> tables = new ConcurrentHashMap<>();
+    private final Map<String, ClientToken> clientTokens = new ConcurrentHashMap<>();
+    private final StripedLocks locks = new StripedLocks(LOCK_STRIPES);
+
+    public InMemoryDynamoDbClient(List<TableSchema> schemas) {
+        schemas.forEach(this::createTable);
+    }
+
+    public static InMemoryDynamoDbClient shared() {
+        InMemoryDynamoDbClient client = shared;
+        if (client == null) {
+            synchronized (InMemoryDynamoDbClient.class) {
+                client = shared;
+                if (client == null) {
+                    client = new InMemoryDynamoDbClient(PlatformTables.schemas());
+                    shared = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    public void createTable(TableSchema schema) {
+        if (tables.putIfAbsent(schema.name(), new Table(schema)) != null) {
+            throw DynamoErrors.tableExists(schema.name());
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public GetItemResponse getItem(GetItemRequest request) {
+        rejectLegacy(request.hasAttributesToGet(), "AttributesToGet");
+        Table table = table(request.tableName());
+        ExpressionContext context = new ExpressionContext(request.expressionAttributeNames(), null);
+        List<Path> projection = projection(request.projectionExpression(), context);
+        context.verifyAllUsed();
+
+        Map<String, AttributeValue> item = table.get(table.keyOf(request.key()));
+        GetItemResponse.Builder response = GetItemResponse.builder();
+        if (item != null) {
+            response.item(projection == null ? item : Attributes.project(item, projection));
+        }
+        return response.consumedCapacity(readCapacity(request.returnConsumedCapacity(), table,
+                        item == null ? 0 : Attributes.itemSize(item), Boolean.TRUE.equals(request.consistentRead())))
+                .build();
+    }
+
+    @Override
+    public PutItemResponse putItem(PutItemRequest request) {
+        rejectLegacy(request.hasExpected(), "Expected");
+        Table table = table(request.tableName());
+        ReturnValue returnValue = returnValue(request.returnValues(), ReturnValue.NONE, ReturnValue.ALL_OLD);
+        Map<String, AttributeValue> item = storedItem(table, request.item());
+        StoredKey key = table.itemKey(item);
+        ExpressionContext context = new ExpressionContext(request.expressionAttributeNames(), request.expressionAttributeValues());
+        Condition condition = condition(request.conditionExpression(), context);
+        context.verifyAllUsed();
+
+        Map<String, AttributeValue> previous;
+        try (StripedLocks.Held ignored = locks.lock(List.of(locks.stripe(table.name(), key)))) {
+            previous = table.get(key);
+            check(condition, previous, request.returnValuesOnConditionCheckFailure());
+            table.write(key, item);
+        }
+        PutItemResponse.Builder response = PutItemResponse.builder()
+                .consumedCapacity(writeCapacity(request.returnConsumedCapacity(), table, Attributes.itemSize(item)));
+        if (returnValue == ReturnValue.ALL_OLD && previous != null) {
+            response.attributes(previous);
+        }
+        return response.build();
+    }
+
+    @Override
+    public UpdateItemResponse updateItem(UpdateItemRequest request) {
+        rejectLegacy(request.hasAttributeUpdates() || request.hasExpected(), "AttributeUpdates/Expected");
+        Table table = table(request.tableName());
+        ReturnValue returnValue = returnValue(request.returnValues(), ReturnValue.values());
+        StoredKey key = table.keyOf(request.key());
+        ExpressionContext context = new ExpressionContext(request.expressionAttributeNames(), request.expressionAttributeValues());
+        if (request.updateExpression() == null) {
+            throw DynamoErrors.validation("UpdateExpression is required by the in-memory engine");
+        }
+        List<UpdateAction> actions = ExpressionParser.update(request.updateExpression(), context);
+        Condition condition = condition(request.conditionExpression(), context);
+        context.verifyAllUsed();
+        rejectKeyUpdates(table, actions);
+
+        Map<String, AttributeValue> previous;
+        Map<String, AttributeValue> updated;
+        try (StripedLocks.Held ignored = locks.lock(List.of(locks.stripe(table.name(), key)))) {
+            previous = table.get(key);
+            check(condition, previous, request.returnValuesOnConditionCheckFailure());
+            updated = applyUpdate(table, request.key(), previous, actions);
+            table.write(key, updated);
+        }
+
+        UpdateItemResponse.Builder response = UpdateItemResponse.builder()
+                .consumedCapacity(writeCapacity(request.returnConsumedCapacity(), table, Attributes.itemSize(updated)));
+        Map<String, AttributeValue> attributes = returnedAttributes(returnValue, previous, updated, actions);
+        if (attributes != null) {
+            response.attributes(attributes);
+        }
+        return response.build();
+    }
+
+    @Override
+    public DeleteItemResponse deleteItem(DeleteItemRequest request) {
+        rejectLegacy(request.hasExpected(), "Expected");
+        Table table = table(request.tableName());
+        ReturnValue returnValue = returnValue(request.returnValues(), ReturnValue.NONE, ReturnValue.ALL_OLD);
+        StoredKey key = table.keyOf(request.key());
+        ExpressionContext context = new ExpressionContext(request.expressionAttributeNames(), request.expressionAttributeValues());
+        Condition condition = condition(request.conditionExpression(), context);
+        context.verifyAllUsed();
+
+        Map<String, AttributeValue> previous;
+        try (StripedLocks.Held ignored = locks.lock(List.of(locks.stripe(table.name(), key)))) {
+            previous = table.get(key);
+            check(condition, previous, request.returnValuesOnConditionCheckFailure());
+            if (previous != null) {
+                table.write(key, null);
+            }
+        }
+        DeleteItemResponse.Builder response = DeleteItemResponse.builder()
+                .consumedCapacity(writeCapacity(request.returnConsumedCapacity(), table,
+                        previous == null ? 0 : Attributes.itemSize(previous)));
+        if (returnValue == ReturnValue.ALL_OLD && previous != null) {
+            response.attributes(previous);
+        }
+        return response.build();
+    }
+
+    @Override
+    public QueryResponse query(QueryRequest request) {
+        rejectLegacy(request.hasKeyConditions() || request.hasQueryFilter() || request.hasAttributesToGet(),
+                "KeyConditions/QueryFilter/AttributesToGet");
+        Table table = table(request.tableName());
+        String indexName = request.indexName();
+        rejectConsistentIndexRead(indexName, request.consistentRead());
+        if (request.keyConditionExpression() == null) {
+            throw DynamoErrors.validation("Either the KeyConditions or KeyConditionExpression parameter must be specified in the request.");
+        }
+        ExpressionContext context = new ExpressionContext(request.expressionAttributeNames(), request.expressionAttributeValues());
+        KeyBounds bounds = KeyBounds.of(ExpressionParser.condition(request.keyConditionExpression(), context),
+                table.hashKey(indexName), table.rangeKey(indexName));
+        Condition filter = condition(request.filterExpression(), context);
+        List<Path> projection = projection(request.projectionExpression(), context);
+        context.verifyAllUsed();
+
+        boolean forward = request.scanIndexForward() == null || request.scanIndexForward();
+        StoredKey start = request.hasExclusiveStartKey() ? table.positionOf(indexName, request.exclusiveStartKey()) : null;
+        NavigableMap<StoredKey, Map<String, AttributeValue>> slice = bounds.slice(table.entries(indexName), start, forward);
+        Page page = read(table, indexName, forward ? slice : slice.descendingMap(), request.limit(), filter, projection,
+                request.select() == Select.COUNT);
+        return QueryResponse.builder()
+                .items(page.items)
+                .count(page.count)
+                .scannedCount(page.scanned)
+                .lastEvaluatedKey(page.lastEvaluatedKey)
+                .consumedCapacity(readCapacity(request.returnConsumedCapacity(), table, page.bytes,
+                        Boolean.TRUE.equals(request.consistentRead())))
+                .build();
+    }
+
+    @Override
+    public ScanResponse scan(ScanRequest request) {
+        rejectLegacy(request.hasScanFilter() || request.hasAttributesToGet(), "ScanFilter/AttributesToGet");
+        Table table = table(request.tableName());
+        String indexName = request.indexName();
+        rejectConsistentIndexRead(indexName, request.consistentRead());
+        ExpressionContext context = new ExpressionContext(request.expressionAttributeNames(), request.expressionAttributeValues());
+        Condition filter = condition(request.filterExpression(), context);
+        List<Path> projection = projection(request.projectionExpression(), context);
+        context.verifyAllUsed();
+
+        NavigableMap<StoredKey, Map<String, AttributeValue>> entries = segment(table.entries(indexName), request.segment(), request.totalSegments());
+        if (request.hasExclusiveStartKey()) {
+            entries = entries.tailMap(table.positionOf(indexName, request.exclusiveStartKey()), false);
+        }
+        Page page = read(table, indexName, entries, request.limit(), filter, projection, request.select() == Select.COUNT);
+        return ScanResponse.builder()
+                .items(page.items)
+                .count(page.count)
+                .scannedCount(page.scanned)
+                .lastEvaluatedKey(page.lastEvaluatedKey)
+                .consumedCapacity(readCapacity(request.returnConsumedCapacity(), table, page.bytes,
+                        Boolean.TRUE.equals(request.consistentRead())))
+                .build();
+    }
+
+    @Override
+    public BatchGetItemResponse batchGetItem(BatchGetItemRequest request) {
+        int keys = request.requestItems().values().stream().mapToInt(entry -> entry.keys().size()).sum();
+        if (keys == 0 || keys > MAX_BATCH_GET_KEYS) {
+            throw DynamoErrors.validation("Too many items requested for the BatchGetItem call");
+        }
+        Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+        List<ConsumedCapacity> capacity = new ArrayList<>();
+        for (Map.Entry<String, KeysAndAttributes> entry : request.requestItems().entrySet()) {
+            Table table = table(entry.getKey());
+            KeysAndAttributes keysAndAttributes = entry.getValue();
+            rejectLegacy(keysAndAttributes.hasAttributesToGet(), "AttributesToGet");
+            ExpressionContext context = new ExpressionContext(keysAndAttributes.expressionAttributeNames(), null);
+            List<Path> projection = projection(keysAndAttributes.projectionExpression(), context);
+            context.verifyAllUsed();
+
+            Set<StoredKey> seen = new HashSet<>();
+            List<Map<String, AttributeValue>> found = new ArrayList<>();
+            long bytes = 0;
+            for (Map<String, AttributeValue> key : keysAndAttributes.keys()) {
+                StoredKey storedKey = table.keyOf(key);
+                if (!seen.add(storedKey)) {
+                    throw DynamoErrors.validation("Provided list of item keys contains duplicates");
+                }
+                Map<String, AttributeValue> item = table.get(storedKey);
+                if (item != null) {
+                    bytes += Attributes.itemSize(item);
+                    found.add(projection == null ? item : Attributes.project(item, projection));
+                }
+            }
+            responses.put(table.name(), found);
+            ConsumedCapacity consumed = readCapacity(request.returnConsumedCapacity(), table, bytes,
+                    Boolean.TRUE.equals(keysAndAttributes.consistentRead()));
+            if (consumed != null) {
+                capacity.add(consumed);
+            }
+        }
+        BatchGetItemResponse.Builder response = BatchGetItemResponse.builder()
+                .responses(responses)
+                .unprocessedKeys(Map.of());
+        if (!capacity.isEmpty()) {
+            response.consumedCapacity(capacity);
+        }
+        return response.build();
+    }
+
+    @Override
+    public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+        int writes = request.requestItems().values().stream().mapToInt(List::size).sum();
+        if (writes == 0 || writes > MAX_BATCH_WRITE_ITEMS) {
+            throw DynamoErrors.validation("Too many items requested for the BatchWriteItem call");
+        }
+        List<PendingWrite> pending = new ArrayList<>(writes);
+        Set<ItemRef> targets = new HashSet<>();
+        for (Map.Entry<String, List<WriteRequest>> entry : request.requestItems().entrySet()) {
+            Table table = table(entry.getKey());
+            for (WriteRequest write : entry.getValue()) {
+                Map<String, AttributeValue> item = null;
+                StoredKey key;
+                if (write.putRequest() != null) {
+                    item = storedItem(table, write.putRequest().item());
+                    key = table.itemKey(item);
+                } else if (write.deleteRequest() != null) {
+                    key = table.keyOf(write.deleteRequest().key());
+                } else {
+                    throw DynamoErrors.validation("Supplied WriteRequest must contain a PutRequest or DeleteRequest");
+                }
+                if (!targets.add(new ItemRef(table.name(), key))) {
+                    throw DynamoErrors.validation("Provided list of item keys contains duplicates");
+                }
+                pending.add(new PendingWrite(table, key, item));
+            }
+        }
+        for (PendingWrite write : pending) {
+            try (StripedLocks.Held ignored = locks.lock(List.of(locks.stripe(write.table.name(), write.key)))) {
+                write.table.write(write.key, write.item);
+            }
+        }
+        return BatchWriteItemResponse.builder().unprocessedItems(Map.of()).build();
+    }
+
+    @Override
+    public TransactWriteItemsResponse transactWriteItems(TransactWriteItemsRequest request) {
+        List<TransactWriteItem> items = request.transactItems();
+        if (items.isEmpty() || items.size() > MAX_TRANSACTION_ITEMS) {
+            throw DynamoErrors.validation("Member must have length less than or equal to " + MAX_TRANSACTION_ITEMS);
+        }
+        List<TransactionOp> ops = new ArrayList<>(items.size());
+        for (TransactWriteItem item : items) {
+            ops.add(TransactionOp.of(this, item));
+        }
+        Set<ItemRef> targets = new HashSet<>();
+        List<Integer> stripes = new ArrayList<>(ops.size());
+        for (TransactionOp op : ops) {
+            if (!targets.add(new ItemRef(op.table.name(), op.key))) {
+                throw DynamoErrors.validation("Transaction request cannot include multiple operations on one item");
+            }
+            stripes.add(locks.stripe(op.table.name(), op.key));
+        }
+
+        String token = request.clientRequestToken();
+        try (StripedLocks.Held ignored = locks.lock(stripes)) {
+            if (token != null && replayed(token, items)) {
+                return TransactWriteItemsResponse.builder().build();
+            }
+            List<CancellationReason> reasons = new ArrayList<>(ops.size());
+            boolean cancelled = false;
+            List<Map<String, AttributeValue>> previous = new ArrayList<>(ops.size());
+            for (TransactionOp op : ops) {
+                Map<String, AttributeValue> current = op.table.get(op.key);
+                previous.add(current);
+                if (op.condition != null && !op.condition.test(current == null ? Map.of() : current)) {
+                    cancelled = true;
+                    CancellationReason.Builder reason = CancellationReason.builder()
+                            .code("ConditionalCheckFailed")
+                            .message("The conditional request failed");
+                    if (op.returnOldOnFailure && current != null) {
+                        reason.item(current);
+                    }
+                    reasons.add(reason.build());
+                } else {
+                    reasons.add(CancellationReason.builder().code("None").build());
+                }
+            }
+            if (cancelled) {
+                throw DynamoErrors.transactionCanceled(reasons);
+            }
+
+            List<Map<String, AttributeValue>> results = new ArrayList<>(ops.size());
+            for (int i = 0; i < ops.size(); i++) {
+                results.add(ops.get(i).result(this, previous.get(i)));
+            }
+            for (int i = 0; i < ops.size(); i++) {
+                TransactionOp op = ops.get(i);
+                if (op.kind != TransactionOp.Kind.CHECK) {
+                    op.table.write(op.key, results.get(i));
+                }
+            }
+            if (token != null) {
+                clientTokens.put(token, new ClientToken(items.hashCode(), System.currentTimeMillis() + TOKEN_TTL_MILLIS));
+            }
+        }
+        return TransactWriteItemsResponse.builder().build();
+    }
+
+    @Override
+    public TransactGetItemsResponse transactGetItems(TransactGetItemsRequest request) {
+        List<TransactGetItem> items = request.transactItems();
+        if (items.isEmpty() || items.size() > MAX_TRANSACTION_ITEMS) {
+            throw DynamoErrors.validation("Member must have length less than or equal to " + MAX_TRANSACTION_ITEMS);
+        }
+        List<Table> itemTables = new ArrayList<>(items.size());
+        List<StoredKey> keys = new ArrayList<>(items.size());
+        List<List<Path>> projections = new ArrayList<>(items.size());
+        List<Integer> stripes = new ArrayList<>(items.size());
+        for (TransactGetItem item : items) {
+            Table table = table(item.get().tableName());
+            ExpressionContext context = new ExpressionContext(item.get().expressionAttributeNames(), null);
+            projections.add(projection(item.get().projectionExpression(), context));
+            context.verifyAllUsed();
+            StoredKey key = table.keyOf(item.get().key());
+            itemTables.add(table);
+            keys.add(key);
+            stripes.add(locks.stripe(table.name(), key));
+        }
+
+        List<ItemResponse> responses = new ArrayList<>(items.size());
+        try (StripedLocks.Held ignored = locks.lock(stripes)) {
+            for (int i = 0; i < items.size(); i++) {
+                Map<String, AttributeValue> item = itemTables.get(i).get(keys.get(i));
+                ItemResponse.Builder response = ItemResponse.builder();
+                if (item != null) {
+                    response.item(projections.get(i) == null ? item : Attributes.project(item, projections.get(i)));
+                }
+                responses.add(response.build());
+            }
+        }
+        return TransactGetItemsResponse.builder().responses(responses).build();
+    }
+
+    @Override
+    public CreateTableResponse createTable(CreateTableRequest request) {
+        Map<String, ScalarAttributeType> types = new HashMap<>();
+        for (AttributeDefinition definition : request.attributeDefinitions()) {
+            types.put(definition.attributeName(), definition.attributeType());
+        }
+        List<IndexSchema> indexes = new ArrayList<>();
+        for (GlobalSecondaryIndex index : request.globalSecondaryIndexes()) {
+            if (index.projection() != null && index.projection().projectionType() != ProjectionType.ALL) {
+                throw DynamoErrors.validation("The in-memory engine only supports ProjectionType ALL; index: " + index.indexName());
+            }
+            indexes.add(new IndexSchema(index.indexName(), key(index.keySchema(), KeyType.HASH, types), key(index.keySchema(), KeyType.RANGE, types)));
+        }
+        TableSchema schema = new TableSchema(request.tableName(),
+                key(request.keySchema(), KeyType.HASH, types),
+                key(request.keySchema(), KeyType.RANGE, types),
+                indexes);
+        createTable(schema);
+        return CreateTableResponse.builder().tableDescription(describe(tables.get(schema.name()))).build();
+    }
+
+    @Override
+    public DeleteTableResponse deleteTable(DeleteTableRequest request) {
+        Table table = tables.remove(request.tableName());
+        if (table == null) {
+            throw DynamoErrors.tableNotFound(request.tableName());
+        }
+        return DeleteTableResponse.builder().tableDescription(describe(table)).build();
+    }
+
+    @Override
+    public DescribeTableResponse describeTable(DescribeTableRequest request) {
+        return DescribeTableResponse.builder().table(describe(table(request.tableName()))).build();
+    }
+
+    @Override
+    public ListTablesResponse listTables(ListTablesRequest request) {
+        List<String> names = new ArrayList<>(tables.keySet());
+        Collections.sort(names);
+        return ListTablesResponse.builder().tableNames(names).build();
+    }
+
+    @Override
+    public ListTablesResponse listTables() {
+        return listTables(ListTablesRequest.builder().build());
+    }
+
+    Table table(String name) {
+        Table table = name == null ? null : tables.get(name);
+        if (table == null) {
+            throw DynamoErrors.tableNotFound(name);
+        }
+        return table;
+    }
+
+    Map<String, AttributeValue> storedItem(Table table, Map<String, AttributeValue> raw) {
+        Map<String, AttributeValue> item = Attributes.normalizeItem(raw);
+        table.itemKey(item);
+        table.validateIndexKeys(item);
+        if (Attributes.itemSize(item) > MAX_ITEM_BYTES) {
+            throw DynamoErrors.validation("Item size has exceeded the maximum allowed size");
+        }
+        return Collections.unmodifiableMap(item);
+    }
+
+    Map<String, AttributeValue> applyUpdate(
+            Table table,
+            Map<String, AttributeValue> key,
+            Map<String, AttributeValue> previous,
+            List<UpdateAction> actions
+    ) {
+        Map<String, AttributeValue> current = previous == null ? Map.of() : previous;
+        Map<String, AttributeValue> working = new LinkedHashMap<>(current);
+        if (previous == null) {
+            working.putAll(Attributes.normalizeItem(key));
+        }
+        for (UpdateAction action : actions) {
+            if (action instanceof UpdateAction.Set set) {
+                Attributes.set(working, set.path(), set.value().evaluate(current));
+            } else if (action instanceof UpdateAction.Remove remove) {
+                Attributes.remove(working, remove.path());
+            } else if (action instanceof UpdateAction.Add add) {
+                AttributeValue existing = Attributes.get(current, add.path());
+                String type = Attributes.type(add.value());
+                if (!type.equals("N") && !type.equals("SS") && !type.equals("NS") && !type.equals("BS")) {
+                    throw DynamoErrors.validation("Invalid UpdateExpression: Incorrect operand type for operator or function; operator: ADD, operand type: " + type);
+                }
+                if (existing == null) {
+                    Attributes.set(working, add.path(), add.value());
+                } else if (type.equals("N")) {
+                    if (existing.type() != AttributeValue.Type.N) {
+                        throw DynamoErrors.validation("An operand in the update expression has an incorrect data type");
+                    }
+                    Attributes.set(working, add.path(), Attributes.number(Attributes.number(existing).add(Attributes.number(add.value()))));
+                } else {
+                    Attributes.set(working, add.path(), Attributes.addToSet(existing, add.value(), false));
+                }
+            } else if (action instanceof UpdateAction.Delete delete) {
+                AttributeValue existing = Attributes.get(current, delete.path());
+                if (existing != null) {
+                    AttributeValue remaining = Attributes.addToSet(existing, delete.value(), true);
+                    if (remaining == null) {
+                        Attributes.remove(working, delete.path());
+                    } else {
+                        Attributes.set(working, delete.path(), remaining);
+                    }
+                }
+            }
+        }
+        table.validateIndexKeys(working);
+        if (Attributes.itemSize(working) > MAX_ITEM_BYTES) {
+            throw DynamoErrors.validation("Item size to update has exceeded the maximum allowed size");
+        }
+        return Collections.unmodifiableMap(working);
+    }
+
+    static void rejectKeyUpdates(Table table, List<UpdateAction> actions) {
+        for (UpdateAction action : actions) {
+            if (table.isKeyAttribute(action.path().root())) {
+                throw DynamoErrors.validation("One or more parameter values were invalid: Cannot update attribute "
+                        + action.path().root() + ". This attribute is part of the key");
+            }
+        }
+    }
+
+    static Condition condition(String expression, ExpressionContext context) {
+        return expression == null ? null : ExpressionParser.condition(expression, context);
+    }
+
+    private boolean replayed(String token, List<TransactWriteItem> items) {
+        long now = System.currentTimeMillis();
+        clientTokens.values().removeIf(entry -> entry.expiresAt < now);
+        ClientToken previous = clientTokens.get(token);
+        if (previous == null) {
+            return false;
+        }
+        if (previous.fingerprint != items.hashCode()) {
+            throw DynamoErrors.idempotentMismatch();
+        }
+        return true;
+    }
+
+    private Page read(
+            Table table,
+            String indexName,
+            NavigableMap<StoredKey, Map<String, AttributeValue>> entries,
+            Integer limit,
+            Condition filter,
+            List<Path> projection,
+            boolean countOnly
+    ) {
+        if (limit != null && limit < 1) {
+            throw DynamoErrors.validation("1 validation error detected: Value '" + limit + "' at 'limit' failed to satisfy constraint: Member must have value greater than or equal to 1");
+        }
+        Page page = new Page();
+        Map<String, AttributeValue> last = null;
+        for (Map<String, AttributeValue> item : entries.values()) {
+            page.scanned++;
+            page.bytes += Attributes.itemSize(item);
+            last = item;
+            if (filter == null || filter.test(item)) {
+                page.count++;
+                if (!countOnly) {
+                    page.items.add(projection == null ? item : Attributes.project(item, projection));
+                }
+            }
+            if ((limit != null && page.scanned >= limit) || page.bytes >= MAX_PAGE_BYTES) {
+                page.lastEvaluatedKey = table.lastEvaluatedKey(indexName, last);
+                break;
+            }
+        }
+        return page;
+    }
+
+    private static NavigableMap<StoredKey, Map<String, AttributeValue>> segment(
+            NavigableMap<StoredKey, Map<String, AttributeValue>> entries,
+            Integer segment,
+            Integer totalSegments
+    ) {
+        if (segment == null && totalSegments == null) {
+            return entries;
+        }
+        if (segment == null || totalSegments == null || totalSegments < 1 || totalSegments > 1_000_000
+                || segment < 0 || segment >= totalSegments) {
+            throw DynamoErrors.validation("The Segment parameter is invalid for the given TotalSegments");
+        }
+        StoredKey from = StoredKey.firstOfBucket(bucketStart(segment, totalSegments));
+        if (segment + 1 == totalSegments) {
+            return entries.tailMap(from, true);
+        }
+        return entries.subMap(from, true, StoredKey.firstOfBucket(bucketStart(segment + 1, totalSegments)), false);
+    }
+
+    private static int bucketStart(int segment, int totalSegments) {
+        return (int) ((segment * (1L << 31) + totalSegments - 1) / totalSegments);
+    }
+
+    private static void check(Condition condition, Map<String, AttributeValue> current, ReturnValuesOnConditionCheckFailure onFailure) {
+        if (condition != null && !condition.test(current == null ? Map.of() : current)) {
+            throw DynamoErrors.conditionalCheckFailed(onFailure == ReturnValuesOnConditionCheckFailure.ALL_OLD ? current : null);
+        }
+    }
+
+    private static Map<String, AttributeValue> returnedAttributes(
+            ReturnValue returnValue,
+            Map<String, AttributeValue> previous,
+            Map<String, AttributeValue> updated,
+            List<UpdateAction> actions
+    ) {
+        if (returnValue == null || returnValue == ReturnValue.NONE) {
+            return null;
+        }
+        return switch (returnValue) {
+            case ALL_OLD -> previous;
+            case ALL_NEW -> updated;
+            case UPDATED_OLD -> touched(previous, actions);
+            case UPDATED_NEW -> touched(updated, actions);
+            default -> null;
+        };
+    }
+
+    private static Map<String, AttributeValue> touched(Map<String, AttributeValue> item, List<UpdateAction> actions) {
+        if (item == null) {
+            return null;
+        }
+        Set<String> roots = new LinkedHashSet<>();
+        actions.forEach(action -> roots.add(action.path().root()));
+        Map<String, AttributeValue> result = new LinkedHashMap<>();
+        for (String root : roots) {
+            AttributeValue value = item.get(root);
+            if (value != null) {
+                result.put(root, value);
+            }
+        }
+        return result;
+    }
+
+    private static ReturnValue returnValue(ReturnValue requested, ReturnValue... allowed) {
+        if (requested == null) {
+            return ReturnValue.NONE;
+        }
+        for (ReturnValue value : allowed) {
+            if (value == requested && value != ReturnValue.UNKNOWN_TO_SDK_VERSION) {
+                return requested;
+            }
+        }
+        throw DynamoErrors.validation("Return values set to invalid value");
+    }
+
+    private static List<Path> projection(String expression, ExpressionContext context) {
+        return expression == null ? null : ExpressionParser.projection(expression, context);
+    }
+
+    private static void rejectLegacy(boolean present, String parameter) {
+        if (present) {
+            throw DynamoErrors.validation("Legacy parameter " + parameter + " is not supported by the in-memory engine; use expressions");
+        }
+    }
+
+    private static void rejectConsistentIndexRead(String indexName, Boolean consistentRead) {
+        if (indexName != null && Boolean.TRUE.equals(consistentRead)) {
+            throw DynamoErrors.validation("Consistent reads are not supported on global secondary indexes");
+        }
+    }
+
+    private static ConsumedCapacity readCapacity(ReturnConsumedCapacity mode, Table table, long bytes, boolean consistent) {
+        if (mode == null || mode == ReturnConsumedCapacity.NONE) {
+            return null;
+        }
+        double units = Math.max(1, Math.ceil(bytes / 4096.0)) * (consistent ? 1.0 : 0.5);
+        return ConsumedCapacity.builder().tableName(table.name()).capacityUnits(units).readCapacityUnits(units).build();
+    }
+
+    private static ConsumedCapacity writeCapacity(ReturnConsumedCapacity mode, Table table, long bytes) {
+        if (mode == null || mode == ReturnConsumedCapacity.NONE) {
+            return null;
+        }
+        double units = Math.max(1, Math.ceil(bytes / 1024.0)) * (1 + table.schema().indexes().size());
+        return ConsumedCapacity.builder().tableName(table.name()).capacityUnits(units).writeCapacityUnits(units).build();
+    }
+
+    private static KeyAttribute key(List<KeySchemaElement> schema, KeyType type, Map<String, ScalarAttributeType> types) {
+        for (KeySchemaElement element : schema) {
+            if (element.keyType() == type) {
+                ScalarAttributeType attributeType = types.get(element.attributeName());
+                if (attributeType == null) {
+                    throw DynamoErrors.validation("One or more parameter values were invalid: Some index key attributes are not defined in AttributeDefinitions");
+                }
+                return new KeyAttribute(element.attributeName(), attributeType);
+            }
+        }
+        if (type == KeyType.HASH) {
+            throw DynamoErrors.validation("Invalid KeySchema: The first KeySchemaElement is not a HASH key type");
+        }
+        return null;
+    }
+
+    private static TableDescription describe(Table table) {
+        TableSchema schema = table.schema();
+        List<GlobalSecondaryIndexDescription> indexes = new ArrayList<>();
+        for (IndexSchema index : schema.indexes()) {
+            indexes.add(GlobalSecondaryIndexDescription.builder()
+                    .indexName(index.name())
+                    .keySchema(keySchema(index.hashKey(), index.rangeKey()))
+                    .indexStatus("ACTIVE")
+                    .build());
+        }
+        TableDescription.Builder description = TableDescription.builder()
+                .tableName(schema.name())
+                .tableStatus(TableStatus.ACTIVE)
+                .itemCount((long) table.size())
+                .keySchema(keySchema(schema.hashKey(), schema.rangeKey()));
+        if (!indexes.isEmpty()) {
+            description.globalSecondaryIndexes(indexes);
+        }
+        return description.build();
+    }
+
+    private static List<KeySchemaElement> keySchema(KeyAttribute hashKey, KeyAttribute rangeKey) {
+        List<KeySchemaElement> elements = new ArrayList<>();
+        elements.add(KeySchemaElement.builder().attributeName(hashKey.name()).keyType(KeyType.HASH).build());
+        if (rangeKey != null) {
+            elements.add(KeySchemaElement.builder().attributeName(rangeKey.name()).keyType(KeyType.RANGE).build());
+        }
+        return elements;
+    }
+
+    private static final class Page {
+        private final List<Map<String, AttributeValue>> items = new ArrayList<>();
+        private int count;
+        private int scanned;
+        private long bytes;
+        private Map<String, AttributeValue> lastEvaluatedKey;
+    }
+
+    private record PendingWrite(Table table, StoredKey key, Map<String, AttributeValue> item) {
+    }
+
+    private record ItemRef(String table, StoredKey key) {
+    }
+
+    private record ClientToken(int fingerprint, long expiresAt) {
+    }
+}
@@ -0,0 +1,144 @@
+package hackthon.fiap.luis.inmemory;
+
+import hackthon.fiap.luis.inmemory.Condition.Comparator;
+import hackthon.fiap.luis.inmemory.TableSchema.KeyAttribute;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+final class KeyBounds {
+    private final StoredKey low;
+    private final boolean lowInclusive;
+    private final StoredKey high;
+    private final boolean highInclusive;
+
+    private KeyBounds(StoredKey low, boolean lowInclusive, StoredKey high, boolean highInclusive) {
+        this.low = low;
+        this.lowInclusive = lowInclusive;
+        this.high = high;
+        this.highInclusive = highInclusive;
+    }
+
+    static KeyBounds of(Condition keyCondition, KeyAttribute hashKey, KeyAttribute rangeKey) {
+        List<Condition> parts = new ArrayList<>();
+        flatten(keyCondition, parts);
+        if (parts.size() > 2) {
+            throw DynamoErrors.validation("Invalid KeyConditionExpression: Conditions can be of length 1 or 2 only");
+        }
+
+        KeyValue hash = null;
+        Condition rangeCondition = null;
+        for (Condition part : parts) {
+            if (hash == null && part instanceof Condition.Compare compare && compare.comparator() == Comparator.EQ
+                    && isKey(compare.left(), hashKey) && compare.right() instanceof Condition.Constant constant) {
+                hash = KeyValue.of(constant.value(), hashKey.name(), hashKey.type());
+            } else if (rangeCondition == null) {
+                rangeCondition = part;
+            } else {
+                throw DynamoErrors.validation("Query condition missed key schema element: " + hashKey.name());
+            }
+        }
+        if (hash == null) {
+            throw DynamoErrors.validation("Query condition missed key schema element: " + hashKey.name());
+        }
+
+        int bucket = StoredKey.bucketOf(hash);
+        StoredKey low = new StoredKey(bucket, hash);
+        StoredKey high = new StoredKey(bucket, hash, KeyValue.MAX);
+        boolean lowInclusive = true;
+        if (rangeCondition == null) {
+            return new KeyBounds(low, true, high, true);
+        }
+        if (rangeKey == null) {
+            throw DynamoErrors.validation("Query key condition not supported");
+        }
+
+        if (rangeCondition instanceof Condition.Compare compare && isKey(compare.left(), rangeKey)
+                && compare.right() instanceof Condition.Constant constant) {
+            KeyValue value = rangeBound(constant.value(), rangeKey);
+            switch (compare.comparator()) {
+                case EQ -> {
+                    low = new StoredKey(bucket, hash, value);
+                    high = new StoredKey(bucket, hash, value, KeyValue.MAX);
+                }
+                case LT -> {
+                    high = new StoredKey(bucket, hash, value);
+                    return new KeyBounds(low, true, high, false);
+                }
+                case LE -> high = new StoredKey(bucket, hash, value, KeyValue.MAX);
+                case GT -> {
+                    low = new StoredKey(bucket, hash, value, KeyValue.MAX);
+                    lowInclusive = false;
+                }
+                case GE -> low = new StoredKey(bucket, hash, value);
+                default -> throw DynamoErrors.validation("Unsupported operator on KeyConditionExpression: <>");
+            }
+        } else if (rangeCondition instanceof Condition.Between between && isKey(between.value(), rangeKey)
+                && between.low() instanceof Condition.Constant from && between.high() instanceof Condition.Constant to) {
+            KeyValue lower = rangeBound(from.value(), rangeKey);
+            KeyValue upper = rangeBound(to.value(), rangeKey);
+            if (lower.compareTo(upper) > 0) {
+                throw DynamoErrors.validation("Invalid KeyConditionExpression: The BETWEEN operator requires upper bound to be greater than or equal to lower bound");
+            }
+            low = new StoredKey(bucket, hash, lower);
+            high = new StoredKey(bucket, hash, upper, KeyValue.MAX);
+        } else if (rangeCondition instanceof Condition.BeginsWith beginsWith && isKey(beginsWith.value(), rangeKey)
+                && beginsWith.prefix() instanceof Condition.Constant prefix) {
+            rangeBound(prefix.value(), rangeKey);
+            low = new StoredKey(bucket, hash, KeyValue.bound(prefix.value()));
+            high = new StoredKey(bucket, hash, KeyValue.prefixCeiling(prefix.value()));
+        } else {
+            throw DynamoErrors.validation("Query key condition not supported");
+        }
+        return new KeyBounds(low, lowInclusive, high, true);
+    }
+
+    NavigableMap<StoredKey, Map<String, AttributeValue>> slice(
+            NavigableMap<StoredKey, Map<String, AttributeValue>> entries,
+            StoredKey exclusiveStart,
+            boolean forward
+    ) {
+        StoredKey from = low;
+        boolean fromInclusive = lowInclusive;
+        StoredKey to = high;
+        boolean toInclusive = highInclusive;
+        if (exclusiveStart != null) {
+            if (forward && exclusiveStart.compareTo(from) >= 0) {
+                from = exclusiveStart;
+                fromInclusive = false;
+            } else if (!forward && exclusiveStart.compareTo(to) <= 0) {
+                to = exclusiveStart;
+                toInclusive = false;
+            }
+        }
+        int order = from.compareTo(to);
+        if (order > 0 || (order == 0 && !(fromInclusive && toInclusive))) {
+            return Collections.emptyNavigableMap();
+        }
+        return entries.subMap(from, fromInclusive, to, toInclusive);
+    }
+
+    private static KeyValue rangeBound(AttributeValue value, KeyAttribute rangeKey) {
+        if (!Attributes.type(value).equals(rangeKey.type().toString())) {
+            throw DynamoErrors.validation("One or more parameter values were invalid: Condition parameter type does not match schema type");
+        }
+        return KeyValue.bound(value);
+    }
+
+    private static boolean isKey(Condition.Operand operand, KeyAttribute key) {
+        return operand instanceof Condition.PathOperand path && path.path().isTopLevel() && path.path().root().equals(key.name());
+    }
+
+    private static void flatten(Condition condition, List<Condition> parts) {
+        if (condition instanceof Condition.And and) {
+            flatten(and.left(), parts);
+            flatten(and.right(), parts);
+        } else {
+            parts.add(condition);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+final class KeyValue implements Comparable<KeyValue> {
+    static final KeyValue MIN = new KeyValue(Kind.MIN, null, null, null, null);
+    static final KeyValue MAX = new KeyValue(Kind.MAX, null, null, null, null);
+
+    private enum Kind { MIN, VALUE, PREFIX_CEILING, MAX }
+
+    private final Kind kind;
+    private final AttributeValue value;
+    private final String string;
+    private final BigDecimal number;
+    private final byte[] bytes;
+
+    private KeyValue(Kind kind, AttributeValue value, String string, BigDecimal number, byte[] bytes) {
+        this.kind = kind;
+        this.value = value;
+        this.string = string;
+        this.number = number;
+        this.bytes = bytes;
+    }
+
+    static KeyValue of(AttributeValue value, String attribute, ScalarAttributeType type) {
+        if (value == null) {
+            throw DynamoErrors.validation("One of the required keys was not given a value: " + attribute);
+        }
+        String actual = Attributes.type(value);
+        if (!actual.equals(type.toString())) {
+            throw DynamoErrors.validation("One or more parameter values were invalid: Type mismatch for key "
+                    + attribute + " expected: " + type + " actual: " + actual);
+        }
+        return switch (type) {
+            case S -> {
+                if (value.s().isEmpty()) {
+                    throw DynamoErrors.validation("One or more parameter values are not valid. The AttributeValue for a key attribute cannot contain an empty string value. Key: " + attribute);
+                }
+                yield new KeyValue(Kind.VALUE, value, value.s(), null, null);
+            }
+            case N -> {
+                BigDecimal parsed = Attributes.number(value);
+                yield new KeyValue(Kind.VALUE, Attributes.number(parsed), null, parsed.stripTrailingZeros(), null);
+            }
+            case B -> {
+                byte[] raw = value.b().asByteArrayUnsafe();
+                if (raw.length == 0) {
+                    throw DynamoErrors.validation("One or more parameter values are not valid. The AttributeValue for a key attribute cannot contain an empty binary value. Key: " + attribute);
+                }
+                yield new KeyValue(Kind.VALUE, value, null, null, raw);
+            }
+            default -> throw DynamoErrors.validation("Unsupported key type " + type);
+        };
+    }
+
+    static KeyValue bound(AttributeValue value) {
+        return switch (value.type()) {
+            case S -> new KeyValue(Kind.VALUE, value, value.s(), null, null);
+            case N -> new KeyValue(Kind.VALUE, value, null, Attributes.number(value).stripTrailingZeros(), null);
+            case B -> new KeyValue(Kind.VALUE, value, null, null, value.b().asByteArrayUnsafe());
+            default -> throw DynamoErrors.validation("Key condition operands must be S, N or B");
+        };
+    }
+
+    static KeyValue prefixCeiling(AttributeValue prefix) {
+        KeyValue start = bound(prefix);
+        if (start.number != null) {
+            throw DynamoErrors.validation("begins_with is only supported on S and B sort keys");
+        }
+        return new KeyValue(Kind.PREFIX_CEILING, prefix, start.string, null, start.bytes);
+    }
+
+    AttributeValue attributeValue() {
+        return value;
+    }
+
+    @Override
+    public int compareTo(KeyValue other) {
+        if (kind == Kind.MIN || other.kind == Kind.MAX) {
+            return kind == other.kind ? 0 : -1;
+        }
+        if (kind == Kind.MAX || other.kind == Kind.MIN) {
+            return 1;
+        }
+        if (kind == Kind.PREFIX_CEILING && other.kind == Kind.PREFIX_CEILING) {
+            return compareRaw(this, other);
+        }
+        if (kind == Kind.PREFIX_CEILING) {
+            return other.startsWith(this) ? 1 : compareRaw(this, other);
+        }
+        if (other.kind == Kind.PREFIX_CEILING) {
+            return startsWith(other) ? -1 : compareRaw(this, other);
+        }
+        return compareRaw(this, other);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof KeyValue key && kind == key.kind && compareTo(key) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash;
+        if (string != null) {
+            hash = string.hashCode();
+        } else if (number != null) {
+            hash = number.hashCode();
+        } else if (bytes != null) {
+            hash = Arrays.hashCode(bytes);
+        } else {
+            hash = kind.hashCode();
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private boolean startsWith(KeyValue prefix) {
+        if (string != null && prefix.string != null) {
+            return string.startsWith(prefix.string);
+        }
+        if (bytes != null && prefix.bytes != null && prefix.bytes.length <= bytes.length) {
+            for (int i = 0; i < prefix.bytes.length; i++) {
+                if (bytes[i] != prefix.bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static int compareRaw(KeyValue left, KeyValue right) {
+        if (left.string != null && right.string != null) {
+            return Attributes.compareStrings(left.string, right.string);
+        }
+        if (left.number != null && right.number != null) {
+            return left.number.compareTo(right.number);
+        }
+        if (left.bytes != null && right.bytes != null) {
+            return Attributes.compareBytes(left.bytes, right.bytes);
+        }
+        throw DynamoErrors.validation("Key condition operand type does not match the key schema");
+    }
+}
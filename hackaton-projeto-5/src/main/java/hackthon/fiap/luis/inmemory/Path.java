@@ -0,0 +1,57 @@
+package hackthon.fiap.luis.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+record Path(List<Object> elements) {
+    Path {
+        elements = List.copyOf(elements);
+    }
+
+    static Path of(String name) {
+        return new Path(List.of(name));
+    }
+
+    String root() {
+        return (String) elements.get(0);
+    }
+
+    boolean isTopLevel() {
+        return elements.size() == 1;
+    }
+
+    Path parent() {
+        return new Path(elements.subList(0, elements.size() - 1));
+    }
+
+    Object last() {
+        return elements.get(elements.size() - 1);
+    }
+
+    boolean overlaps(Path other) {
+        int shared = Math.min(elements.size(), other.elements.size());
+        return elements.subList(0, shared).equals(other.elements.subList(0, shared));
+    }
+
+    Path child(Object element) {
+        List<Object> next = new ArrayList<>(elements);
+        next.add(element);
+        return new Path(next);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Object element : elements) {
+            if (element instanceof Integer index) {
+                text.append('[').append(index).append(']');
+            } else {
+                if (!text.isEmpty()) {
+                    text.append('.');
+                }
+                text.append(element);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package hackthon.fiap.luis.inmemory;
+
+import hackthon.fiap.luis.common.EnvConfig;
+import hackthon.fiap.luis.inmemory.TableSchema.IndexSchema;
+import hackthon.fiap.luis.inmemory.TableSchema.KeyAttribute;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class PlatformTables {
+    private PlatformTables() {
+    }
+
+    public static List<TableSchema> schemas() {
+        List<TableSchema> schemas = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        add(schemas, names, TableSchema.of(
+                name("VEHICLES_TABLE", "VehiclesTable"),
+                KeyAttribute.string("vehicleId"),
+                null,
+                new IndexSchema(name("STATUS_PRICE_INDEX", "status-price-index"),
+                        KeyAttribute.string("status"), KeyAttribute.number("price")),
+                new IndexSchema(name("SOLD_TIMELINE_INDEX", "soldMonth-soldAt-index"),
+                        KeyAttribute.string("soldMonth"), KeyAttribute.string("soldAt"))));
+        IndexSchema emailIndex = new IndexSchema(name("CLIENT_EMAIL_INDEX", "email-blind-index"),
+                KeyAttribute.string("emailBlindIndex"), null);
+        IndexSchema documentIndex = new IndexSchema(name("CLIENT_DOCUMENT_INDEX", "document-blind-index"),
+                KeyAttribute.string("documentNumberBlindIndex"), null);
+        add(schemas, names, TableSchema.of(name("CLIENTS_TABLE", "ClientsTable"), KeyAttribute.string("clientId"), null,
+                emailIndex, documentIndex));
+        add(schemas, names, TableSchema.of(name("BUYERS_TABLE", "ClientsTable"), KeyAttribute.string("clientId"), null,
+                emailIndex, documentIndex));
+        add(schemas, names, TableSchema.of(name("SALES_TABLE", "SalesTable"), KeyAttribute.string("saleId"), null));
+        add(schemas, names, TableSchema.of(
+                name("RESERVATIONS_TABLE", "ReservationsTable"),
+                KeyAttribute.string("reservationId"),
+                null,
+                new IndexSchema("status-reservedAt-index", KeyAttribute.string("status"), KeyAttribute.string("reservedAt"))));
+        add(schemas, names, TableSchema.of(name("CATALOG_STATE_TABLE", "CatalogStateTable"), KeyAttribute.string("catalogKey"), null));
+        add(schemas, names, TableSchema.of(
+                name("SALES_AGGREGATES_TABLE", "SalesAggregatesTable"),
+                KeyAttribute.string("aggregateType"),
+                KeyAttribute.string("aggregateKey")));
+        return schemas;
+    }
+
+    private static void add(List<TableSchema> schemas, Set<String> names, TableSchema schema) {
+        if (names.add(schema.name())) {
+            schemas.add(schema);
+        }
+    }
+
+    private static String name(String env, String defaultValue) {
+        String value = EnvConfig.value(env);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,59 @@
+package hackthon.fiap.luis.inmemory;
+
+import java.util.Arrays;
+
+final class StoredKey implements Comparable<StoredKey> {
+    private final int bucket;
+    private final KeyValue[] parts;
+
+    StoredKey(int bucket, KeyValue... parts) {
+        this.bucket = bucket;
+        this.parts = parts;
+    }
+
+    static StoredKey firstOfBucket(int bucket) {
+        return new StoredKey(bucket, KeyValue.MIN);
+    }
+
+    static int bucketOf(KeyValue partitionKey) {
+        return partitionKey.hashCode() & Integer.MAX_VALUE;
+    }
+
+    int bucket() {
+        return bucket;
+    }
+
+    KeyValue part(int index) {
+        return parts[index];
+    }
+
+    int length() {
+        return parts.length;
+    }
+
+    @Override
+    public int compareTo(StoredKey other) {
+        int order = Integer.compare(bucket, other.bucket);
+        if (order != 0) {
+            return order;
+        }
+        int shared = Math.min(parts.length, other.parts.length);
+        for (int i = 0; i < shared; i++) {
+            order = parts[i].compareTo(other.parts[i]);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(parts.length, other.parts.length);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof StoredKey key && bucket == key.bucket && Arrays.equals(parts, key.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * bucket + Arrays.hashCode(parts);
+    }
+}
@@ -0,0 +1,45 @@
+package hackthon.fiap.luis.inmemory;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class StripedLocks {
+    private final ReentrantLock[] stripes;
+
+    StripedLocks(int count) {
+        stripes = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    int stripe(String table, StoredKey key) {
+        return Math.floorMod(31 * table.hashCode() + key.hashCode(), stripes.length);
+    }
+
+    Held lock(Collection<Integer> stripeIndexes) {
+        int[] ordered = stripeIndexes.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        int acquired = 0;
+        try {
+            for (int index : ordered) {
+                stripes[index].lock();
+                acquired++;
+            }
+        } catch (RuntimeException e) {
+            release(ordered, acquired);
+            throw e;
+        }
+        return () -> release(ordered, ordered.length);
+    }
+
+    private void release(int[] ordered, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[ordered[i]].unlock();
+        }
+    }
+
+    interface Held extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,154 @@
+package hackthon.fiap.luis.inmemory;
+
+import hackthon.fiap.luis.inmemory.TableSchema.IndexSchema;
+import hackthon.fiap.luis.inmemory.TableSchema.KeyAttribute;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+final class Table {
+    private final TableSchema schema;
+    private final ConcurrentSkipListMap<StoredKey, Map<String, AttributeValue>> items = new ConcurrentSkipListMap<>();
+    private final Map<String, ConcurrentSkipListMap<StoredKey, Map<String, AttributeValue>>> indexes = new HashMap<>();
+
+    Table(TableSchema schema) {
+        this.schema = schema;
+        for (IndexSchema index : schema.indexes()) {
+            indexes.put(index.name(), new ConcurrentSkipListMap<>());
+        }
+    }
+
+    TableSchema schema() {
+        return schema;
+    }
+
+    String name() {
+        return schema.name();
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    StoredKey keyOf(Map<String, AttributeValue> key) {
+        int expected = schema.rangeKey() == null ? 1 : 2;
+        if (key.size() != expected || !key.containsKey(schema.hashKey().name())
+                || (schema.rangeKey() != null && !key.containsKey(schema.rangeKey().name()))) {
+            throw DynamoErrors.validation("The provided key element does not match the schema");
+        }
+        return itemKey(key);
+    }
+
+    StoredKey itemKey(Map<String, AttributeValue> item) {
+        KeyValue hash = keyValue(item, schema.hashKey());
+        if (schema.rangeKey() == null) {
+            return new StoredKey(StoredKey.bucketOf(hash), hash);
+        }
+        return new StoredKey(StoredKey.bucketOf(hash), hash, keyValue(item, schema.rangeKey()));
+    }
+
+    Map<String, AttributeValue> keyAttributes(Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put(schema.hashKey().name(), item.get(schema.hashKey().name()));
+        if (schema.rangeKey() != null) {
+            key.put(schema.rangeKey().name(), item.get(schema.rangeKey().name()));
+        }
+        return key;
+    }
+
+    boolean isKeyAttribute(String name) {
+        return name.equals(schema.hashKey().name()) || (schema.rangeKey() != null && name.equals(schema.rangeKey().name()));
+    }
+
+    Map<String, AttributeValue> get(StoredKey key) {
+        return items.get(key);
+    }
+
+    void validateIndexKeys(Map<String, AttributeValue> item) {
+        for (IndexSchema index : schema.indexes()) {
+            indexKeyOf(index, item);
+        }
+    }
+
+    void write(StoredKey key, Map<String, AttributeValue> newItem) {
+        Map<String, AttributeValue> previous = newItem == null ? items.remove(key) : items.put(key, newItem);
+        for (IndexSchema index : schema.indexes()) {
+            ConcurrentSkipListMap<StoredKey, Map<String, AttributeValue>> entries = indexes.get(index.name());
+            StoredKey oldKey = previous == null ? null : indexKeyOf(index, previous);
+            StoredKey newKey = newItem == null ? null : indexKeyOf(index, newItem);
+            if (oldKey != null && !oldKey.equals(newKey)) {
+                entries.remove(oldKey);
+            }
+            if (newKey != null) {
+                entries.put(newKey, newItem);
+            }
+        }
+    }
+
+    ConcurrentSkipListMap<StoredKey, Map<String, AttributeValue>> entries(String indexName) {
+        if (indexName == null) {
+            return items;
+        }
+        schema.index(indexName);
+        return indexes.get(indexName);
+    }
+
+    KeyAttribute hashKey(String indexName) {
+        return indexName == null ? schema.hashKey() : schema.index(indexName).hashKey();
+    }
+
+    KeyAttribute rangeKey(String indexName) {
+        return indexName == null ? schema.rangeKey() : schema.index(indexName).rangeKey();
+    }
+
+    StoredKey positionOf(String indexName, Map<String, AttributeValue> key) {
+        if (indexName == null) {
+            return keyOf(key);
+        }
+        IndexSchema index = schema.index(indexName);
+        StoredKey position = indexKeyOf(index, key);
+        if (position == null) {
+            throw DynamoErrors.validation("The provided starting key is invalid");
+        }
+        return position;
+    }
+
+    Map<String, AttributeValue> lastEvaluatedKey(String indexName, Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = keyAttributes(item);
+        if (indexName != null) {
+            IndexSchema index = schema.index(indexName);
+            key.put(index.hashKey().name(), item.get(index.hashKey().name()));
+            if (index.rangeKey() != null) {
+                key.put(index.rangeKey().name(), item.get(index.rangeKey().name()));
+            }
+        }
+        return key;
+    }
+
+    private StoredKey indexKeyOf(IndexSchema index, Map<String, AttributeValue> item) {
+        AttributeValue hashValue = item.get(index.hashKey().name());
+        AttributeValue rangeValue = index.rangeKey() == null ? null : item.get(index.rangeKey().name());
+        if (hashValue == null || (index.rangeKey() != null && rangeValue == null)) {
+            return null;
+        }
+        List<KeyValue> parts = new ArrayList<>(4);
+        KeyValue hash = KeyValue.of(hashValue, index.hashKey().name(), index.hashKey().type());
+        parts.add(hash);
+        if (index.rangeKey() != null) {
+            parts.add(KeyValue.of(rangeValue, index.rangeKey().name(), index.rangeKey().type()));
+        }
+        parts.add(keyValue(item, schema.hashKey()));
+        if (schema.rangeKey() != null) {
+            parts.add(keyValue(item, schema.rangeKey()));
+        }
+        return new StoredKey(StoredKey.bucketOf(hash), parts.toArray(new KeyValue[0]));
+    }
+
+    private static KeyValue keyValue(Map<String, AttributeValue> item, KeyAttribute attribute) {
+        return KeyValue.of(item.get(attribute.name()), attribute.name(), attribute.type());
+    }
+}
@@ -0,0 +1,42 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+
+import java.util.List;
+
+public record TableSchema(
+        String name,
+        KeyAttribute hashKey,
+        KeyAttribute rangeKey,
+        List<IndexSchema> indexes
+) {
+    public TableSchema {
+        indexes = List.copyOf(indexes);
+    }
+
+    public static TableSchema of(String name, KeyAttribute hashKey, KeyAttribute rangeKey, IndexSchema... indexes) {
+        return new TableSchema(name, hashKey, rangeKey, List.of(indexes));
+    }
+
+    public IndexSchema index(String indexName) {
+        for (IndexSchema index : indexes) {
+            if (index.name().equals(indexName)) {
+                return index;
+            }
+        }
+        throw DynamoErrors.validation("The table does not have the specified index: " + indexName);
+    }
+
+    public record KeyAttribute(String name, ScalarAttributeType type) {
+        public static KeyAttribute string(String name) {
+            return new KeyAttribute(name, ScalarAttributeType.S);
+        }
+
+        public static KeyAttribute number(String name) {
+            return new KeyAttribute(name, ScalarAttributeType.N);
+        }
+    }
+
+    public record IndexSchema(String name, KeyAttribute hashKey, KeyAttribute rangeKey) {
+    }
+}
@@ -0,0 +1,103 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionCheck;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+import java.util.List;
+import java.util.Map;
+
+final class TransactionOp {
+    enum Kind { PUT, UPDATE, DELETE, CHECK }
+
+    final Kind kind;
+    final Table table;
+    final StoredKey key;
+    final Condition condition;
+    final boolean returnOldOnFailure;
+    private final Map<String, AttributeValue> item;
+    private final Map<String, AttributeValue> keyAttributes;
+    private final List<UpdateAction> actions;
+
+    private TransactionOp(
+            Kind kind,
+            Table table,
+            StoredKey key,
+            Condition condition,
+            ReturnValuesOnConditionCheckFailure onFailure,
+            Map<String, AttributeValue> item,
+            Map<String, AttributeValue> keyAttributes,
+            List<UpdateAction> actions
+    ) {
+        this.kind = kind;
+        this.table = table;
+        this.key = key;
+        this.condition = condition;
+        this.returnOldOnFailure = onFailure == ReturnValuesOnConditionCheckFailure.ALL_OLD;
+        this.item = item;
+        this.keyAttributes = keyAttributes;
+        this.actions = actions;
+    }
+
+    static TransactionOp of(InMemoryDynamoDbClient client, TransactWriteItem write) {
+        int present = (write.put() != null ? 1 : 0) + (write.update() != null ? 1 : 0)
+                + (write.delete() != null ? 1 : 0) + (write.conditionCheck() != null ? 1 : 0);
+        if (present != 1) {
+            throw DynamoErrors.validation("TransactItems can only contain one of Check, Put, Update or Delete");
+        }
+        if (write.put() != null) {
+            Put put = write.put();
+            Table table = client.table(put.tableName());
+            Map<String, AttributeValue> item = client.storedItem(table, put.item());
+            ExpressionContext context = new ExpressionContext(put.expressionAttributeNames(), put.expressionAttributeValues());
+            Condition condition = InMemoryDynamoDbClient.condition(put.conditionExpression(), context);
+            context.verifyAllUsed();
+            return new TransactionOp(Kind.PUT, table, table.itemKey(item), condition,
+                    put.returnValuesOnConditionCheckFailure(), item, null, null);
+        }
+        if (write.update() != null) {
+            Update update = write.update();
+            Table table = client.table(update.tableName());
+            StoredKey key = table.keyOf(update.key());
+            ExpressionContext context = new ExpressionContext(update.expressionAttributeNames(), update.expressionAttributeValues());
+            List<UpdateAction> actions = ExpressionParser.update(update.updateExpression(), context);
+            Condition condition = InMemoryDynamoDbClient.condition(update.conditionExpression(), context);
+            context.verifyAllUsed();
+            InMemoryDynamoDbClient.rejectKeyUpdates(table, actions);
+            return new TransactionOp(Kind.UPDATE, table, key, condition,
+                    update.returnValuesOnConditionCheckFailure(), null, update.key(), actions);
+        }
+        if (write.delete() != null) {
+            Delete delete = write.delete();
+            Table table = client.table(delete.tableName());
+            ExpressionContext context = new ExpressionContext(delete.expressionAttributeNames(), delete.expressionAttributeValues());
+            Condition condition = InMemoryDynamoDbClient.condition(delete.conditionExpression(), context);
+            context.verifyAllUsed();
+            return new TransactionOp(Kind.DELETE, table, table.keyOf(delete.key()), condition,
+                    delete.returnValuesOnConditionCheckFailure(), null, null, null);
+        }
+        ConditionCheck check = write.conditionCheck();
+        Table table = client.table(check.tableName());
+        ExpressionContext context = new ExpressionContext(check.expressionAttributeNames(), check.expressionAttributeValues());
+        if (check.conditionExpression() == null) {
+            throw DynamoErrors.validation("ConditionCheck requires a ConditionExpression");
+        }
+        Condition condition = ExpressionParser.condition(check.conditionExpression(), context);
+        context.verifyAllUsed();
+        return new TransactionOp(Kind.CHECK, table, table.keyOf(check.key()), condition,
+                check.returnValuesOnConditionCheckFailure(), null, null, null);
+    }
+
+    Map<String, AttributeValue> result(InMemoryDynamoDbClient client, Map<String, AttributeValue> previous) {
+        return switch (kind) {
+            case PUT -> item;
+            case UPDATE -> client.applyUpdate(table, keyAttributes, previous, actions);
+            case DELETE -> null;
+            case CHECK -> previous;
+        };
+    }
+}
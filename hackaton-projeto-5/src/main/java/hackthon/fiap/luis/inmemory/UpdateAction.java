@@ -0,0 +1,81 @@
+package hackthon.fiap.luis.inmemory;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+sealed interface UpdateAction {
+    Path path();
+
+    record Set(Path path, Value value) implements UpdateAction {
+    }
+
+    record Remove(Path path) implements UpdateAction {
+    }
+
+    record Add(Path path, AttributeValue value) implements UpdateAction {
+    }
+
+    record Delete(Path path, AttributeValue value) implements UpdateAction {
+    }
+
+    sealed interface Value {
+        AttributeValue evaluate(Map<String, AttributeValue> item);
+    }
+
+    record PathValue(Path path) implements Value {
+        @Override
+        public AttributeValue evaluate(Map<String, AttributeValue> item) {
+            AttributeValue value = Attributes.get(item, path);
+            if (value == null) {
+                throw DynamoErrors.validation("The provided expression refers to an attribute that does not exist in the item");
+            }
+            return value;
+        }
+    }
+
+    record ConstantValue(AttributeValue value) implements Value {
+        @Override
+        public AttributeValue evaluate(Map<String, AttributeValue> item) {
+            return value;
+        }
+    }
+
+    record IfNotExists(Path path, Value fallback) implements Value {
+        @Override
+        public AttributeValue evaluate(Map<String, AttributeValue> item) {
+            AttributeValue value = Attributes.get(item, path);
+            return value != null ? value : fallback.evaluate(item);
+        }
+    }
+
+    record ListAppend(Value first, Value second) implements Value {
+        @Override
+        public AttributeValue evaluate(Map<String, AttributeValue> item) {
+            AttributeValue left = first.evaluate(item);
+            AttributeValue right = second.evaluate(item);
+            if (left.type() != AttributeValue.Type.L || right.type() != AttributeValue.Type.L) {
+                throw DynamoErrors.validation("An operand in the update expression has an incorrect data type");
+            }
+            List<AttributeValue> joined = new ArrayList<>(left.l());
+            joined.addAll(right.l());
+            return AttributeValue.builder().l(joined).build();
+        }
+    }
+
+    record Arithmetic(Value left, boolean plus, Value right) implements Value {
+        @Override
+        public AttributeValue evaluate(Map<String, AttributeValue> item) {
+            AttributeValue a = left.evaluate(item);
+            AttributeValue b = right.evaluate(item);
+            if (a.type() != AttributeValue.Type.N || b.type() != AttributeValue.Type.N) {
+                throw DynamoErrors.validation("An operand in the update expression has an incorrect data type");
+            }
+            BigDecimal result = plus ? Attributes.number(a).add(Attributes.number(b)) : Attributes.number(a).subtract(Attributes.number(b));
+            return Attributes.number(result);
+        }
+    }
+}
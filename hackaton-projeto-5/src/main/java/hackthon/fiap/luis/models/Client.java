@@ -5,6 +5,8 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -18,6 +20,18 @@ public record Client(
         String status,
         String createdAt
 ) {
+    public static final String EMAIL_INDEX_ATTRIBUTE = "emailBlindIndex";
+    public static final String DOCUMENT_INDEX_ATTRIBUTE = "documentNumberBlindIndex";
+    public static final List<String> SUMMARY_ATTRIBUTES =
+            List.of("clientId", "fullName", "status", "documentNumberLast4", "createdAt");
+    public static final Map<String, String> ENCRYPTED_ATTRIBUTES = Map.of(
+            "email", "emailEncrypted",
+            "documentNumber", "documentNumberEncrypted",
+            "paymentKey", "paymentKeyEncrypted",
+            "address", "addressEncrypted"
+    );
+    private static final String MARKER_PREFIX = "unique#";
+
     public static Client newActive(
             String clientId,
             String fullName,
@@ -47,19 +61,53 @@ public record Client(
         Map<String, AttributeValue> item = new HashMap<>();
         item.put("clientId", AttributeValue.builder().s(clientId).build());
         item.put("fullName", AttributeValue.builder().s(fullName).build());
-        item.put("emailEncrypted", AttributeValue.builder().s(SensitiveDataProtector.encrypt(normalizedEmail)).build());
-        item.put("emailHash", AttributeValue.builder().s(SensitiveDataProtector.sha256(normalizedEmail)).build());
-        item.put("documentNumberEncrypted", AttributeValue.builder().s(SensitiveDataProtector.encrypt(normalizedDocument)).build());
-        item.put("documentNumberHash", AttributeValue.builder().s(SensitiveDataProtector.sha256(normalizedDocument)).build());
+        SensitiveDataProtector.batch()
+                .encrypt("emailEncrypted", normalizedEmail)
+                .blindIndex(EMAIL_INDEX_ATTRIBUTE, "email", normalizedEmail)
+                .encrypt("documentNumberEncrypted", normalizedDocument)
+                .blindIndex(DOCUMENT_INDEX_ATTRIBUTE, "documentNumber", normalizedDocument)
+                .encrypt("paymentKeyEncrypted", normalizedPaymentKey)
+                .blindIndex("paymentKeyBlindIndex", "paymentKey", normalizedPaymentKey.toLowerCase(Locale.ROOT))
+                .encrypt("addressEncrypted", normalizedAddress)
+                .seal()
+                .forEach((attribute, value) -> item.put(attribute, AttributeValue.builder().s(value).build()));
         item.put("documentNumberLast4", AttributeValue.builder().s(SensitiveDataProtector.last4(normalizedDocument)).build());
-        item.put("paymentKeyEncrypted", AttributeValue.builder().s(SensitiveDataProtector.encrypt(normalizedPaymentKey)).build());
-        item.put("paymentKeyHash", AttributeValue.builder().s(SensitiveDataProtector.sha256(normalizedPaymentKey.toLowerCase(Locale.ROOT))).build());
-        item.put("addressEncrypted", AttributeValue.builder().s(SensitiveDataProtector.encrypt(normalizedAddress)).build());
         item.put("status", AttributeValue.builder().s(status).build());
         item.put("createdAt", AttributeValue.builder().s(createdAt).build());
         return item;
     }
 
+    public static List<Map<String, AttributeValue>> uniquenessMarkers(Map<String, AttributeValue> item) {
+        return List.of(
+                marker("email", item.get(EMAIL_INDEX_ATTRIBUTE), item),
+                marker("documentNumber", item.get(DOCUMENT_INDEX_ATTRIBUTE), item)
+        );
+    }
+
+    public static boolean isUniquenessMarker(String clientId) {
+        return clientId != null && clientId.startsWith(MARKER_PREFIX);
+    }
+
+    public static String emailBlindIndex(String email) {
+        return SensitiveDataProtector.blindIndex("email", requireValue("email", normalizeEmail(email)));
+    }
+
+    public static String documentBlindIndex(String documentNumber) {
+        return SensitiveDataProtector.blindIndex("documentNumber",
+                requireValue("documentNumber", normalizeDocument(documentNumber)));
+    }
+
+    public static Map<String, Object> summaryOf(Map<String, AttributeValue> item) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (String attribute : SUMMARY_ATTRIBUTES) {
+            AttributeValue value = item.get(attribute);
+            if (value != null && value.s() != null) {
+                summary.put(attribute, value.s());
+            }
+        }
+        return summary;
+    }
+
     public Map<String, Object> toSummary() {
         return Map.of(
                 "clientId", clientId,
@@ -68,6 +116,14 @@ public record Client(
         );
     }
 
+    private static Map<String, AttributeValue> marker(String field, AttributeValue blindIndex, Map<String, AttributeValue> item) {
+        return Map.of(
+                "clientId", AttributeValue.builder().s(MARKER_PREFIX + field + "#" + blindIndex.s()).build(),
+                "ownerClientId", item.get("clientId"),
+                "createdAt", item.get("createdAt")
+        );
+    }
+
     private static String normalizeEmail(String value) {
         return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
     }
@@ -1,20 +1,25 @@
 package hackthon.fiap.luis.models;
 
-import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import hackthon.fiap.luis.codec.DynamoItem;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
-import java.util.Map;
 
+@DynamoItem
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record Reservation(
         String reservationId,
         String saleId,
         String vehicleId,
         String clientId,
         String status,
+        String paymentCode,
         String reservedAt,
         String expiresAt,
+        String confirmedAt,
+        String cancelledAt,
+        String cancelReason,
         String updatedAt
 ) {
     public static Reservation reserved(
@@ -22,31 +27,22 @@ public record Reservation(
             String saleId,
             String vehicleId,
             String clientId,
-            int ttlMinutes
+            int ttlMinutes,
+            Instant now
     ) {
-        Instant now = Instant.now();
         return new Reservation(
                 reservationId,
                 saleId,
                 vehicleId,
                 clientId,
                 "RESERVED",
+                null,
                 now.toString(),
                 now.plus(ttlMinutes, ChronoUnit.MINUTES).toString(),
+                null,
+                null,
+                null,
                 now.toString()
         );
     }
-
-    public Map<String, AttributeValue> toItem() {
-        Map<String, AttributeValue> item = new HashMap<>();
-        item.put("reservationId", AttributeValue.builder().s(reservationId).build());
-        item.put("saleId", AttributeValue.builder().s(saleId).build());
-        item.put("vehicleId", AttributeValue.builder().s(vehicleId).build());
-        item.put("clientId", AttributeValue.builder().s(clientId).build());
-        item.put("status", AttributeValue.builder().s(status).build());
-        item.put("reservedAt", AttributeValue.builder().s(reservedAt).build());
-        item.put("expiresAt", AttributeValue.builder().s(expiresAt).build());
-        item.put("updatedAt", AttributeValue.builder().s(updatedAt).build());
-        return item;
-    }
 }
@@ -1,27 +1,34 @@
 package hackthon.fiap.luis.models;
 
-import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import hackthon.fiap.luis.codec.DynamoItem;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 
+@DynamoItem
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record Sale(
         String saleId,
         String reservationId,
         String vehicleId,
+        String brand,
         String clientId,
         String paymentCode,
         String paymentStatus,
         String status,
         double totalPrice,
+        String providerReference,
         String createdAt,
-        String updatedAt
+        String updatedAt,
+        String paidAt,
+        String completedAt,
+        String cancelReason
 ) {
     public static Sale reserved(
             String saleId,
             String reservationId,
             String vehicleId,
+            String brand,
             String clientId,
             String paymentCode,
             double totalPrice
@@ -31,28 +38,18 @@ public record Sale(
                 saleId,
                 reservationId,
                 vehicleId,
+                brand,
                 clientId,
                 paymentCode,
                 "PENDING",
                 "RESERVED",
                 totalPrice,
+                null,
                 now,
-                now
+                now,
+                null,
+                null,
+                null
         );
     }
-
-    public Map<String, AttributeValue> toItem() {
-        Map<String, AttributeValue> item = new HashMap<>();
-        item.put("saleId", AttributeValue.builder().s(saleId).build());
-        item.put("reservationId", AttributeValue.builder().s(reservationId).build());
-        item.put("vehicleId", AttributeValue.builder().s(vehicleId).build());
-        item.put("clientId", AttributeValue.builder().s(clientId).build());
-        item.put("paymentCode", AttributeValue.builder().s(paymentCode).build());
-        item.put("paymentStatus", AttributeValue.builder().s(paymentStatus).build());
-        item.put("status", AttributeValue.builder().s(status).build());
-        item.put("totalPrice", AttributeValue.builder().n(String.valueOf(totalPrice)).build());
-        item.put("createdAt", AttributeValue.builder().s(createdAt).build());
-        item.put("updatedAt", AttributeValue.builder().s(updatedAt).build());
-        return item;
-    }
 }
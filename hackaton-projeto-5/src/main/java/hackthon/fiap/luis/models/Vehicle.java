@@ -1,11 +1,12 @@
 package hackthon.fiap.luis.models;
 
-import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import hackthon.fiap.luis.codec.DynamoItem;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 
+@DynamoItem
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record Vehicle(
         String vehicleId,
         String brand,
@@ -14,8 +15,15 @@ public record Vehicle(
         String color,
         double price,
         String status,
+        String reservationId,
+        String saleId,
+        String clientId,
+        String reservedAt,
+        String soldAt,
+        String soldMonth,
         String createdAt,
-        String updatedAt
+        String updatedAt,
+        Long version
 ) {
     public static Vehicle available(
             String vehicleId,
@@ -34,22 +42,15 @@ public record Vehicle(
                 color,
                 price,
                 "AVAILABLE",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 now,
-                now
+                now,
+                1L
         );
     }
-
-    public Map<String, AttributeValue> toItem() {
-        Map<String, AttributeValue> item = new HashMap<>();
-        item.put("vehicleId", AttributeValue.builder().s(vehicleId).build());
-        item.put("brand", AttributeValue.builder().s(brand).build());
-        item.put("model", AttributeValue.builder().s(model).build());
-        item.put("year", AttributeValue.builder().n(String.valueOf(year)).build());
-        item.put("color", AttributeValue.builder().s(color).build());
-        item.put("price", AttributeValue.builder().n(String.valueOf(price)).build());
-        item.put("status", AttributeValue.builder().s(status).build());
-        item.put("createdAt", AttributeValue.builder().s(createdAt).build());
-        item.put("updatedAt", AttributeValue.builder().s(updatedAt).build());
-        return item;
-    }
 }
@@ -0,0 +1,17 @@
+package hackthon.fiap.luis.requests;
+
+public record CreateClientRequest(
+        String fullName,
+        String email,
+        String documentNumber,
+        String paymentKey,
+        String address
+) {
+    public CreateClientRequest {
+        fullName = RequestFields.required("fullName", fullName);
+        email = RequestFields.required("email", email);
+        documentNumber = RequestFields.required("documentNumber", documentNumber);
+        paymentKey = RequestFields.required("paymentKey", paymentKey);
+        address = RequestFields.required("address", address);
+    }
+}
@@ -0,0 +1,19 @@
+package hackthon.fiap.luis.requests;
+
+import hackthon.fiap.luis.models.Vehicle;
+
+import java.util.UUID;
+
+public record CreateVehicleRequest(String brand, String model, Integer year, String color, Double price) {
+    public CreateVehicleRequest {
+        brand = RequestFields.required("brand", brand);
+        model = RequestFields.required("model", model);
+        year = RequestFields.required("year", year);
+        color = RequestFields.required("color", color);
+        price = RequestFields.finite("price", RequestFields.required("price", price));
+    }
+
+    public Vehicle toVehicle() {
+        return Vehicle.available(UUID.randomUUID().toString(), brand, model, year, color, price);
+    }
+}
@@ -0,0 +1,21 @@
+package hackthon.fiap.luis.requests;
+
+import java.util.Locale;
+import java.util.Set;
+
+public record PaymentCallbackRequest(String saleId, String paymentStatus, String providerReference) {
+    private static final Set<String> STATUSES = Set.of("PAID", "FAILED", "CANCELLED");
+
+    public PaymentCallbackRequest {
+        saleId = RequestFields.required("saleId", saleId);
+        paymentStatus = RequestFields.required("paymentStatus", paymentStatus).toUpperCase(Locale.ROOT);
+        if (!STATUSES.contains(paymentStatus)) {
+            throw new IllegalArgumentException("paymentStatus must be PAID, FAILED or CANCELLED");
+        }
+        providerReference = RequestFields.optional(providerReference);
+    }
+
+    public boolean paid() {
+        return "PAID".equals(paymentStatus);
+    }
+}
@@ -0,0 +1,40 @@
+package hackthon.fiap.luis.requests;
+
+final class RequestFields {
+    private RequestFields() {
+    }
+
+    static String required(String field, String value) {
+        String trimmed = optional(value);
+        if (trimmed == null) {
+            throw new IllegalArgumentException("Field '" + field + "' is required");
+        }
+        return trimmed;
+    }
+
+    static String optional(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    static <T> T required(String field, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Field '" + field + "' is required");
+        }
+        return value;
+    }
+
+    static Double finite(String field, Double value) {
+        if (value != null && !Double.isFinite(value)) {
+            throw new IllegalArgumentException("Field '" + field + "' must be a number");
+        }
+        return value;
+    }
+
+    static int positive(Integer value, int defaultValue) {
+        return value == null || value < 1 ? defaultValue : value;
+    }
+}
@@ -0,0 +1,20 @@
+package hackthon.fiap.luis.requests;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+public record StartPurchaseRequest(
+        String vehicleId,
+        @JsonAlias("buyerId") String clientId,
+        Boolean customerCancelled,
+        Integer reservationTtlMinutes,
+        Integer maxPaymentChecks,
+        Boolean paymentApproved
+) {
+    public StartPurchaseRequest {
+        vehicleId = RequestFields.required("vehicleId", vehicleId);
+        clientId = RequestFields.required("clientId", clientId);
+        customerCancelled = Boolean.TRUE.equals(customerCancelled);
+        reservationTtlMinutes = RequestFields.positive(reservationTtlMinutes, 15);
+        maxPaymentChecks = RequestFields.positive(maxPaymentChecks, 6);
+    }
+}
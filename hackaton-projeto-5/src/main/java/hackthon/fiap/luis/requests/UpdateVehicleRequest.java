@@ -0,0 +1,10 @@
+package hackthon.fiap.luis.requests;
+
+public record UpdateVehicleRequest(String brand, String model, Integer year, String color, Double price) {
+    public UpdateVehicleRequest {
+        brand = RequestFields.optional(brand);
+        model = RequestFields.optional(model);
+        color = RequestFields.optional(color);
+        price = RequestFields.finite("price", price);
+    }
+}
@@ -0,0 +1,27 @@
+package hackthon.fiap.luis.router;
+
+import java.util.function.Supplier;
+
+final class Lazy<T> implements Supplier<T> {
+    private final Supplier<? extends T> factory;
+    private volatile T value;
+
+    Lazy(Supplier<? extends T> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public T get() {
+        T current = value;
+        if (current == null) {
+            synchronized (this) {
+                current = value;
+                if (current == null) {
+                    current = factory.get();
+                    value = current;
+                }
+            }
+        }
+        return current;
+    }
+}
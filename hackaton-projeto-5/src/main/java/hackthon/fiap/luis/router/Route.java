@@ -0,0 +1,52 @@
+package hackthon.fiap.luis.router;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+record Route(String routeKey, String method, String[] segments, int parameterCount, RouteTarget target) {
+    static Route of(String routeKey, RouteTarget target) {
+        int space = routeKey.indexOf(' ');
+        if (space < 1 || space == routeKey.length() - 1 || routeKey.charAt(space + 1) != '/') {
+            throw new IllegalArgumentException("Route key must look like 'METHOD /path': " + routeKey);
+        }
+        String[] segments = split(routeKey.substring(space + 1));
+        int parameters = 0;
+        for (String segment : segments) {
+            if (isParameter(segment)) {
+                parameters++;
+            }
+        }
+        return new Route(routeKey, routeKey.substring(0, space), segments, parameters, target);
+    }
+
+    Map<String, String> match(String[] path) {
+        if (path.length != segments.length) {
+            return null;
+        }
+        Map<String, String> parameters = parameterCount == 0 ? Map.of() : new LinkedHashMap<>(parameterCount * 2);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (isParameter(segment)) {
+                if (path[i].isEmpty()) {
+                    return null;
+                }
+                parameters.put(segment.substring(1, segment.length() - 1), path[i]);
+            } else if (!segment.equals(path[i])) {
+                return null;
+            }
+        }
+        return parameters;
+    }
+
+    static String[] split(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        if (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+    }
+
+    private static boolean isParameter(String segment) {
+        return segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}");
+    }
+}
@@ -0,0 +1,6 @@
+package hackthon.fiap.luis.router;
+
+import java.util.Map;
+
+record RouteMatch(Route route, Map<String, String> pathParameters) {
+}
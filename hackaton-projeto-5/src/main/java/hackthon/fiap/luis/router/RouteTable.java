@@ -0,0 +1,138 @@
+package hackthon.fiap.luis.router;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import hackthon.fiap.luis.common.StreamingApiResponse;
+
+import java.io.ByteArrayInputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public final class RouteTable {
+    private final Map<String, Route> byKey;
+    private final Map<String, Route[]> byMethod;
+
+    private RouteTable(Builder builder) {
+        this.byKey = Map.copyOf(builder.routes);
+        Map<String, List<Route>> grouped = new HashMap<>();
+        for (Route route : builder.routes.values()) {
+            grouped.computeIfAbsent(route.method(), ignored -> new ArrayList<>()).add(route);
+        }
+        Map<String, Route[]> byMethod = new HashMap<>();
+        grouped.forEach((method, routes) -> byMethod.put(method, routes.stream()
+                .sorted(Comparator.comparingInt(Route::parameterCount))
+                .toArray(Route[]::new)));
+        this.byMethod = Map.copyOf(byMethod);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return byKey.size();
+    }
+
+    RouteMatch resolve(Map<String, Object> event) {
+        Route exact = byKey.get(String.valueOf(event.get("routeKey")));
+        if (exact == null && event.get("resource") != null) {
+            exact = byKey.get(event.get("httpMethod") + " " + event.get("resource"));
+        }
+        if (exact != null) {
+            return new RouteMatch(exact, Map.of());
+        }
+
+        String method = method(event);
+        String path = path(event);
+        Route[] candidates = method == null || path == null ? null : byMethod.get(method);
+        if (candidates == null) {
+            return null;
+        }
+        String[] segments = Route.split(path);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = URLDecoder.decode(segments[i], StandardCharsets.UTF_8);
+        }
+        for (Route route : candidates) {
+            Map<String, String> parameters = route.match(segments);
+            if (parameters != null) {
+                return new RouteMatch(route, parameters);
+            }
+        }
+        return null;
+    }
+
+    static String method(Map<String, Object> event) {
+        if (event.get("requestContext") instanceof Map<?, ?> requestContext
+                && requestContext.get("http") instanceof Map<?, ?> http
+                && http.get("method") != null) {
+            return String.valueOf(http.get("method")).toUpperCase();
+        }
+        Object method = event.get("httpMethod");
+        return method == null ? null : String.valueOf(method).toUpperCase();
+    }
+
+    static String path(Map<String, Object> event) {
+        Object raw = event.get("rawPath");
+        if (raw == null) {
+            raw = event.get("path");
+        }
+        if (raw == null) {
+            return null;
+        }
+        String path = String.valueOf(raw);
+        if (event.get("requestContext") instanceof Map<?, ?> requestContext
+                && requestContext.get("stage") instanceof String stage
+                && !stage.isEmpty() && !"$default".equals(stage)
+                && path.startsWith("/" + stage + "/")) {
+            path = path.substring(stage.length() + 1);
+        }
+        return path;
+    }
+
+    public static final class Builder {
+        private final Map<String, Route> routes = new LinkedHashMap<>();
+        private final Map<Class<?>, Lazy<?>> instances = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public <T extends RequestHandler<Map<String, Object>, Map<String, Object>>> Builder handler(
+                String routeKey,
+                Class<T> type,
+                Supplier<T> factory
+        ) {
+            Lazy<T> handler = instance(type, factory);
+            return add(routeKey, (event, rawEvent, output, context) ->
+                    StreamingApiResponse.write(output, handler.get().handleRequest(event, context)));
+        }
+
+        public <T extends RequestStreamHandler> Builder stream(String routeKey, Class<T> type, Supplier<T> factory) {
+            Lazy<T> handler = instance(type, factory);
+            return add(routeKey, (event, rawEvent, output, context) ->
+                    handler.get().handleRequest(new ByteArrayInputStream(rawEvent), output, context));
+        }
+
+        public RouteTable build() {
+            return new RouteTable(this);
+        }
+
+        private Builder add(String routeKey, RouteTarget target) {
+            if (routes.putIfAbsent(routeKey, Route.of(routeKey, target)) != null) {
+                throw new IllegalArgumentException("Duplicate route: " + routeKey);
+            }
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Lazy<T> instance(Class<T> type, Supplier<T> factory) {
+            return (Lazy<T>) instances.computeIfAbsent(type, ignored -> new Lazy<>(factory));
+        }
+    }
+}
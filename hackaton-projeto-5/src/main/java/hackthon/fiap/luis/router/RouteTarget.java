@@ -0,0 +1,11 @@
+package hackthon.fiap.luis.router;
+
+import com.amazonaws.services.lambda.runtime.Context;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+interface RouteTarget {
+    void invoke(Map<String, Object> event, byte[] rawEvent, OutputStream output, Context context) throws IOException;
+}
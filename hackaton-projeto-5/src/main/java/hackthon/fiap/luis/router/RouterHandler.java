@@ -0,0 +1,82 @@
+package hackthon.fiap.luis.router;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import hackthon.fiap.luis.common.ApiResponse;
+import hackthon.fiap.luis.common.JsonUtils;
+import hackthon.fiap.luis.common.StreamingApiResponse;
+import hackthon.fiap.luis.handlers.BatchGetReservationsHandler;
+import hackthon.fiap.luis.handlers.BatchGetSalesHandler;
+import hackthon.fiap.luis.handlers.BulkImportVehiclesHandler;
+import hackthon.fiap.luis.handlers.CreateClientHandler;
+import hackthon.fiap.luis.handlers.CreateVehicleHandler;
+import hackthon.fiap.luis.handlers.GetClientHandler;
+import hackthon.fiap.luis.handlers.GetReservationHandler;
+import hackthon.fiap.luis.handlers.GetSaleHandler;
+import hackthon.fiap.luis.handlers.GetSalesReportHandler;
+import hackthon.fiap.luis.handlers.ListSoldVehiclesStreamHandler;
+import hackthon.fiap.luis.handlers.ListVehiclesForSaleStreamHandler;
+import hackthon.fiap.luis.handlers.LookupClientHandler;
+import hackthon.fiap.luis.handlers.PaymentCallbackHandler;
+import hackthon.fiap.luis.handlers.SearchVehiclesHandler;
+import hackthon.fiap.luis.handlers.StartPurchaseSagaHandler;
+import hackthon.fiap.luis.handlers.UpdateVehicleHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RouterHandler implements RequestStreamHandler {
+    static final RouteTable ROUTES = RouteTable.builder()
+            .handler("POST /vehicles", CreateVehicleHandler.class, CreateVehicleHandler::new)
+            .handler("POST /vehicles/bulk", BulkImportVehiclesHandler.class, BulkImportVehiclesHandler::new)
+            .handler("PUT /vehicles/{vehicleId}", UpdateVehicleHandler.class, UpdateVehicleHandler::new)
+            .stream("GET /vehicles/for-sale", ListVehiclesForSaleStreamHandler.class, ListVehiclesForSaleStreamHandler::new)
+            .stream("GET /vehicles/sold", ListSoldVehiclesStreamHandler.class, ListSoldVehiclesStreamHandler::new)
+            .handler("GET /vehicles/search", SearchVehiclesHandler.class, SearchVehiclesHandler::new)
+            .handler("POST /clients", CreateClientHandler.class, CreateClientHandler::new)
+            .handler("POST /buyers", CreateClientHandler.class, CreateClientHandler::new)
+            .handler("GET /clients/lookup", LookupClientHandler.class, LookupClientHandler::new)
+            .handler("GET /clients/{clientId}", GetClientHandler.class, GetClientHandler::new)
+            .handler("POST /sales", StartPurchaseSagaHandler.class, StartPurchaseSagaHandler::new)
+            .handler("GET /sales/{saleId}", GetSaleHandler.class, GetSaleHandler::new)
+            .handler("GET /sales", BatchGetSalesHandler.class, BatchGetSalesHandler::new)
+            .handler("GET /reports/sales", GetSalesReportHandler.class, GetSalesReportHandler::new)
+            .handler("GET /reservations/{reservationId}", GetReservationHandler.class, GetReservationHandler::new)
+            .handler("GET /reservations", BatchGetReservationsHandler.class, BatchGetReservationsHandler::new)
+            .handler("POST /payments/callback", PaymentCallbackHandler.class, PaymentCallbackHandler::new)
+            .build();
+
+    @Override
+    public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+        byte[] rawEvent = input.readAllBytes();
+        Map<String, Object> event;
+        RouteMatch match;
+        try {
+            event = JsonUtils.readEvent(new ByteArrayInputStream(rawEvent));
+            match = ROUTES.resolve(event);
+        } catch (Exception e) {
+            context.getLogger().log("Router error: " + e.getMessage());
+            StreamingApiResponse.write(output, ApiResponse.serverError("Could not route request"));
+            return;
+        }
+        if (match == null) {
+            StreamingApiResponse.write(output, ApiResponse.notFound(
+                    "No route for " + RouteTable.method(event) + " " + RouteTable.path(event)));
+            return;
+        }
+        if (!match.pathParameters().isEmpty()) {
+            Map<String, Object> pathParameters = new HashMap<>(match.pathParameters());
+            if (event.get("pathParameters") instanceof Map<?, ?> existing) {
+                existing.forEach((key, value) -> pathParameters.put(String.valueOf(key), value));
+            }
+            event.put("pathParameters", pathParameters);
+            rawEvent = JsonUtils.toJson(event).getBytes(StandardCharsets.UTF_8);
+        }
+        match.route().target().invoke(event, rawEvent, output, context);
+    }
+}
@@ -0,0 +1,10 @@
+package hackthon.fiap.luis.runtime;
+
+import com.amazonaws.services.lambda.runtime.Context;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+interface FunctionTarget {
+    void invoke(byte[] event, OutputStream output, Context context) throws IOException;
+}
@@ -0,0 +1,101 @@
+package hackthon.fiap.luis.runtime;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import hackthon.fiap.luis.common.JsonUtils;
+import hackthon.fiap.luis.handlers.BatchGetReservationsHandler;
+import hackthon.fiap.luis.handlers.BatchGetSalesHandler;
+import hackthon.fiap.luis.handlers.BulkImportVehiclesHandler;
+import hackthon.fiap.luis.handlers.CreateClientHandler;
+import hackthon.fiap.luis.handlers.CreateVehicleHandler;
+import hackthon.fiap.luis.handlers.GetClientHandler;
+import hackthon.fiap.luis.handlers.GetReservationHandler;
+import hackthon.fiap.luis.handlers.GetSaleHandler;
+import hackthon.fiap.luis.handlers.GetSalesReportHandler;
+import hackthon.fiap.luis.handlers.ListSoldVehiclesStreamHandler;
+import hackthon.fiap.luis.handlers.ListVehiclesForSaleStreamHandler;
+import hackthon.fiap.luis.handlers.LookupClientHandler;
+import hackthon.fiap.luis.handlers.PaymentCallbackHandler;
+import hackthon.fiap.luis.handlers.SearchVehiclesHandler;
+import hackthon.fiap.luis.handlers.StartPurchaseSagaHandler;
+import hackthon.fiap.luis.handlers.UpdateVehicleHandler;
+import hackthon.fiap.luis.router.RouterHandler;
+import hackthon.fiap.luis.saga.CancelSaleHandler;
+import hackthon.fiap.luis.saga.CheckPaymentStatusHandler;
+import hackthon.fiap.luis.saga.CompleteSaleHandler;
+import hackthon.fiap.luis.saga.GeneratePaymentCodeHandler;
+import hackthon.fiap.luis.saga.ReserveVehicleHandler;
+import hackthon.fiap.luis.saga.ValidateClientHandler;
+import hackthon.fiap.luis.streams.SalesAggregatesStreamHandler;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+public final class HandlerRegistry {
+    private static final Map<String, Supplier<FunctionTarget>> HANDLERS = Map.ofEntries(
+            handler(CreateVehicleHandler.class, CreateVehicleHandler::new),
+            handler(BulkImportVehiclesHandler.class, BulkImportVehiclesHandler::new),
+            handler(UpdateVehicleHandler.class, UpdateVehicleHandler::new),
+            stream(ListVehiclesForSaleStreamHandler.class, ListVehiclesForSaleStreamHandler::new),
+            stream(ListSoldVehiclesStreamHandler.class, ListSoldVehiclesStreamHandler::new),
+            handler(SearchVehiclesHandler.class, SearchVehiclesHandler::new),
+            handler(CreateClientHandler.class, CreateClientHandler::new),
+            handler(LookupClientHandler.class, LookupClientHandler::new),
+            handler(GetClientHandler.class, GetClientHandler::new),
+            handler(StartPurchaseSagaHandler.class, StartPurchaseSagaHandler::new),
+            handler(GetSaleHandler.class, GetSaleHandler::new),
+            handler(BatchGetSalesHandler.class, BatchGetSalesHandler::new),
+            handler(GetSalesReportHandler.class, GetSalesReportHandler::new),
+            handler(GetReservationHandler.class, GetReservationHandler::new),
+            handler(BatchGetReservationsHandler.class, BatchGetReservationsHandler::new),
+            handler(PaymentCallbackHandler.class, PaymentCallbackHandler::new),
+            handler(SalesAggregatesStreamHandler.class, SalesAggregatesStreamHandler::new),
+            handler(ValidateClientHandler.class, ValidateClientHandler::new),
+            handler(ReserveVehicleHandler.class, ReserveVehicleHandler::new),
+            handler(GeneratePaymentCodeHandler.class, GeneratePaymentCodeHandler::new),
+            handler(CheckPaymentStatusHandler.class, CheckPaymentStatusHandler::new),
+            handler(CompleteSaleHandler.class, CompleteSaleHandler::new),
+            handler(CancelSaleHandler.class, CancelSaleHandler::new),
+            stream(RouterHandler.class, RouterHandler::new)
+    );
+
+    private HandlerRegistry() {
+    }
+
+    public static Set<String> names() {
+        return new TreeSet<>(HANDLERS.keySet());
+    }
+
+    static FunctionTarget create(String handler) {
+        if (handler == null || handler.isBlank()) {
+            throw new IllegalArgumentException("_HANDLER is not set");
+        }
+        int separator = handler.indexOf("::");
+        String className = separator < 0 ? handler : handler.substring(0, separator);
+        Supplier<FunctionTarget> factory = HANDLERS.get(className);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown handler: " + handler);
+        }
+        return factory.get();
+    }
+
+    private static <T extends RequestHandler<Map<String, Object>, Map<String, Object>>>
+    Map.Entry<String, Supplier<FunctionTarget>> handler(Class<T> type, Supplier<T> factory) {
+        return Map.entry(type.getName(), () -> {
+            T handler = factory.get();
+            return (event, output, context) -> JsonUtils.write(output,
+                    handler.handleRequest(JsonUtils.readEvent(new ByteArrayInputStream(event)), context));
+        });
+    }
+
+    private static <T extends RequestStreamHandler>
+    Map.Entry<String, Supplier<FunctionTarget>> stream(Class<T> type, Supplier<T> factory) {
+        return Map.entry(type.getName(), () -> {
+            T handler = factory.get();
+            return (event, output, context) -> handler.handleRequest(new ByteArrayInputStream(event), output, context);
+        });
+    }
+}
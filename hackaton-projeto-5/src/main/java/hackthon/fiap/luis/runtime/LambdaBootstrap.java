@@ -0,0 +1,36 @@
+package hackthon.fiap.luis.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public final class LambdaBootstrap {
+    private LambdaBootstrap() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        RuntimeApiClient runtime = new RuntimeApiClient(System.getenv("AWS_LAMBDA_RUNTIME_API"));
+        FunctionTarget target;
+        try {
+            target = HandlerRegistry.create(System.getenv("_HANDLER"));
+        } catch (RuntimeException | Error e) {
+            runtime.initFailed(e);
+            throw e;
+        }
+
+        while (true) {
+            RuntimeApiClient.Invocation invocation = runtime.next();
+            if (invocation.traceId() != null) {
+                System.setProperty("com.amazonaws.xray.traceHeader", invocation.traceId());
+            }
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            try {
+                target.invoke(invocation.event(), response, new InvocationContext(
+                        invocation.requestId(), invocation.invokedFunctionArn(), invocation.deadlineMillis()));
+            } catch (Exception e) {
+                runtime.fail(invocation.requestId(), e);
+                continue;
+            }
+            runtime.respond(invocation.requestId(), response.toByteArray());
+        }
+    }
+}
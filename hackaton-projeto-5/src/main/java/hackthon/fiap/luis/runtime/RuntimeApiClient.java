@@ -0,0 +1,86 @@
+package hackthon.fiap.luis.runtime;
+
+import hackthon.fiap.luis.common.JsonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class RuntimeApiClient {
+    private static final String VERSION = "/2018-06-01/runtime";
+
+    private final String baseUrl;
+
+    RuntimeApiClient(String runtimeApi) {
+        this.baseUrl = "http://" + runtimeApi + VERSION;
+    }
+
+    Invocation next() throws IOException {
+        HttpURLConnection connection = open("/invocation/next", "GET");
+        try (InputStream body = connection.getInputStream()) {
+            byte[] event = body.readAllBytes();
+            String deadline = connection.getHeaderField("Lambda-Runtime-Deadline-Ms");
+            return new Invocation(
+                    connection.getHeaderField("Lambda-Runtime-Aws-Request-Id"),
+                    connection.getHeaderField("Lambda-Runtime-Invoked-Function-Arn"),
+                    connection.getHeaderField("Lambda-Runtime-Trace-Id"),
+                    deadline == null ? Long.MAX_VALUE : Long.parseLong(deadline),
+                    event
+            );
+        }
+    }
+
+    void respond(String requestId, byte[] response) throws IOException {
+        post("/invocation/" + requestId + "/response", response, null);
+    }
+
+    void fail(String requestId, Throwable error) throws IOException {
+        post("/invocation/" + requestId + "/error", errorBody(error), "Unhandled");
+    }
+
+    void initFailed(Throwable error) throws IOException {
+        post("/init/error", errorBody(error), "Runtime.InitError");
+    }
+
+    private void post(String path, byte[] body, String errorType) throws IOException {
+        HttpURLConnection connection = open(path, "POST");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(body.length);
+        if (errorType != null) {
+            connection.setRequestProperty("Lambda-Runtime-Function-Error-Type", errorType);
+        }
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(body);
+        }
+        int status = connection.getResponseCode();
+        try (InputStream ignored = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (status >= 300) {
+                throw new IOException("Runtime API " + path + " returned " + status);
+            }
+        }
+    }
+
+    private HttpURLConnection open(String path, String method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setReadTimeout(0);
+        return connection;
+    }
+
+    private static byte[] errorBody(Throwable error) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("errorMessage", String.valueOf(error.getMessage()));
+        body.put("errorType", error.getClass().getName());
+        body.put("stackTrace", Arrays.stream(error.getStackTrace()).map(String::valueOf).toList());
+        return JsonUtils.toJson(body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    record Invocation(String requestId, String invokedFunctionArn, String traceId, long deadlineMillis, byte[] event) {
+    }
+}
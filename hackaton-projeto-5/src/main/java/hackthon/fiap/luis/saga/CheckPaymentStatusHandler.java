@@ -3,13 +3,14 @@ package hackthon.fiap.luis.saga;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.updates.StateTransitions;
+import hackthon.fiap.luis.updates.StatusValues;
+import hackthon.fiap.luis.updates.UpdateTemplate;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 
 public class CheckPaymentStatusHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
@@ -33,13 +34,13 @@ public class CheckPaymentStatusHandler implements RequestHandler<Map<String, Obj
             throw new IllegalStateException("Sale not found");
         }
 
-        String currentPaymentStatus = saleItem.getOrDefault("paymentStatus", AttributeValue.builder().s("PENDING").build()).s();
+        String currentPaymentStatus = saleItem.getOrDefault("paymentStatus", StatusValues.PENDING).s();
         if ("PENDING".equals(currentPaymentStatus)) {
             if (Boolean.TRUE.equals(mockApproved)) {
-                updateSaleStatus(saleId, "PAID", "PAID");
+                updateSaleStatus(saleId, StateTransitions.SALE_PAYMENT_CONFIRMED);
                 currentPaymentStatus = "PAID";
             } else if (Boolean.FALSE.equals(mockApproved) || attempt >= maxChecks) {
-                updateSaleStatus(saleId, "FAILED", "PAYMENT_TIMEOUT");
+                updateSaleStatus(saleId, StateTransitions.SALE_PAYMENT_TIMEOUT);
                 currentPaymentStatus = "FAILED";
             }
         }
@@ -51,30 +52,11 @@ public class CheckPaymentStatusHandler implements RequestHandler<Map<String, Obj
         return input;
     }
 
-    private void updateSaleStatus(String saleId, String paymentStatus, String status) {
-        Map<String, String> names = new HashMap<>();
-        names.put("#paymentStatus", "paymentStatus");
-        names.put("#status", "status");
-        names.put("#updatedAt", "updatedAt");
-
-        Map<String, AttributeValue> values = new HashMap<>();
-        values.put(":paymentStatus", AttributeValue.builder().s(paymentStatus).build());
-        values.put(":status", AttributeValue.builder().s(status).build());
-        values.put(":updatedAt", AttributeValue.builder().s(Instant.now().toString()).build());
-
-        String updateExpression = "SET #paymentStatus = :paymentStatus, #status = :status, #updatedAt = :updatedAt";
-        if ("PAID".equals(paymentStatus)) {
-            names.put("#paidAt", "paidAt");
-            values.put(":paidAt", AttributeValue.builder().s(Instant.now().toString()).build());
-            updateExpression += ", #paidAt = :paidAt";
-        }
-
-        dynamoDbClient.updateItem(UpdateItemRequest.builder()
-                .tableName(salesTable)
-                .key(Map.of("saleId", AttributeValue.builder().s(saleId).build()))
-                .updateExpression(updateExpression)
-                .expressionAttributeNames(names)
-                .expressionAttributeValues(values)
+    private void updateSaleStatus(String saleId, UpdateTemplate transition) {
+        dynamoDbClient.updateItem(transition.request(
+                        salesTable,
+                        Map.of("saleId", AttributeValue.builder().s(saleId).build()),
+                        AttributeValue.builder().s(Instant.now().toString()).build())
                 .build());
     }
 
@@ -3,12 +3,17 @@ package hackthon.fiap.luis.saga;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.CatalogVersion;
+import hackthon.fiap.luis.updates.StateTransitions;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionInProgressException;
 
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class CompleteSaleHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
@@ -25,71 +30,53 @@ public class CompleteSaleHandler implements RequestHandler<Map<String, Object>,
         String reservationId = readReservationId(input);
         String now = Instant.now().toString();
 
-        Map<String, String> vehicleNames = new HashMap<>();
-        vehicleNames.put("#status", "status");
-        vehicleNames.put("#saleId", "saleId");
-        vehicleNames.put("#soldAt", "soldAt");
-        vehicleNames.put("#updatedAt", "updatedAt");
-        vehicleNames.put("#clientId", "clientId");
-
-        Map<String, AttributeValue> vehicleValues = new HashMap<>();
-        vehicleValues.put(":reserved", AttributeValue.builder().s("RESERVED").build());
-        vehicleValues.put(":sold", AttributeValue.builder().s("SOLD").build());
-        vehicleValues.put(":saleId", AttributeValue.builder().s(saleId).build());
-        vehicleValues.put(":now", AttributeValue.builder().s(now).build());
-        vehicleValues.put(":clientId", AttributeValue.builder().s(clientId).build());
-
-        dynamoDbClient.updateItem(UpdateItemRequest.builder()
-                .tableName(vehiclesTable)
-                .key(Map.of("vehicleId", AttributeValue.builder().s(vehicleId).build()))
-                .conditionExpression("#status = :reserved AND #saleId = :saleId")
-                .updateExpression("SET #status = :sold, #soldAt = :now, #updatedAt = :now, #clientId = :clientId")
-                .expressionAttributeNames(vehicleNames)
-                .expressionAttributeValues(vehicleValues)
-                .build());
-
-        Map<String, String> saleNames = new HashMap<>();
-        saleNames.put("#status", "status");
-        saleNames.put("#updatedAt", "updatedAt");
-        saleNames.put("#completedAt", "completedAt");
-
-        Map<String, AttributeValue> saleValues = new HashMap<>();
-        saleValues.put(":status", AttributeValue.builder().s("COMPLETED").build());
-        saleValues.put(":now", AttributeValue.builder().s(now).build());
-
-        dynamoDbClient.updateItem(UpdateItemRequest.builder()
-                .tableName(salesTable)
-                .key(Map.of("saleId", AttributeValue.builder().s(saleId).build()))
-                .updateExpression("SET #status = :status, #updatedAt = :now, #completedAt = :now")
-                .expressionAttributeNames(saleNames)
-                .expressionAttributeValues(saleValues)
-                .build());
-
-        Map<String, String> reservationNames = new HashMap<>();
-        reservationNames.put("#status", "status");
-        reservationNames.put("#updatedAt", "updatedAt");
-        reservationNames.put("#confirmedAt", "confirmedAt");
-
-        Map<String, AttributeValue> reservationValues = new HashMap<>();
-        reservationValues.put(":status", AttributeValue.builder().s("CONFIRMED").build());
-        reservationValues.put(":reserved", AttributeValue.builder().s("RESERVED").build());
-        reservationValues.put(":awaitingPayment", AttributeValue.builder().s("AWAITING_PAYMENT").build());
-        reservationValues.put(":now", AttributeValue.builder().s(now).build());
-
-        dynamoDbClient.updateItem(UpdateItemRequest.builder()
-                .tableName(reservationsTable)
-                .key(Map.of("reservationId", AttributeValue.builder().s(reservationId).build()))
-                .conditionExpression("#status = :reserved OR #status = :awaitingPayment")
-                .updateExpression("SET #status = :status, #updatedAt = :now, #confirmedAt = :now")
-                .expressionAttributeNames(reservationNames)
-                .expressionAttributeValues(reservationValues)
-                .build());
+        AttributeValue nowValue = AttributeValue.builder().s(now).build();
+        AttributeValue saleIdValue = AttributeValue.builder().s(saleId).build();
+
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(
+                            TransactWriteItem.builder().update(StateTransitions.VEHICLE_SELL.transactUpdate(
+                                    vehiclesTable,
+                                    Map.of("vehicleId", AttributeValue.builder().s(vehicleId).build()),
+                                    saleIdValue,
+                                    nowValue,
+                                    AttributeValue.builder().s(now.substring(0, 7)).build(),
+                                    AttributeValue.builder().s(clientId).build()).build()).build(),
+                            TransactWriteItem.builder().update(StateTransitions.SALE_COMPLETE.transactUpdate(
+                                    salesTable,
+                                    Map.of("saleId", saleIdValue),
+                                    nowValue).build()).build(),
+                            TransactWriteItem.builder().update(StateTransitions.RESERVATION_CONFIRM.transactUpdate(
+                                    reservationsTable,
+                                    Map.of("reservationId", AttributeValue.builder().s(reservationId).build()),
+                                    nowValue).build()).build())
+                    .build());
+        } catch (TransactionCanceledException e) {
+            if (!alreadyCompleted(e, saleId)) {
+                throw TransactionFailures.toSagaError(e, "Completion", saleId,
+                        new String[]{"vehicle " + vehicleId, "sale " + saleId, "reservation " + reservationId},
+                        new String[]{"RESERVED for this sale", "PAID", "RESERVED or AWAITING_PAYMENT"});
+            }
+            context.getLogger().log("Sale " + saleId + " was already completed");
+        } catch (TransactionInProgressException e) {
+            throw new SagaRetryableException("Completion of sale " + saleId + " is already in progress", e);
+        }
+        CatalogVersion.bump(dynamoDbClient, context, List.of(vehicleId));
 
         input.put("status", "COMPLETED");
         input.put("clientId", clientId);
         return input;
     }
 
+    private boolean alreadyCompleted(TransactionCanceledException e, String saleId) {
+        Map<String, AttributeValue> vehicle = TransactionFailures.item(e, 0);
+        return TransactionFailures.hasValue(vehicle, "status", "SOLD")
+                && TransactionFailures.hasValue(vehicle, "saleId", saleId)
+                && TransactionFailures.hasValue(TransactionFailures.item(e, 1), "status", "COMPLETED")
+                && TransactionFailures.hasValue(TransactionFailures.item(e, 2), "status", "CONFIRMED");
+    }
+
     private String readClientId(Map<String, Object> input) {
         Object raw = input.get("clientId");
         if (raw == null) {
@@ -4,14 +4,14 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.AwsClientFactory;
 import hackthon.fiap.luis.models.Sale;
+import hackthon.fiap.luis.models.SaleCodec;
+import hackthon.fiap.luis.updates.StateTransitions;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 
 public class GeneratePaymentCodeHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
@@ -36,11 +36,13 @@ public class GeneratePaymentCodeHandler implements RequestHandler<Map<String, Ob
         }
 
         String price = vehicle.get("price").n();
+        String brand = vehicle.containsKey("brand") ? vehicle.get("brand").s() : null;
         String paymentCode = "PAY-" + saleId.replace("-", "").substring(0, 10).toUpperCase();
         Sale sale = Sale.reserved(
                 saleId,
                 reservationId,
                 vehicleId,
+                brand,
                 clientId,
                 paymentCode,
                 Double.parseDouble(price)
@@ -48,27 +50,14 @@ public class GeneratePaymentCodeHandler implements RequestHandler<Map<String, Ob
 
         dynamoDbClient.putItem(PutItemRequest.builder()
                 .tableName(salesTable)
-                .item(sale.toItem())
+                .item(SaleCodec.toItem(sale))
                 .build());
 
-        Map<String, String> reservationNames = new HashMap<>();
-        reservationNames.put("#status", "status");
-        reservationNames.put("#updatedAt", "updatedAt");
-        reservationNames.put("#paymentCode", "paymentCode");
-
-        Map<String, AttributeValue> reservationValues = new HashMap<>();
-        reservationValues.put(":reserved", AttributeValue.builder().s("RESERVED").build());
-        reservationValues.put(":awaitingPayment", AttributeValue.builder().s("AWAITING_PAYMENT").build());
-        reservationValues.put(":updatedAt", AttributeValue.builder().s(Instant.now().toString()).build());
-        reservationValues.put(":paymentCode", AttributeValue.builder().s(paymentCode).build());
-
-        dynamoDbClient.updateItem(UpdateItemRequest.builder()
-                .tableName(reservationsTable)
-                .key(Map.of("reservationId", AttributeValue.builder().s(reservationId).build()))
-                .conditionExpression("#status = :reserved")
-                .updateExpression("SET #status = :awaitingPayment, #updatedAt = :updatedAt, #paymentCode = :paymentCode")
-                .expressionAttributeNames(reservationNames)
-                .expressionAttributeValues(reservationValues)
+        dynamoDbClient.updateItem(StateTransitions.RESERVATION_AWAIT_PAYMENT.request(
+                        reservationsTable,
+                        Map.of("reservationId", AttributeValue.builder().s(reservationId).build()),
+                        AttributeValue.builder().s(Instant.now().toString()).build(),
+                        AttributeValue.builder().s(paymentCode).build())
                 .build());
 
         input.put("clientId", clientId);
@@ -3,14 +3,25 @@ package hackthon.fiap.luis.saga;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.common.CatalogVersion;
 import hackthon.fiap.luis.models.Reservation;
+import hackthon.fiap.luis.models.ReservationCodec;
+import hackthon.fiap.luis.updates.StateTransitions;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.IdempotentParameterMismatchException;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionInProgressException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.HashMap;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -25,44 +36,53 @@ public class ReserveVehicleHandler implements RequestHandler<Map<String, Object>
         String clientId = readClientId(input);
         String saleId = String.valueOf(input.get("saleId"));
         int ttlMinutes = readTtlMinutes(input);
-        String reservationId = "res-" + UUID.randomUUID();
+        String reservationId = "res-" + nameUuid("reservation:" + saleId);
 
         if (vehicleId == null || vehicleId.isBlank()) {
             throw new IllegalArgumentException("vehicleId is required");
         }
 
-        Map<String, String> names = new HashMap<>();
-        names.put("#status", "status");
-        names.put("#updatedAt", "updatedAt");
-        names.put("#reservedAt", "reservedAt");
-        names.put("#saleId", "saleId");
-        names.put("#clientId", "clientId");
-        names.put("#reservationId", "reservationId");
-
-        Map<String, AttributeValue> values = new HashMap<>();
-        values.put(":available", AttributeValue.builder().s("AVAILABLE").build());
-        values.put(":reserved", AttributeValue.builder().s("RESERVED").build());
-        values.put(":updatedAt", AttributeValue.builder().s(Instant.now().toString()).build());
-        values.put(":reservedAt", AttributeValue.builder().s(Instant.now().toString()).build());
-        values.put(":saleId", AttributeValue.builder().s(saleId).build());
-        values.put(":clientId", AttributeValue.builder().s(clientId).build());
-        values.put(":reservationId", AttributeValue.builder().s(reservationId).build());
-
-        dynamoDbClient.updateItem(UpdateItemRequest.builder()
-                .tableName(vehiclesTable)
-                .key(Map.of("vehicleId", AttributeValue.builder().s(vehicleId).build()))
-                .conditionExpression("#status = :available")
-                .updateExpression("SET #status = :reserved, #updatedAt = :updatedAt, #reservedAt = :reservedAt, #saleId = :saleId, #clientId = :clientId, #reservationId = :reservationId")
-                .expressionAttributeNames(names)
-                .expressionAttributeValues(values)
-                .build());
-
-        Reservation reservation = Reservation.reserved(reservationId, saleId, vehicleId, clientId, ttlMinutes);
-        dynamoDbClient.putItem(PutItemRequest.builder()
-                .tableName(reservationsTable)
-                .item(reservation.toItem())
-                .conditionExpression("attribute_not_exists(reservationId)")
-                .build());
+        Instant now = readRequestedAt(input);
+        Reservation reservation = Reservation.reserved(reservationId, saleId, vehicleId, clientId, ttlMinutes, now);
+        Map<String, AttributeValue> vehicleKey = Map.of("vehicleId", AttributeValue.builder().s(vehicleId).build());
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .clientRequestToken(nameUuid("reserve:" + saleId))
+                    .transactItems(
+                            TransactWriteItem.builder().update(StateTransitions.VEHICLE_RESERVE.transactUpdate(
+                                    vehiclesTable,
+                                    vehicleKey,
+                                    AttributeValue.builder().s(now.toString()).build(),
+                                    AttributeValue.builder().s(saleId).build(),
+                                    AttributeValue.builder().s(clientId).build(),
+                                    AttributeValue.builder().s(reservationId).build()).build()).build(),
+                            TransactWriteItem.builder().put(Put.builder()
+                                    .tableName(reservationsTable)
+                                    .item(ReservationCodec.toItem(reservation))
+                                    .conditionExpression("attribute_not_exists(reservationId)")
+                                    .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                                    .build()).build())
+                    .build());
+        } catch (TransactionCanceledException e) {
+            if (!alreadyReserved(TransactionFailures.item(e, 0), TransactionFailures.item(e, 1), saleId)) {
+                throw TransactionFailures.toSagaError(e, "Reservation", saleId,
+                        new String[]{"vehicle " + vehicleId, "reservation " + reservationId},
+                        new String[]{"AVAILABLE", "absent"});
+            }
+            context.getLogger().log("Vehicle " + vehicleId + " was already reserved for sale " + saleId);
+        } catch (IdempotentParameterMismatchException e) {
+            Map<String, AttributeValue> vehicle = read(vehiclesTable, vehicleKey);
+            Map<String, AttributeValue> existing = read(reservationsTable,
+                    Map.of("reservationId", AttributeValue.builder().s(reservationId).build()));
+            if (!alreadyReserved(vehicle, existing, saleId)) {
+                throw new SagaConflictException("Reservation failed for sale " + saleId
+                        + ": a different reservation request is already being applied");
+            }
+            context.getLogger().log("Vehicle " + vehicleId + " was already reserved for sale " + saleId);
+        } catch (TransactionInProgressException e) {
+            throw new SagaRetryableException("Reservation of vehicle " + vehicleId + " is already in progress", e);
+        }
+        CatalogVersion.bump(dynamoDbClient, context, List.of(vehicleId));
 
         input.put("clientId", clientId);
         input.put("reservationId", reservationId);
@@ -70,6 +90,23 @@ public class ReserveVehicleHandler implements RequestHandler<Map<String, Object>
         return input;
     }
 
+    private boolean alreadyReserved(Map<String, AttributeValue> vehicle, Map<String, AttributeValue> reservation, String saleId) {
+        return TransactionFailures.hasValue(vehicle, "saleId", saleId)
+                && TransactionFailures.hasValue(reservation, "saleId", saleId);
+    }
+
+    private Map<String, AttributeValue> read(String table, Map<String, AttributeValue> key) {
+        return dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(table)
+                .key(key)
+                .consistentRead(true)
+                .build()).item();
+    }
+
+    private static String nameUuid(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
     private String readClientId(Map<String, Object> input) {
         Object raw = input.get("clientId");
         if (raw == null) {
@@ -82,6 +119,18 @@ public class ReserveVehicleHandler implements RequestHandler<Map<String, Object>
         return clientId;
     }
 
+    private Instant readRequestedAt(Map<String, Object> input) {
+        Object raw = input.get("requestedAt");
+        if (raw == null) {
+            return Instant.now();
+        }
+        try {
+            return Instant.parse(String.valueOf(raw));
+        } catch (DateTimeParseException e) {
+            return Instant.now();
+        }
+    }
+
     private int readTtlMinutes(Map<String, Object> input) {
         Object raw = input.get("reservationTtlMinutes");
         if (raw == null) {
@@ -0,0 +1,7 @@
+package hackthon.fiap.luis.saga;
+
+public class SagaConflictException extends RuntimeException {
+    public SagaConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package hackthon.fiap.luis.saga;
+
+public class SagaRetryableException extends RuntimeException {
+    public SagaRetryableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
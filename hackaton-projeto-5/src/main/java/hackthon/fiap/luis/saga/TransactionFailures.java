@@ -0,0 +1,75 @@
+package hackthon.fiap.luis.saga;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class TransactionFailures {
+    private static final Set<String> TRANSIENT_CODES = Set.of(
+            "TransactionConflict",
+            "ThrottlingError",
+            "ProvisionedThroughputExceeded"
+    );
+
+    private TransactionFailures() {
+    }
+
+    static Map<String, AttributeValue> item(TransactionCanceledException e, int index) {
+        List<CancellationReason> reasons = e.cancellationReasons();
+        return index < reasons.size() ? reasons.get(index).item() : null;
+    }
+
+    static RuntimeException toSagaError(
+            TransactionCanceledException e,
+            String action,
+            String saleId,
+            String[] records,
+            String[] expected
+    ) {
+        List<CancellationReason> reasons = e.cancellationReasons();
+        List<String> conflicts = new ArrayList<>();
+        List<String> transients = new ArrayList<>();
+        for (int i = 0; i < reasons.size() && i < records.length; i++) {
+            CancellationReason reason = reasons.get(i);
+            String code = reason.code();
+            if ("ConditionalCheckFailed".equals(code)) {
+                conflicts.add(records[i] + " is " + describe(reason.item(), saleId) + ", expected " + expected[i]);
+            } else if (TRANSIENT_CODES.contains(code)) {
+                transients.add(records[i] + ": " + code);
+            } else if (code != null && !"None".equals(code)) {
+                conflicts.add(records[i] + ": " + code + (reason.message() == null ? "" : " (" + reason.message() + ")"));
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            return new SagaConflictException(action + " failed for sale " + saleId + ": " + String.join("; ", conflicts));
+        }
+        if (!transients.isEmpty()) {
+            return new SagaRetryableException(action + " was interrupted for sale " + saleId + ": "
+                    + String.join("; ", transients), e);
+        }
+        return new SagaConflictException(action + " failed for sale " + saleId + ": " + e.getMessage());
+    }
+
+    static boolean hasValue(Map<String, AttributeValue> item, String attribute, String expected) {
+        if (item == null) {
+            return false;
+        }
+        AttributeValue value = item.get(attribute);
+        return value != null && expected.equals(value.s());
+    }
+
+    private static String describe(Map<String, AttributeValue> item, String saleId) {
+        if (item == null || item.isEmpty()) {
+            return "missing";
+        }
+        AttributeValue status = item.get("status");
+        AttributeValue owner = item.get("saleId");
+        String description = status == null ? "without status" : status.s();
+        return owner == null || saleId.equals(owner.s()) ? description : description + " (sale " + owner.s() + ")";
+    }
+}
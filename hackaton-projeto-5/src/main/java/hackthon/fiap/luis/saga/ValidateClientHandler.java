@@ -3,6 +3,7 @@ package hackthon.fiap.luis.saga;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import hackthon.fiap.luis.common.AwsClientFactory;
+import hackthon.fiap.luis.models.Client;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
@@ -22,7 +23,7 @@ public class ValidateClientHandler implements RequestHandler<Map<String, Object>
                 .key(Map.of("clientId", AttributeValue.builder().s(clientId).build()))
                 .build()).item();
 
-        if (client == null || client.isEmpty()) {
+        if (client == null || client.isEmpty() || Client.isUniquenessMarker(clientId)) {
             throw new IllegalStateException("Client does not exist");
         }
 
@@ -0,0 +1,297 @@
+package hackthon.fiap.luis.search;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+final class InvertedIndex {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^a-z0-9]+");
+    private static final int GRAM = 3;
+    private static final double[] PRICE_EDGES = {50_000, 100_000, 150_000, 250_000};
+    private static final String[] PRICE_LABELS = {"0-50000", "50000-100000", "100000-150000", "150000-250000", "250000+"};
+
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private final List<Map<String, AttributeValue>> items = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private final List<String> brands = new ArrayList<>();
+    private final List<String> models = new ArrayList<>();
+    private final List<String> colors = new ArrayList<>();
+    private final List<Integer> years = new ArrayList<>();
+    private final List<Double> prices = new ArrayList<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<String, BitSet> grams = new HashMap<>();
+    private final Map<String, BitSet> brandPostings = new HashMap<>();
+    private final Map<String, BitSet> modelPostings = new HashMap<>();
+    private final Map<String, BitSet> colorPostings = new HashMap<>();
+
+    int size() {
+        return live.cardinality();
+    }
+
+    void upsert(Map<String, AttributeValue> item) {
+        String vehicleId = string(item, "vehicleId");
+        if (vehicleId == null) {
+            return;
+        }
+        if (!"AVAILABLE".equals(string(item, "status"))) {
+            remove(vehicleId);
+            return;
+        }
+        Integer existing = docIds.get(vehicleId);
+        int doc;
+        if (existing != null) {
+            doc = existing;
+            unindex(doc);
+            items.set(doc, item);
+        } else {
+            doc = items.size();
+            docIds.put(vehicleId, doc);
+            items.add(item);
+            texts.add(null);
+            brands.add(null);
+            models.add(null);
+            colors.add(null);
+            years.add(null);
+            prices.add(null);
+        }
+        String brand = string(item, "brand");
+        String model = string(item, "model");
+        String color = string(item, "color");
+        brands.set(doc, brand);
+        models.set(doc, model);
+        colors.set(doc, color);
+        years.set(doc, number(item, "year") == null ? null : number(item, "year").intValue());
+        prices.set(doc, number(item, "price"));
+        texts.set(doc, normalize(join(brand, model, color)));
+        index(doc);
+    }
+
+    void remove(String vehicleId) {
+        Integer doc = docIds.remove(vehicleId);
+        if (doc != null) {
+            unindex(doc);
+            items.set(doc, null);
+        }
+    }
+
+    VehicleSearchResult search(VehicleSearchQuery query) {
+        BitSet matches = (BitSet) live.clone();
+        restrict(matches, brandPostings, query.brand());
+        restrict(matches, modelPostings, query.model());
+        restrict(matches, colorPostings, query.color());
+        if (query.text() != null) {
+            for (String term : NON_WORD.split(normalize(query.text()))) {
+                if (!term.isEmpty()) {
+                    matchTerm(matches, term);
+                }
+            }
+        }
+
+        List<Integer> hits = new ArrayList<>();
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        Map<String, Integer> brandFacet = new TreeMap<>();
+        Map<String, Integer> modelFacet = new TreeMap<>();
+        Map<String, Integer> yearFacet = new TreeMap<>();
+        Map<String, Integer> colorFacet = new TreeMap<>();
+        Map<String, Integer> priceFacet = new LinkedHashMap<>();
+        for (String label : PRICE_LABELS) {
+            priceFacet.put(label, 0);
+        }
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            Integer year = years.get(doc);
+            Double price = prices.get(doc);
+            if (!inRange(year, query.yearFrom(), query.yearTo()) || !inRange(price, query.minPrice(), query.maxPrice())) {
+                continue;
+            }
+            hits.add(doc);
+            count(brandFacet, brands.get(doc));
+            count(modelFacet, models.get(doc));
+            count(colorFacet, colors.get(doc));
+            count(yearFacet, year == null ? null : String.valueOf(year));
+            if (price != null) {
+                priceFacet.merge(priceBucket(price), 1, Integer::sum);
+            }
+        }
+        facets.put("brand", brandFacet);
+        facets.put("model", modelFacet);
+        facets.put("year", yearFacet);
+        facets.put("color", colorFacet);
+        facets.put("price", priceFacet);
+
+        hits.sort((left, right) -> {
+            int order = Double.compare(priceOrZero(left), priceOrZero(right));
+            return query.ascending() ? order : -order;
+        });
+        List<Map<String, AttributeValue>> page = new ArrayList<>(Math.min(hits.size(), query.limit()));
+        for (int i = 0; i < hits.size() && i < query.limit(); i++) {
+            page.add(items.get(hits.get(i)));
+        }
+        return new VehicleSearchResult(page, hits.size(), facets);
+    }
+
+    private void matchTerm(BitSet matches, String term) {
+        if (term.length() >= GRAM) {
+            for (String gram : grams(term)) {
+                BitSet posting = grams.get(gram);
+                if (posting == null) {
+                    matches.clear();
+                    return;
+                }
+                matches.and(posting);
+            }
+        }
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            if (!texts.get(doc).contains(term)) {
+                matches.clear(doc);
+            }
+        }
+    }
+
+    private void index(int doc) {
+        live.set(doc);
+        for (String gram : docGrams(texts.get(doc))) {
+            grams.computeIfAbsent(gram, key -> new BitSet()).set(doc);
+        }
+        post(brandPostings, brands.get(doc), doc);
+        post(modelPostings, models.get(doc), doc);
+        post(colorPostings, colors.get(doc), doc);
+    }
+
+    private void unindex(int doc) {
+        live.clear(doc);
+        for (String gram : docGrams(texts.get(doc))) {
+            unpost(grams, gram, doc);
+        }
+        unpost(brandPostings, facetKey(brands.get(doc)), doc);
+        unpost(modelPostings, facetKey(models.get(doc)), doc);
+        unpost(colorPostings, facetKey(colors.get(doc)), doc);
+    }
+
+    private static void post(Map<String, BitSet> postings, String value, int doc) {
+        String key = facetKey(value);
+        if (key != null) {
+            postings.computeIfAbsent(key, k -> new BitSet()).set(doc);
+        }
+    }
+
+    private static void unpost(Map<String, BitSet> postings, String key, int doc) {
+        if (key == null) {
+            return;
+        }
+        BitSet posting = postings.get(key);
+        if (posting != null) {
+            posting.clear(doc);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static void restrict(BitSet matches, Map<String, BitSet> postings, String value) {
+        String key = facetKey(value);
+        if (key == null) {
+            return;
+        }
+        BitSet posting = postings.get(key);
+        if (posting == null) {
+            matches.clear();
+        } else {
+            matches.and(posting);
+        }
+    }
+
+    private static List<String> docGrams(String text) {
+        List<String> result = new ArrayList<>();
+        if (text == null) {
+            return result;
+        }
+        for (String word : NON_WORD.split(text)) {
+            result.addAll(grams(word));
+        }
+        return result;
+    }
+
+    private static List<String> grams(String word) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i + GRAM <= word.length(); i++) {
+            result.add(word.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    private double priceOrZero(int doc) {
+        Double price = prices.get(doc);
+        return price == null ? 0 : price;
+    }
+
+    private static String priceBucket(double price) {
+        for (int i = 0; i < PRICE_EDGES.length; i++) {
+            if (price < PRICE_EDGES[i]) {
+                return PRICE_LABELS[i];
+            }
+        }
+        return PRICE_LABELS[PRICE_LABELS.length - 1];
+    }
+
+    private static <T extends Comparable<T>> boolean inRange(T value, T from, T to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        return (from == null || value.compareTo(from) >= 0) && (to == null || value.compareTo(to) <= 0);
+    }
+
+    private static void count(Map<String, Integer> facet, String value) {
+        if (value != null) {
+            facet.merge(value, 1, Integer::sum);
+        }
+    }
+
+    private static String facetKey(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return normalize(value.trim());
+    }
+
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static String join(String... values) {
+        StringBuilder text = new StringBuilder();
+        for (String value : values) {
+            if (value != null) {
+                text.append(value).append(' ');
+            }
+        }
+        return text.toString().trim();
+    }
+
+    private static String string(Map<String, AttributeValue> item, String key) {
+        AttributeValue value = item.get(key);
+        return value == null ? null : value.s();
+    }
+
+    private static Double number(Map<String, AttributeValue> item, String key) {
+        AttributeValue value = item.get(key);
+        if (value == null || value.n() == null) {
+            return null;
+        }
+        return Double.parseDouble(value.n());
+    }
+}
@@ -0,0 +1,160 @@
+package hackthon.fiap.luis.search;
+
+import hackthon.fiap.luis.common.BatchItemLoader;
+import hackthon.fiap.luis.common.CatalogVersion;
+import hackthon.fiap.luis.common.EnvConfig;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public final class VehicleSearchIndex {
+    private static final long NOT_BUILT = -1L;
+    private static final VehicleSearchIndex SHARED = new VehicleSearchIndex(
+            EnvConfig.intValue("SEARCH_INDEX_MAX_AGE_SECONDS", 300) * 1000L,
+            EnvConfig.intValue("SEARCH_INDEX_MAX_DELTA_VERSIONS", 200));
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private final long maxAgeMillis;
+    private final int maxDeltaVersions;
+
+    private InvertedIndex index = new InvertedIndex();
+    private long version = NOT_BUILT;
+    private long builtAt;
+
+    private VehicleSearchIndex(long maxAgeMillis, int maxDeltaVersions) {
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxDeltaVersions = maxDeltaVersions;
+    }
+
+    public static VehicleSearchIndex shared() {
+        return SHARED;
+    }
+
+    public void refreshIfStale(DynamoDbClient dynamoDbClient, String vehiclesTable, String statusPriceIndex) {
+        long current = CatalogVersion.current(dynamoDbClient);
+        if (!isStale(current)) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (!isStale(current)) {
+                return;
+            }
+            if (catchUp(dynamoDbClient, vehiclesTable, current)) {
+                return;
+            }
+            InvertedIndex rebuilt = load(dynamoDbClient, vehiclesTable, statusPriceIndex);
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+                version = current;
+                builtAt = System.currentTimeMillis();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public VehicleSearchResult search(VehicleSearchQuery query) {
+        lock.readLock().lock();
+        try {
+            return index.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean catchUp(DynamoDbClient dynamoDbClient, String vehiclesTable, long currentVersion) {
+        long from;
+        lock.readLock().lock();
+        try {
+            if (version == NOT_BUILT || System.currentTimeMillis() - builtAt > maxAgeMillis) {
+                return false;
+            }
+            from = version;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (currentVersion <= from || currentVersion - from > maxDeltaVersions) {
+            return false;
+        }
+        Set<String> changed = CatalogVersion.changedSince(dynamoDbClient, from, currentVersion);
+        if (changed == null) {
+            return false;
+        }
+        Map<String, Map<String, AttributeValue>> items =
+                new BatchItemLoader(dynamoDbClient, vehiclesTable, "vehicleId", true).load(new ArrayList<>(changed));
+        lock.writeLock().lock();
+        try {
+            for (String vehicleId : changed) {
+                Map<String, AttributeValue> item = items.get(vehicleId);
+                if (item == null) {
+                    index.remove(vehicleId);
+                } else {
+                    index.upsert(item);
+                }
+            }
+            version = currentVersion;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    private boolean isStale(long currentVersion) {
+        lock.readLock().lock();
+        try {
+            return version == NOT_BUILT
+                    || version != currentVersion
+                    || System.currentTimeMillis() - builtAt > maxAgeMillis;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static InvertedIndex load(DynamoDbClient dynamoDbClient, String vehiclesTable, String statusPriceIndex) {
+        InvertedIndex loaded = new InvertedIndex();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryRequest.Builder query = QueryRequest.builder()
+                    .tableName(vehiclesTable)
+                    .indexName(statusPriceIndex)
+                    .keyConditionExpression("#status = :status")
+                    .expressionAttributeNames(Map.of("#status", "status"))
+                    .expressionAttributeValues(Map.of(":status", AttributeValue.builder().s("AVAILABLE").build()));
+            if (startKey != null) {
+                query.exclusiveStartKey(startKey);
+            }
+            QueryResponse response = dynamoDbClient.query(query.build());
+            response.items().forEach(loaded::upsert);
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (startKey != null);
+        return loaded;
+    }
+}
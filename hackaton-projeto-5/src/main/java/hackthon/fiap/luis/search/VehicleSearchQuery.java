@@ -0,0 +1,69 @@
+package hackthon.fiap.luis.search;
+
+import hackthon.fiap.luis.common.HttpEventUtils;
+import hackthon.fiap.luis.common.PageRequest;
+
+import java.util.Map;
+
+public record VehicleSearchQuery(
+        String text,
+        String brand,
+        String model,
+        String color,
+        Integer yearFrom,
+        Integer yearTo,
+        Double minPrice,
+        Double maxPrice,
+        boolean ascending,
+        int limit
+) {
+    public static VehicleSearchQuery from(Map<String, Object> event) {
+        Integer year = optionalInt(event, "year");
+        return new VehicleSearchQuery(
+                HttpEventUtils.queryParam(event, "q"),
+                HttpEventUtils.queryParam(event, "brand"),
+                HttpEventUtils.queryParam(event, "model"),
+                HttpEventUtils.queryParam(event, "color"),
+                year != null ? year : optionalInt(event, "yearFrom"),
+                year != null ? year : optionalInt(event, "yearTo"),
+                optionalDouble(event, "minPrice"),
+                optionalDouble(event, "maxPrice"),
+                parseSort(HttpEventUtils.queryParam(event, "sort")),
+                PageRequest.from(event).limit()
+        );
+    }
+
+    private static Integer optionalInt(Map<String, Object> event, String key) {
+        String raw = HttpEventUtils.queryParam(event, key);
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Query parameter '" + key + "' must be an integer");
+        }
+    }
+
+    private static Double optionalDouble(Map<String, Object> event, String key) {
+        String raw = HttpEventUtils.queryParam(event, key);
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Query parameter '" + key + "' must be a number");
+        }
+    }
+
+    private static boolean parseSort(String raw) {
+        if (raw == null || raw.equalsIgnoreCase("asc")) {
+            return true;
+        }
+        if (raw.equalsIgnoreCase("desc")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Query parameter 'sort' must be asc or desc");
+    }
+}
@@ -0,0 +1,13 @@
+package hackthon.fiap.luis.search;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.List;
+import java.util.Map;
+
+public record VehicleSearchResult(
+        List<Map<String, AttributeValue>> items,
+        int total,
+        Map<String, Map<String, Integer>> facets
+) {
+}
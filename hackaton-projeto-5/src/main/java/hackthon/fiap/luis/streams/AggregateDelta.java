@@ -0,0 +1,69 @@
+package hackthon.fiap.luis.streams;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+final class AggregateDelta {
+    private final String aggregateType;
+    private final String aggregateKey;
+    private long units;
+    private BigDecimal revenue = BigDecimal.ZERO;
+    private long paymentSeconds;
+    private long paidCount;
+
+    AggregateDelta(String aggregateType, String aggregateKey) {
+        this.aggregateType = aggregateType;
+        this.aggregateKey = aggregateKey;
+    }
+
+    void add(SaleCompletion completion) {
+        units++;
+        revenue = revenue.add(completion.revenue());
+        if (completion.paymentSeconds() != null) {
+            paymentSeconds += completion.paymentSeconds();
+            paidCount++;
+        }
+    }
+
+    Map<String, AttributeValue> key() {
+        return Map.of(
+                "aggregateType", AttributeValue.builder().s(aggregateType).build(),
+                "aggregateKey", AttributeValue.builder().s(aggregateKey).build()
+        );
+    }
+
+    String updateExpression() {
+        String expression = "ADD #units :units, #revenue :revenue";
+        if (paidCount > 0) {
+            expression += ", #paymentSeconds :paymentSeconds, #paidCount :paidCount";
+        }
+        return expression + " SET #updatedAt = :now";
+    }
+
+    Map<String, String> names() {
+        Map<String, String> names = new HashMap<>();
+        names.put("#units", "units");
+        names.put("#revenue", "revenue");
+        names.put("#updatedAt", "updatedAt");
+        if (paidCount > 0) {
+            names.put("#paymentSeconds", "paymentSeconds");
+            names.put("#paidCount", "paidCount");
+        }
+        return names;
+    }
+
+    Map<String, AttributeValue> values(String now) {
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":units", AttributeValue.builder().n(String.valueOf(units)).build());
+        values.put(":revenue", AttributeValue.builder().n(revenue.toPlainString()).build());
+        values.put(":now", AttributeValue.builder().s(now).build());
+        if (paidCount > 0) {
+            values.put(":paymentSeconds", AttributeValue.builder().n(String.valueOf(paymentSeconds)).build());
+            values.put(":paidCount", AttributeValue.builder().n(String.valueOf(paidCount)).build());
+        }
+        return values;
+    }
+}
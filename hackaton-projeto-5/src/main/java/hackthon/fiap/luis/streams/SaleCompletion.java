@@ -0,0 +1,84 @@
+package hackthon.fiap.luis.streams;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+record SaleCompletion(
+        String sequenceNumber,
+        String saleId,
+        String day,
+        String brand,
+        BigDecimal revenue,
+        Long paymentSeconds
+) {
+    private static final String COMPLETED = "COMPLETED";
+
+    static SaleCompletion from(Map<String, Object> record) {
+        Map<String, Object> change = map(record.get("dynamodb"));
+        if (change == null) {
+            throw new IllegalArgumentException("Stream record without 'dynamodb' section");
+        }
+        Map<String, Object> newImage = map(change.get("NewImage"));
+        Map<String, Object> oldImage = map(change.get("OldImage"));
+        if (newImage == null || !COMPLETED.equals(attribute(newImage, "status", "S"))) {
+            return null;
+        }
+        if (oldImage != null && COMPLETED.equals(attribute(oldImage, "status", "S"))) {
+            return null;
+        }
+
+        String saleId = attribute(newImage, "saleId", "S");
+        String completedAt = attribute(newImage, "completedAt", "S");
+        if (completedAt == null) {
+            completedAt = attribute(newImage, "updatedAt", "S");
+        }
+        String totalPrice = attribute(newImage, "totalPrice", "N");
+        if (saleId == null || completedAt == null || totalPrice == null) {
+            throw new IllegalArgumentException("Completed sale image is missing saleId, completedAt or totalPrice");
+        }
+        String brand = attribute(newImage, "brand", "S");
+
+        try {
+            Instant completed = Instant.parse(completedAt);
+            return new SaleCompletion(
+                    String.valueOf(change.get("SequenceNumber")),
+                    saleId,
+                    completed.toString().substring(0, 10),
+                    brand == null || brand.isBlank() ? SalesAggregates.UNKNOWN_BRAND : brand,
+                    new BigDecimal(totalPrice),
+                    paymentSeconds(attribute(newImage, "createdAt", "S"), completed)
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Completed sale " + saleId + " has malformed attributes");
+        }
+    }
+
+    private static Long paymentSeconds(String createdAt, Instant completed) {
+        if (createdAt == null) {
+            return null;
+        }
+        try {
+            long seconds = Duration.between(Instant.parse(createdAt), completed).getSeconds();
+            return seconds < 0 ? null : seconds;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String attribute(Map<String, Object> image, String name, String type) {
+        Map<String, Object> value = map(image.get(name));
+        if (value == null) {
+            return null;
+        }
+        Object raw = value.get(type);
+        return raw == null ? null : String.valueOf(raw);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object raw) {
+        return raw instanceof Map<?, ?> value ? (Map<String, Object>) value : null;
+    }
+}
@@ -0,0 +1,13 @@
+package hackthon.fiap.luis.streams;
+
+public final class SalesAggregates {
+    public static final String TYPE_DAY = "DAY";
+    public static final String TYPE_BRAND = "BRAND";
+    public static final String TYPE_TOTAL = "TOTAL";
+    public static final String TYPE_APPLIED = "APPLIED";
+    public static final String TOTAL_KEY = "ALL";
+    public static final String UNKNOWN_BRAND = "UNKNOWN";
+
+    private SalesAggregates() {
+    }
+}
@@ -0,0 +1,141 @@
+package hackthon.fiap.luis.streams;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import hackthon.fiap.luis.common.AwsClientFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SalesAggregatesStreamHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
+    private static final int CHUNK_SIZE = 24;
+    private static final long MARKER_TTL_SECONDS = 7 * 24 * 3600L;
+
+    private final DynamoDbClient dynamoDbClient = AwsClientFactory.dynamoDb();
+    private final String aggregatesTable = System.getenv("SALES_AGGREGATES_TABLE");
+
+    @Override
+    public Map<String, Object> handleRequest(Map<String, Object> event, Context context) {
+        List<SaleCompletion> completions = new ArrayList<>();
+        List<Map<String, Object>> records = readRecords(event);
+        for (Map<String, Object> record : records) {
+            try {
+                SaleCompletion completion = SaleCompletion.from(record);
+                if (completion != null) {
+                    completions.add(completion);
+                }
+            } catch (IllegalArgumentException e) {
+                context.getLogger().log("Skipping sales stream record " + record.get("eventID") + ": " + e.getMessage());
+            }
+        }
+
+        List<Map<String, Object>> failures = new ArrayList<>();
+        int applied = 0;
+        for (int start = 0; start < completions.size(); start += CHUNK_SIZE) {
+            List<SaleCompletion> chunk = completions.subList(start, Math.min(start + CHUNK_SIZE, completions.size()));
+            try {
+                applied += apply(chunk);
+            } catch (Exception e) {
+                context.getLogger().log("Sales aggregates error: " + e.getMessage());
+                failures.add(Map.of("itemIdentifier", chunk.get(0).sequenceNumber()));
+                break;
+            }
+        }
+
+        context.getLogger().log("Sales aggregates: records=" + records.size()
+                + " completions=" + completions.size() + " applied=" + applied + " failed=" + failures.size());
+        return Map.of("batchItemFailures", failures);
+    }
+
+    private int apply(List<SaleCompletion> chunk) {
+        List<SaleCompletion> pending = new ArrayList<>(chunk);
+        while (!pending.isEmpty()) {
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                        .transactItems(transactItems(pending))
+                        .build());
+                return pending.size();
+            } catch (TransactionCanceledException e) {
+                pending = withoutAlreadyApplied(pending, e);
+            }
+        }
+        return 0;
+    }
+
+    private List<SaleCompletion> withoutAlreadyApplied(List<SaleCompletion> pending, TransactionCanceledException e) {
+        List<CancellationReason> reasons = e.cancellationReasons();
+        if (reasons == null || reasons.size() < pending.size()) {
+            throw e;
+        }
+        List<SaleCompletion> remaining = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            if (!"ConditionalCheckFailed".equals(reasons.get(i).code())) {
+                remaining.add(pending.get(i));
+            }
+        }
+        if (remaining.size() == pending.size()) {
+            throw e;
+        }
+        return remaining;
+    }
+
+    private List<TransactWriteItem> transactItems(List<SaleCompletion> completions) {
+        Instant now = Instant.now();
+        String expiresAt = String.valueOf(now.getEpochSecond() + MARKER_TTL_SECONDS);
+        List<TransactWriteItem> items = new ArrayList<>();
+        Map<String, AggregateDelta> deltas = new LinkedHashMap<>();
+        for (SaleCompletion completion : completions) {
+            items.add(TransactWriteItem.builder().put(Put.builder()
+                    .tableName(aggregatesTable)
+                    .item(Map.of(
+                            "aggregateType", AttributeValue.builder().s(SalesAggregates.TYPE_APPLIED).build(),
+                            "aggregateKey", AttributeValue.builder().s(completion.saleId()).build(),
+                            "expiresAt", AttributeValue.builder().n(expiresAt).build()))
+                    .conditionExpression("attribute_not_exists(aggregateKey)")
+                    .build()).build());
+            delta(deltas, SalesAggregates.TYPE_DAY, completion.day()).add(completion);
+            delta(deltas, SalesAggregates.TYPE_BRAND, completion.brand()).add(completion);
+            delta(deltas, SalesAggregates.TYPE_TOTAL, SalesAggregates.TOTAL_KEY).add(completion);
+        }
+        for (AggregateDelta delta : deltas.values()) {
+            items.add(TransactWriteItem.builder().update(Update.builder()
+                    .tableName(aggregatesTable)
+                    .key(delta.key())
+                    .updateExpression(delta.updateExpression())
+                    .expressionAttributeNames(delta.names())
+                    .expressionAttributeValues(delta.values(now.toString()))
+                    .build()).build());
+        }
+        return items;
+    }
+
+    private static AggregateDelta delta(Map<String, AggregateDelta> deltas, String type, String key) {
+        return deltas.computeIfAbsent(type + "#" + key, ignored -> new AggregateDelta(type, key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> readRecords(Map<String, Object> event) {
+        Object raw = event == null ? null : event.get("Records");
+        if (!(raw instanceof List<?> records)) {
+            return List.of();
+        }
+        List<Map<String, Object>> result = new ArrayList<>(records.size());
+        for (Object record : records) {
+            if (record instanceof Map<?, ?> map) {
+                result.add((Map<String, Object>) map);
+            }
+        }
+        return result;
+    }
+}
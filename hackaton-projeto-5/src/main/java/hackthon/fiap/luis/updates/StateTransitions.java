@@ -0,0 +1,116 @@
+package hackthon.fiap.luis.updates;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import static hackthon.fiap.luis.updates.StatusValues.AVAILABLE;
+import static hackthon.fiap.luis.updates.StatusValues.AWAITING_PAYMENT;
+import static hackthon.fiap.luis.updates.StatusValues.CANCELLED;
+import static hackthon.fiap.luis.updates.StatusValues.COMPLETED;
+import static hackthon.fiap.luis.updates.StatusValues.CONFIRMED;
+import static hackthon.fiap.luis.updates.StatusValues.FAILED;
+import static hackthon.fiap.luis.updates.StatusValues.PAID;
+import static hackthon.fiap.luis.updates.StatusValues.PAYMENT_FAILED;
+import static hackthon.fiap.luis.updates.StatusValues.PAYMENT_TIMEOUT;
+import static hackthon.fiap.luis.updates.StatusValues.RESERVED;
+import static hackthon.fiap.luis.updates.StatusValues.SOLD;
+
+public final class StateTransitions {
+    private static final AttributeValue ONE = AttributeValue.builder().n("1").build();
+
+    public static final UpdateTemplate VEHICLE_RESERVE = UpdateTemplate.builder("now", "saleId", "clientId", "reservationId")
+            .expect("status", AVAILABLE)
+            .set("status", RESERVED)
+            .set("updatedAt", "now")
+            .set("reservedAt", "now")
+            .set("saleId", "saleId")
+            .set("clientId", "clientId")
+            .set("reservationId", "reservationId")
+            .add("version", ONE)
+            .build();
+
+    public static final UpdateTemplate VEHICLE_SELL = UpdateTemplate.builder("saleId", "now", "soldMonth", "clientId")
+            .expect("status", RESERVED)
+            .expectParameter("saleId", "saleId")
+            .set("status", SOLD)
+            .set("soldAt", "now")
+            .set("soldMonth", "soldMonth")
+            .set("updatedAt", "now")
+            .set("clientId", "clientId")
+            .add("version", ONE)
+            .build();
+
+    public static final UpdateTemplate VEHICLE_RELEASE = UpdateTemplate.builder("saleId", "now")
+            .expect("status", RESERVED)
+            .expectParameter("saleId", "saleId")
+            .set("status", AVAILABLE)
+            .set("updatedAt", "now")
+            .remove("reservedAt", "saleId", "clientId")
+            .add("version", ONE)
+            .build();
+
+    public static final UpdateTemplate RESERVATION_AWAIT_PAYMENT = UpdateTemplate.builder("now", "paymentCode")
+            .expect("status", RESERVED)
+            .set("status", AWAITING_PAYMENT)
+            .set("updatedAt", "now")
+            .set("paymentCode", "paymentCode")
+            .build();
+
+    public static final UpdateTemplate RESERVATION_CONFIRM = UpdateTemplate.builder("now")
+            .expectAnyOf("status", RESERVED, AWAITING_PAYMENT)
+            .set("status", CONFIRMED)
+            .set("updatedAt", "now")
+            .set("confirmedAt", "now")
+            .build();
+
+    public static final UpdateTemplate RESERVATION_CANCEL = UpdateTemplate.builder("now", "reason")
+            .expectAnyOf("status", RESERVED, AWAITING_PAYMENT)
+            .set("status", CANCELLED)
+            .set("updatedAt", "now")
+            .set("cancelledAt", "now")
+            .set("cancelReason", "reason")
+            .build();
+
+    public static final UpdateTemplate SALE_COMPLETE = UpdateTemplate.builder("now")
+            .expect("status", PAID)
+            .set("status", COMPLETED)
+            .set("updatedAt", "now")
+            .set("completedAt", "now")
+            .build();
+
+    public static final UpdateTemplate SALE_CANCEL = UpdateTemplate.builder("now", "reason")
+            .set("status", CANCELLED)
+            .set("updatedAt", "now")
+            .set("cancelReason", "reason")
+            .build();
+
+    public static final UpdateTemplate SALE_PAYMENT_CONFIRMED = UpdateTemplate.builder("now")
+            .set("paymentStatus", PAID)
+            .set("status", PAID)
+            .set("updatedAt", "now")
+            .set("paidAt", "now")
+            .build();
+
+    public static final UpdateTemplate SALE_PAYMENT_TIMEOUT = UpdateTemplate.builder("now")
+            .set("paymentStatus", FAILED)
+            .set("status", PAYMENT_TIMEOUT)
+            .set("updatedAt", "now")
+            .build();
+
+    public static final UpdateTemplate SALE_CALLBACK_PAID = UpdateTemplate.builder("now", "providerReference")
+            .set("paymentStatus", PAID)
+            .set("status", PAID)
+            .set("updatedAt", "now")
+            .set("providerReference", "providerReference")
+            .set("paidAt", "now")
+            .build();
+
+    public static final UpdateTemplate SALE_CALLBACK_REJECTED = UpdateTemplate.builder("paymentStatus", "now", "providerReference")
+            .set("paymentStatus", "paymentStatus")
+            .set("status", PAYMENT_FAILED)
+            .set("updatedAt", "now")
+            .set("providerReference", "providerReference")
+            .build();
+
+    private StateTransitions() {
+    }
+}
@@ -0,0 +1,37 @@
+package hackthon.fiap.luis.updates;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class StatusValues {
+    private static final Map<String, AttributeValue> INTERNED = new HashMap<>();
+
+    public static final AttributeValue AVAILABLE = intern("AVAILABLE");
+    public static final AttributeValue RESERVED = intern("RESERVED");
+    public static final AttributeValue SOLD = intern("SOLD");
+    public static final AttributeValue AWAITING_PAYMENT = intern("AWAITING_PAYMENT");
+    public static final AttributeValue CONFIRMED = intern("CONFIRMED");
+    public static final AttributeValue CANCELLED = intern("CANCELLED");
+    public static final AttributeValue COMPLETED = intern("COMPLETED");
+    public static final AttributeValue PENDING = intern("PENDING");
+    public static final AttributeValue PAID = intern("PAID");
+    public static final AttributeValue FAILED = intern("FAILED");
+    public static final AttributeValue PAYMENT_TIMEOUT = intern("PAYMENT_TIMEOUT");
+    public static final AttributeValue PAYMENT_FAILED = intern("PAYMENT_FAILED");
+
+    private StatusValues() {
+    }
+
+    public static AttributeValue of(String status) {
+        AttributeValue interned = INTERNED.get(status);
+        return interned != null ? interned : AttributeValue.builder().s(status).build();
+    }
+
+    private static AttributeValue intern(String status) {
+        AttributeValue value = AttributeValue.builder().s(status).build();
+        INTERNED.put(status, value);
+        return value;
+    }
+}
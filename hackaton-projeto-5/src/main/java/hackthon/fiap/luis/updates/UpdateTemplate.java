@@ -0,0 +1,233 @@
+package hackthon.fiap.luis.updates;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class UpdateTemplate {
+    private final String updateExpression;
+    private final String conditionExpression;
+    private final Map<String, String> names;
+    private final Map<String, AttributeValue> constants;
+    private final String[] parameters;
+    private final int valueCapacity;
+
+    private UpdateTemplate(Builder builder) {
+        this.updateExpression = builder.updateExpression();
+        this.conditionExpression = builder.conditions.isEmpty() ? null : String.join(" AND ", builder.conditions);
+        this.names = Collections.unmodifiableMap(new LinkedHashMap<>(builder.names));
+        this.constants = Collections.unmodifiableMap(new LinkedHashMap<>(builder.constants));
+        this.parameters = builder.parameters.stream().map(parameter -> ":" + parameter).toArray(String[]::new);
+        this.valueCapacity = (int) Math.ceil((constants.size() + parameters.length) / 0.75);
+    }
+
+    public static Builder builder(String... parameters) {
+        return new Builder(parameters);
+    }
+
+    public UpdateItemRequest.Builder request(String table, Map<String, AttributeValue> key, AttributeValue... arguments) {
+        UpdateItemRequest.Builder request = UpdateItemRequest.builder()
+                .tableName(table)
+                .key(key)
+                .updateExpression(updateExpression)
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values(arguments));
+        if (conditionExpression != null) {
+            request.conditionExpression(conditionExpression);
+        }
+        return request;
+    }
+
+    public Update.Builder transactUpdate(String table, Map<String, AttributeValue> key, AttributeValue... arguments) {
+        Update.Builder update = Update.builder()
+                .tableName(table)
+                .key(key)
+                .updateExpression(updateExpression)
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values(arguments));
+        if (conditionExpression != null) {
+            update.conditionExpression(conditionExpression)
+                    .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD);
+        }
+        return update;
+    }
+
+    public String updateExpression() {
+        return updateExpression;
+    }
+
+    public String conditionExpression() {
+        return conditionExpression;
+    }
+
+    public Map<String, String> names() {
+        return names;
+    }
+
+    public Map<String, AttributeValue> values(AttributeValue... arguments) {
+        if (arguments.length != parameters.length) {
+            throw new IllegalArgumentException("Expected " + parameters.length + " arguments " + Arrays.toString(parameters)
+                    + " but got " + arguments.length);
+        }
+        if (arguments.length == 0) {
+            return constants;
+        }
+        Map<String, AttributeValue> values = new HashMap<>(valueCapacity);
+        values.putAll(constants);
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == null) {
+                throw new IllegalArgumentException(parameters[i].substring(1) + " is required");
+            }
+            values.put(parameters[i], arguments[i]);
+        }
+        return values;
+    }
+
+    public static final class Builder {
+        private final List<String> parameters;
+        private final Set<String> usedParameters = new LinkedHashSet<>();
+        private final List<String> sets = new ArrayList<>();
+        private final List<String> removes = new ArrayList<>();
+        private final List<String> adds = new ArrayList<>();
+        private final List<String> conditions = new ArrayList<>();
+        private final Map<String, String> names = new LinkedHashMap<>();
+        private final Map<String, AttributeValue> constants = new LinkedHashMap<>();
+        private final Map<AttributeValue, String> constantPlaceholders = new HashMap<>();
+
+        private Builder(String... parameters) {
+            this.parameters = List.of(parameters);
+            if (new LinkedHashSet<>(this.parameters).size() != parameters.length) {
+                throw new IllegalArgumentException("Duplicate parameters: " + this.parameters);
+            }
+        }
+
+        public Builder set(String attribute, AttributeValue constant) {
+            sets.add(name(attribute) + " = " + constant(constant));
+            return this;
+        }
+
+        public Builder set(String attribute, String parameter) {
+            sets.add(name(attribute) + " = " + parameter(parameter));
+            return this;
+        }
+
+        public Builder remove(String... attributes) {
+            for (String attribute : attributes) {
+                removes.add(name(attribute));
+            }
+            return this;
+        }
+
+        public Builder add(String attribute, AttributeValue delta) {
+            adds.add(name(attribute) + " " + constant(delta));
+            return this;
+        }
+
+        public Builder expect(String attribute, AttributeValue expected) {
+            conditions.add(name(attribute) + " = " + constant(expected));
+            return this;
+        }
+
+        public Builder expectParameter(String attribute, String parameter) {
+            conditions.add(name(attribute) + " = " + parameter(parameter));
+            return this;
+        }
+
+        public Builder expectAnyOf(String attribute, AttributeValue... expected) {
+            String name = name(attribute);
+            List<String> alternatives = new ArrayList<>(expected.length);
+            for (AttributeValue value : expected) {
+                alternatives.add(name + " = " + constant(value));
+            }
+            String joined = String.join(" OR ", alternatives);
+            conditions.add(expected.length > 1 ? "(" + joined + ")" : joined);
+            return this;
+        }
+
+        public UpdateTemplate build() {
+            if (sets.isEmpty() && removes.isEmpty() && adds.isEmpty()) {
+                throw new IllegalStateException("Update template has no actions");
+            }
+            if (usedParameters.size() != parameters.size()) {
+                List<String> unused = new ArrayList<>(parameters);
+                unused.removeAll(usedParameters);
+                throw new IllegalStateException("Unused parameters: " + unused);
+            }
+            return new UpdateTemplate(this);
+        }
+
+        private String updateExpression() {
+            StringBuilder expression = new StringBuilder();
+            if (!sets.isEmpty()) {
+                expression.append("SET ").append(String.join(", ", sets));
+            }
+            if (!removes.isEmpty()) {
+                if (expression.length() > 0) {
+                    expression.append(' ');
+                }
+                expression.append("REMOVE ").append(String.join(", ", removes));
+            }
+            if (!adds.isEmpty()) {
+                if (expression.length() > 0) {
+                    expression.append(' ');
+                }
+                expression.append("ADD ").append(String.join(", ", adds));
+            }
+            return expression.toString();
+        }
+
+        private String name(String attribute) {
+            String placeholder = "#" + attribute;
+            names.put(placeholder, attribute);
+            return placeholder;
+        }
+
+        private String parameter(String parameter) {
+            if (!parameters.contains(parameter)) {
+                throw new IllegalArgumentException("Undeclared parameter: " + parameter);
+            }
+            usedParameters.add(parameter);
+            return ":" + parameter;
+        }
+
+        private String constant(AttributeValue value) {
+            return constantPlaceholders.computeIfAbsent(value, key -> {
+                String placeholder = ":" + constantName(key, constants.size());
+                if (parameters.contains(placeholder.substring(1)) || constants.containsKey(placeholder)) {
+                    placeholder = ":c" + constants.size();
+                }
+                constants.put(placeholder, key);
+                return placeholder;
+            });
+        }
+
+        private static String constantName(AttributeValue value, int index) {
+            String raw = value.s();
+            if (raw == null || !raw.matches("[A-Za-z][A-Za-z0-9_]*")) {
+                return "c" + index;
+            }
+            StringBuilder name = new StringBuilder(raw.length());
+            boolean upper = false;
+            for (char c : raw.toCharArray()) {
+                if (c == '_') {
+                    upper = true;
+                } else {
+                    name.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+                    upper = false;
+                }
+            }
+            return name.toString();
+        }
+    }
+}
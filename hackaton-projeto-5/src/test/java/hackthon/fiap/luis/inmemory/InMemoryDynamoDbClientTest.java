@@ -0,0 +1,269 @@
+package hackthon.fiap.luis.inmemory;
+
+import hackthon.fiap.luis.inmemory.TableSchema.IndexSchema;
+import hackthon.fiap.luis.inmemory.TableSchema.KeyAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryDynamoDbClientTest {
+    private static final String TABLE = "Vehicles";
+    private static final String INDEX = "status-price-index";
+
+    private InMemoryDynamoDbClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new InMemoryDynamoDbClient(List.of(TableSchema.of(TABLE, KeyAttribute.string("vehicleId"), null,
+                new IndexSchema(INDEX, KeyAttribute.string("status"), KeyAttribute.number("price")))));
+    }
+
+    @Test
+    void conditionalPutRejectsExistingItemAndReturnsItOnFailure() {
+        put(vehicle("v1", "AVAILABLE", 100));
+
+        ConditionalCheckFailedException error = assertThrows(ConditionalCheckFailedException.class, () ->
+                client.putItem(PutItemRequest.builder()
+                        .tableName(TABLE)
+                        .item(vehicle("v1", "SOLD", 200))
+                        .conditionExpression("attribute_not_exists(vehicleId)")
+                        .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                        .build()));
+
+        assertEquals("AVAILABLE", error.item().get("status").s());
+        assertEquals("AVAILABLE", get("v1").get("status").s());
+    }
+
+    @Test
+    void conditionalUpdateAppliesOnlyWhenExpressionHolds() {
+        put(vehicle("v1", "AVAILABLE", 100));
+
+        Map<String, AttributeValue> updated = client.updateItem(UpdateItemRequest.builder()
+                .tableName(TABLE)
+                .key(key("v1"))
+                .updateExpression("SET #status = :reserved ADD version :one")
+                .conditionExpression("#status = :available")
+                .expressionAttributeNames(Map.of("#status", "status"))
+                .expressionAttributeValues(Map.of(
+                        ":reserved", s("RESERVED"),
+                        ":available", s("AVAILABLE"),
+                        ":one", n("1")))
+                .returnValues(ReturnValue.ALL_NEW)
+                .build()).attributes();
+        assertEquals("RESERVED", updated.get("status").s());
+        assertEquals("1", updated.get("version").n());
+
+        assertThrows(ConditionalCheckFailedException.class, () -> client.updateItem(UpdateItemRequest.builder()
+                .tableName(TABLE)
+                .key(key("v1"))
+                .updateExpression("SET #status = :reserved")
+                .conditionExpression("#status = :available")
+                .expressionAttributeNames(Map.of("#status", "status"))
+                .expressionAttributeValues(Map.of(":reserved", s("RESERVED"), ":available", s("AVAILABLE")))
+                .build()));
+    }
+
+    @Test
+    void unusedExpressionValuesAreRejected() {
+        DynamoDbException error = assertThrows(DynamoDbException.class, () -> client.updateItem(UpdateItemRequest.builder()
+                .tableName(TABLE)
+                .key(key("v1"))
+                .updateExpression("SET price = :price")
+                .expressionAttributeValues(Map.of(":price", n("1"), ":unused", n("2")))
+                .build()));
+        assertEquals("ValidationException", error.awsErrorDetails().errorCode());
+    }
+
+    @Test
+    void indexQueryPagesThroughDuplicateSortKeysWithoutGapsOrRepeats() {
+        for (int i = 0; i < 23; i++) {
+            put(vehicle("v" + i, "AVAILABLE", i % 3 == 0 ? 500 : 100));
+        }
+        put(vehicle("sold", "SOLD", 100));
+
+        List<String> seen = new ArrayList<>();
+        List<Double> prices = new ArrayList<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryRequest.Builder query = QueryRequest.builder()
+                    .tableName(TABLE)
+                    .indexName(INDEX)
+                    .keyConditionExpression("#status = :status")
+                    .expressionAttributeNames(Map.of("#status", "status"))
+                    .expressionAttributeValues(Map.of(":status", s("AVAILABLE")))
+                    .limit(4);
+            if (startKey != null) {
+                query.exclusiveStartKey(startKey);
+            }
+            QueryResponse page = client.query(query.build());
+            page.items().forEach(item -> {
+                seen.add(item.get("vehicleId").s());
+                prices.add(Double.parseDouble(item.get("price").n()));
+            });
+            startKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty() ? page.lastEvaluatedKey() : null;
+        } while (startKey != null);
+
+        assertEquals(23, seen.size());
+        assertEquals(23, new HashSet<>(seen).size());
+        List<Double> sorted = new ArrayList<>(prices);
+        sorted.sort(null);
+        assertEquals(sorted, prices);
+    }
+
+    @Test
+    void queryLimitCountsEvaluatedItemsBeforeFilter() {
+        for (int i = 0; i < 10; i++) {
+            put(withBrand(vehicle("v" + i, "AVAILABLE", 100 + i), i % 2 == 0 ? "VW" : "Fiat"));
+        }
+
+        QueryResponse page = client.query(QueryRequest.builder()
+                .tableName(TABLE)
+                .indexName(INDEX)
+                .keyConditionExpression("#status = :status")
+                .filterExpression("brand = :brand")
+                .expressionAttributeNames(Map.of("#status", "status"))
+                .expressionAttributeValues(Map.of(":status", s("AVAILABLE"), ":brand", s("VW")))
+                .limit(4)
+                .build());
+
+        assertEquals(4, page.scannedCount());
+        assertEquals(2, page.count());
+        assertTrue(page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty());
+    }
+
+    @Test
+    void parallelScanSegmentsPartitionTheTable() {
+        for (int i = 0; i < 200; i++) {
+            put(vehicle("v" + i, "AVAILABLE", i));
+        }
+
+        int totalSegments = 7;
+        Set<String> seen = new HashSet<>();
+        int total = 0;
+        for (int segment = 0; segment < totalSegments; segment++) {
+            Map<String, AttributeValue> startKey = null;
+            do {
+                ScanRequest.Builder scan = ScanRequest.builder()
+                        .tableName(TABLE)
+                        .segment(segment)
+                        .totalSegments(totalSegments)
+                        .limit(9);
+                if (startKey != null) {
+                    scan.exclusiveStartKey(startKey);
+                }
+                ScanResponse page = client.scan(scan.build());
+                for (Map<String, AttributeValue> item : page.items()) {
+                    seen.add(item.get("vehicleId").s());
+                    total++;
+                }
+                startKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty() ? page.lastEvaluatedKey() : null;
+            } while (startKey != null);
+        }
+
+        assertEquals(200, total);
+        assertEquals(200, seen.size());
+    }
+
+    @Test
+    void concurrentAddUpdatesAreNotLost() throws Exception {
+        int threads = 8;
+        int incrementsPerThread = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        client.updateItem(UpdateItemRequest.builder()
+                                .tableName(TABLE)
+                                .key(key("counter"))
+                                .updateExpression("ADD version :one")
+                                .expressionAttributeValues(Map.of(":one", n("1")))
+                                .build());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(String.valueOf(threads * incrementsPerThread), get("counter").get("version").n());
+    }
+
+    @Test
+    void deletedItemsDisappearFromIndexes() {
+        put(vehicle("v1", "AVAILABLE", 100));
+        client.deleteItem(request -> request.tableName(TABLE).key(key("v1")));
+
+        assertTrue(get("v1").isEmpty());
+        assertEquals(0, client.query(QueryRequest.builder()
+                .tableName(TABLE)
+                .indexName(INDEX)
+                .keyConditionExpression("#status = :status")
+                .expressionAttributeNames(Map.of("#status", "status"))
+                .expressionAttributeValues(Map.of(":status", s("AVAILABLE")))
+                .build()).count());
+    }
+
+    private void put(Map<String, AttributeValue> item) {
+        client.putItem(PutItemRequest.builder().tableName(TABLE).item(item).build());
+    }
+
+    private Map<String, AttributeValue> get(String vehicleId) {
+        return client.getItem(request -> request.tableName(TABLE).key(key(vehicleId)).consistentRead(true)).item();
+    }
+
+    static Map<String, AttributeValue> vehicle(String vehicleId, String status, double price) {
+        return Map.of("vehicleId", s(vehicleId), "status", s(status), "price", n(String.valueOf(price)));
+    }
+
+    private static Map<String, AttributeValue> withBrand(Map<String, AttributeValue> item, String brand) {
+        Map<String, AttributeValue> copy = new HashMap<>(item);
+        copy.put("brand", s(brand));
+        return copy;
+    }
+
+    static Map<String, AttributeValue> key(String vehicleId) {
+        return Map.of("vehicleId", s(vehicleId));
+    }
+
+    static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    static AttributeValue n(String value) {
+        return AttributeValue.builder().n(value).build();
+    }
+}
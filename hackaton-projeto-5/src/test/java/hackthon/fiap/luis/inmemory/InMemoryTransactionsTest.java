@@ -0,0 +1,155 @@
+package hackthon.fiap.luis.inmemory;
+
+import hackthon.fiap.luis.inmemory.TableSchema.KeyAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionCheck;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.IdempotentParameterMismatchException;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValuesOnConditionCheckFailure;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+
+import java.util.List;
+import java.util.Map;
+
+import static hackthon.fiap.luis.inmemory.InMemoryDynamoDbClientTest.key;
+import static hackthon.fiap.luis.inmemory.InMemoryDynamoDbClientTest.n;
+import static hackthon.fiap.luis.inmemory.InMemoryDynamoDbClientTest.s;
+import static hackthon.fiap.luis.inmemory.InMemoryDynamoDbClientTest.vehicle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTransactionsTest {
+    private static final String VEHICLES = "Vehicles";
+    private static final String RESERVATIONS = "Reservations";
+
+    private InMemoryDynamoDbClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new InMemoryDynamoDbClient(List.of(
+                TableSchema.of(VEHICLES, KeyAttribute.string("vehicleId"), null),
+                TableSchema.of(RESERVATIONS, KeyAttribute.string("reservationId"), null)));
+        client.putItem(PutItemRequest.builder().tableName(VEHICLES).item(vehicle("v1", "AVAILABLE", 100)).build());
+    }
+
+    @Test
+    void cancelledTransactionReportsReasonPerItemAndWritesNothing() {
+        client.putItem(PutItemRequest.builder().tableName(RESERVATIONS).item(reservation("r1")).build());
+
+        TransactionCanceledException error = assertThrows(TransactionCanceledException.class,
+                () -> client.transactWriteItems(reserve("v1", "r1", null)));
+
+        List<CancellationReason> reasons = error.cancellationReasons();
+        assertEquals(2, reasons.size());
+        assertEquals("None", reasons.get(0).code());
+        assertEquals("ConditionalCheckFailed", reasons.get(1).code());
+        assertEquals("r1", reasons.get(1).item().get("reservationId").s());
+        assertEquals("AVAILABLE", vehicleStatus("v1"));
+    }
+
+    @Test
+    void successfulTransactionAppliesEveryItem() {
+        client.transactWriteItems(reserve("v1", "r1", null));
+
+        assertEquals("RESERVED", vehicleStatus("v1"));
+        assertFalse(client.getItem(request -> request.tableName(RESERVATIONS).key(Map.of("reservationId", s("r1"))))
+                .item().isEmpty());
+    }
+
+    @Test
+    void failedConditionCheckCancelsTheOtherWrites() {
+        TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+                .transactItems(
+                        TransactWriteItem.builder().conditionCheck(ConditionCheck.builder()
+                                .tableName(VEHICLES)
+                                .key(key("v1"))
+                                .conditionExpression("#status = :sold")
+                                .expressionAttributeNames(Map.of("#status", "status"))
+                                .expressionAttributeValues(Map.of(":sold", s("SOLD")))
+                                .build()).build(),
+                        TransactWriteItem.builder().put(Put.builder()
+                                .tableName(RESERVATIONS)
+                                .item(reservation("r1"))
+                                .build()).build())
+                .build();
+
+        TransactionCanceledException error = assertThrows(TransactionCanceledException.class,
+                () -> client.transactWriteItems(request));
+
+        assertEquals("ConditionalCheckFailed", error.cancellationReasons().get(0).code());
+        assertTrue(client.getItem(get -> get.tableName(RESERVATIONS).key(Map.of("reservationId", s("r1"))))
+                .item().isEmpty());
+    }
+
+    @Test
+    void sameClientTokenReplaysIdenticalRequestWithoutReapplying() {
+        client.transactWriteItems(reserve("v1", "r1", "token-1"));
+        client.transactWriteItems(reserve("v1", "r1", "token-1"));
+
+        assertEquals("RESERVED", vehicleStatus("v1"));
+        assertEquals("1", client.getItem(request -> request.tableName(VEHICLES).key(key("v1"))).item().get("version").n());
+    }
+
+    @Test
+    void sameClientTokenWithDifferentParametersIsRejected() {
+        client.transactWriteItems(reserve("v1", "r1", "token-1"));
+
+        assertThrows(IdempotentParameterMismatchException.class,
+                () -> client.transactWriteItems(reserve("v1", "r2", "token-1")));
+    }
+
+    @Test
+    void multipleOperationsOnOneItemAreRejected() {
+        TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+                .transactItems(
+                        TransactWriteItem.builder().put(Put.builder().tableName(VEHICLES).item(vehicle("v1", "SOLD", 1)).build()).build(),
+                        TransactWriteItem.builder().put(Put.builder().tableName(VEHICLES).item(vehicle("v1", "SOLD", 2)).build()).build())
+                .build();
+
+        DynamoDbException error = assertThrows(DynamoDbException.class, () -> client.transactWriteItems(request));
+        assertEquals("ValidationException", error.awsErrorDetails().errorCode());
+    }
+
+    private TransactWriteItemsRequest reserve(String vehicleId, String reservationId, String token) {
+        return TransactWriteItemsRequest.builder()
+                .clientRequestToken(token)
+                .transactItems(
+                        TransactWriteItem.builder().update(Update.builder()
+                                .tableName(VEHICLES)
+                                .key(key(vehicleId))
+                                .updateExpression("SET #status = :reserved, reservationId = :reservationId ADD version :one")
+                                .conditionExpression("#status = :available")
+                                .expressionAttributeNames(Map.of("#status", "status"))
+                                .expressionAttributeValues(Map.of(
+                                        ":reserved", s("RESERVED"),
+                                        ":available", s("AVAILABLE"),
+                                        ":reservationId", s(reservationId),
+                                        ":one", n("1")))
+                                .build()).build(),
+                        TransactWriteItem.builder().put(Put.builder()
+                                .tableName(RESERVATIONS)
+                                .item(reservation(reservationId))
+                                .conditionExpression("attribute_not_exists(reservationId)")
+                                .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                                .build()).build())
+                .build();
+    }
+
+    private String vehicleStatus(String vehicleId) {
+        return client.getItem(request -> request.tableName(VEHICLES).key(key(vehicleId))).item().get("status").s();
+    }
+
+    private static Map<String, AttributeValue> reservation(String reservationId) {
+        return Map.of("reservationId", s(reservationId), "vehicleId", s("v1"));
+    }
+}
@@ -38,6 +38,7 @@ data "aws_iam_policy_document" "lambda_exec" {
     sid = "DynamoCrud"
     actions = [
       "dynamodb:GetItem",
+      "dynamodb:BatchGetItem",
       "dynamodb:PutItem",
       "dynamodb:UpdateItem",
       "dynamodb:DeleteItem",
@@ -49,12 +50,26 @@ data "aws_iam_policy_document" "lambda_exec" {
       aws_dynamodb_table.vehicles.arn,
       "${aws_dynamodb_table.vehicles.arn}/index/*",
       aws_dynamodb_table.clients.arn,
+      "${aws_dynamodb_table.clients.arn}/index/*",
       aws_dynamodb_table.sales.arn,
       aws_dynamodb_table.reservations.arn,
-      "${aws_dynamodb_table.reservations.arn}/index/*"
+      "${aws_dynamodb_table.reservations.arn}/index/*",
+      aws_dynamodb_table.catalog_state.arn,
+      aws_dynamodb_table.sales_aggregates.arn
     ]
   }
 
+  statement {
+    sid = "DynamoStreamsRead"
+    actions = [
+      "dynamodb:DescribeStream",
+      "dynamodb:GetRecords",
+      "dynamodb:GetShardIterator",
+      "dynamodb:ListStreams"
+    ]
+    resources = [aws_dynamodb_table.sales.stream_arn]
+  }
+
   statement {
     sid = "StartStepFunctionsExecution"
     actions = [
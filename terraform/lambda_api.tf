@@ -4,11 +4,11 @@ resource "aws_lambda_function" "service" {
   function_name    = "${var.project_name}-${each.key}"
   role             = aws_iam_role.lambda_exec.arn
   handler          = each.value.handler
-  runtime          = "java17"
+  runtime          = var.lambda_runtime
   filename         = var.lambda_artifact_path
   source_code_hash = filebase64sha256(var.lambda_artifact_path)
-  memory_size      = var.lambda_memory_mb
-  timeout          = var.lambda_timeout_seconds
+  memory_size      = try(each.value.memory, var.lambda_memory_mb)
+  timeout          = try(each.value.timeout, var.lambda_timeout_seconds)
 
   tracing_config {
     mode = "Active"
@@ -21,6 +21,16 @@ resource "aws_lambda_function" "service" {
   depends_on = [aws_iam_role_policy.lambda_exec]
 }
 
+resource "aws_lambda_event_source_mapping" "sales_aggregates" {
+  event_source_arn                   = aws_dynamodb_table.sales.stream_arn
+  function_name                      = aws_lambda_function.service["sales_aggregates_stream"].arn
+  starting_position                  = "TRIM_HORIZON"
+  batch_size                         = 100
+  maximum_batching_window_in_seconds = 5
+  maximum_retry_attempts             = 10
+  function_response_types            = ["ReportBatchItemFailures"]
+}
+
 resource "aws_cloudwatch_log_group" "lambda" {
   for_each = aws_lambda_function.service
 
@@ -44,7 +54,7 @@ resource "aws_apigatewayv2_integration" "lambda" {
 
   api_id                 = aws_apigatewayv2_api.vehicle_api.id
   integration_type       = "AWS_PROXY"
-  integration_uri        = aws_lambda_function.service[each.value.function_key].invoke_arn
+  integration_uri        = aws_lambda_function.service[var.lambda_router_mode ? "router" : each.value.function_key].invoke_arn
   integration_method     = "POST"
   payload_format_version = "2.0"
 }
@@ -62,7 +72,7 @@ resource "aws_lambda_permission" "apigw_invoke" {
 
   statement_id  = "AllowApiGatewayInvoke-${each.key}"
   action        = "lambda:InvokeFunction"
-  function_name = aws_lambda_function.service[each.value.function_key].function_name
+  function_name = aws_lambda_function.service[var.lambda_router_mode ? "router" : each.value.function_key].function_name
   principal     = "apigateway.amazonaws.com"
   source_arn    = "${aws_apigatewayv2_api.vehicle_api.execution_arn}/*/*"
 }
@@ -12,24 +12,58 @@ locals {
     CLIENT_DATA_ENCRYPTION_KEY = var.client_data_encryption_key
     SALES_QUEUE_URL            = aws_sqs_queue.sales_notifications.id
     STATUS_PRICE_INDEX         = "status-price-index"
+    SOLD_TIMELINE_INDEX        = "soldMonth-soldAt-index"
+    CLIENT_EMAIL_INDEX         = "email-blind-index"
+    CLIENT_DOCUMENT_INDEX      = "document-blind-index"
+    CATALOG_STATE_TABLE        = aws_dynamodb_table.catalog_state.name
+    LISTING_CACHE_TTL_SECONDS  = tostring(var.listing_cache_ttl_seconds)
+    SALES_AGGREGATES_TABLE     = aws_dynamodb_table.sales_aggregates.name
+    SDK_HTTP_CLIENT            = "urlconnection"
+    SDK_CONNECT_TIMEOUT_MS     = "2000"
+    SDK_SOCKET_TIMEOUT_MS      = "10000"
   }
 
   lambda_definitions = {
     create_vehicle = {
       handler = "hackthon.fiap.luis.handlers.CreateVehicleHandler::handleRequest"
     }
+    bulk_import_vehicles = {
+      handler = "hackthon.fiap.luis.handlers.BulkImportVehiclesHandler::handleRequest"
+      memory  = 1024
+      timeout = 120
+      environment = {
+        BULK_IMPORT_MAX_ROWS    = "10000"
+        BULK_IMPORT_CONCURRENCY = "8"
+      }
+    }
     update_vehicle = {
       handler = "hackthon.fiap.luis.handlers.UpdateVehicleHandler::handleRequest"
     }
     list_vehicles_for_sale = {
-      handler = "hackthon.fiap.luis.handlers.ListVehiclesForSaleHandler::handleRequest"
+      handler = "hackthon.fiap.luis.handlers.ListVehiclesForSaleStreamHandler::handleRequest"
     }
     list_sold_vehicles = {
-      handler = "hackthon.fiap.luis.handlers.ListSoldVehiclesHandler::handleRequest"
+      handler = "hackthon.fiap.luis.handlers.ListSoldVehiclesStreamHandler::handleRequest"
+    }
+    search_vehicles = {
+      handler = "hackthon.fiap.luis.handlers.SearchVehiclesHandler::handleRequest"
+      environment = {
+        SEARCH_INDEX_MAX_AGE_SECONDS = tostring(var.search_index_max_age_seconds)
+      }
     }
     create_client = {
       handler = "hackthon.fiap.luis.handlers.CreateClientHandler::handleRequest"
     }
+    lookup_client = {
+      handler = "hackthon.fiap.luis.handlers.LookupClientHandler::handleRequest"
+    }
+    get_client = {
+      handler = "hackthon.fiap.luis.handlers.GetClientHandler::handleRequest"
+      environment = {
+        CLIENT_PLAINTEXT_CACHE_MAX_ENTRIES = "512"
+        CLIENT_PLAINTEXT_CACHE_TTL_SECONDS = "60"
+      }
+    }
     start_purchase = {
       handler = "hackthon.fiap.luis.handlers.StartPurchaseSagaHandler::handleRequest"
       environment = {
@@ -39,9 +73,21 @@ locals {
     get_sale = {
       handler = "hackthon.fiap.luis.handlers.GetSaleHandler::handleRequest"
     }
+    batch_get_sales = {
+      handler = "hackthon.fiap.luis.handlers.BatchGetSalesHandler::handleRequest"
+    }
+    get_sales_report = {
+      handler = "hackthon.fiap.luis.handlers.GetSalesReportHandler::handleRequest"
+    }
+    sales_aggregates_stream = {
+      handler = "hackthon.fiap.luis.streams.SalesAggregatesStreamHandler::handleRequest"
+    }
     get_reservation = {
       handler = "hackthon.fiap.luis.handlers.GetReservationHandler::handleRequest"
     }
+    batch_get_reservations = {
+      handler = "hackthon.fiap.luis.handlers.BatchGetReservationsHandler::handleRequest"
+    }
     payment_callback = {
       handler = "hackthon.fiap.luis.handlers.PaymentCallbackHandler::handleRequest"
     }
@@ -63,6 +109,17 @@ locals {
     cancel_sale = {
       handler = "hackthon.fiap.luis.saga.CancelSaleHandler::handleRequest"
     }
+    router = {
+      handler = "hackthon.fiap.luis.router.RouterHandler::handleRequest"
+      memory  = 1024
+      timeout = 120
+      environment = {
+        STATE_MACHINE_ARN            = local.state_machine_arn
+        SEARCH_INDEX_MAX_AGE_SECONDS = tostring(var.search_index_max_age_seconds)
+        BULK_IMPORT_MAX_ROWS         = "10000"
+        BULK_IMPORT_CONCURRENCY      = "8"
+      }
+    }
   }
 
   api_routes = {
@@ -70,6 +127,10 @@ locals {
       route_key    = "POST /vehicles"
       function_key = "create_vehicle"
     }
+    bulk_import_vehicles = {
+      route_key    = "POST /vehicles/bulk"
+      function_key = "bulk_import_vehicles"
+    }
     update_vehicle = {
       route_key    = "PUT /vehicles/{vehicleId}"
       function_key = "update_vehicle"
@@ -82,6 +143,10 @@ locals {
       route_key    = "GET /vehicles/sold"
       function_key = "list_sold_vehicles"
     }
+    search_vehicles = {
+      route_key    = "GET /vehicles/search"
+      function_key = "search_vehicles"
+    }
     create_client = {
       route_key    = "POST /clients"
       function_key = "create_client"
@@ -90,6 +155,14 @@ locals {
       route_key    = "POST /buyers"
       function_key = "create_client"
     }
+    lookup_client = {
+      route_key    = "GET /clients/lookup"
+      function_key = "lookup_client"
+    }
+    get_client = {
+      route_key    = "GET /clients/{clientId}"
+      function_key = "get_client"
+    }
     start_purchase = {
       route_key    = "POST /sales"
       function_key = "start_purchase"
@@ -98,10 +171,22 @@ locals {
       route_key    = "GET /sales/{saleId}"
       function_key = "get_sale"
     }
+    batch_get_sales = {
+      route_key    = "GET /sales"
+      function_key = "batch_get_sales"
+    }
+    get_sales_report = {
+      route_key    = "GET /reports/sales"
+      function_key = "get_sales_report"
+    }
     get_reservation = {
       route_key    = "GET /reservations/{reservationId}"
       function_key = "get_reservation"
     }
+    batch_get_reservations = {
+      route_key    = "GET /reservations"
+      function_key = "batch_get_reservations"
+    }
     payment_callback = {
       route_key    = "POST /payments/callback"
       function_key = "payment_callback"
@@ -138,6 +223,14 @@ locals {
         Type     = "Task"
         Resource = aws_lambda_function.service["reserve_vehicle"].arn
         Next     = "GeneratePaymentCode"
+        Retry = [
+          {
+            ErrorEquals     = ["hackthon.fiap.luis.saga.SagaRetryableException"]
+            IntervalSeconds = 1
+            MaxAttempts     = 3
+            BackoffRate     = 2
+          }
+        ]
         Catch = [
           {
             ErrorEquals = ["States.ALL"]
@@ -206,6 +299,14 @@ locals {
         Type     = "Task"
         Resource = aws_lambda_function.service["complete_sale"].arn
         Next     = "NotifySale"
+        Retry = [
+          {
+            ErrorEquals     = ["hackthon.fiap.luis.saga.SagaRetryableException"]
+            IntervalSeconds = 1
+            MaxAttempts     = 3
+            BackoffRate     = 2
+          }
+        ]
         Catch = [
           {
             ErrorEquals = ["States.ALL"]
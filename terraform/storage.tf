@@ -18,6 +18,16 @@ resource "aws_dynamodb_table" "vehicles" {
     type = "N"
   }
 
+  attribute {
+    name = "soldMonth"
+    type = "S"
+  }
+
+  attribute {
+    name = "soldAt"
+    type = "S"
+  }
+
   global_secondary_index {
     name            = "status-price-index"
     hash_key        = "status"
@@ -25,6 +35,13 @@ resource "aws_dynamodb_table" "vehicles" {
     projection_type = "ALL"
   }
 
+  global_secondary_index {
+    name            = "soldMonth-soldAt-index"
+    hash_key        = "soldMonth"
+    range_key       = "soldAt"
+    projection_type = "ALL"
+  }
+
   point_in_time_recovery {
     enabled = true
   }
@@ -44,6 +61,28 @@ resource "aws_dynamodb_table" "clients" {
     type = "S"
   }
 
+  attribute {
+    name = "emailBlindIndex"
+    type = "S"
+  }
+
+  attribute {
+    name = "documentNumberBlindIndex"
+    type = "S"
+  }
+
+  global_secondary_index {
+    name            = "email-blind-index"
+    hash_key        = "emailBlindIndex"
+    projection_type = "ALL"
+  }
+
+  global_secondary_index {
+    name            = "document-blind-index"
+    hash_key        = "documentNumberBlindIndex"
+    projection_type = "ALL"
+  }
+
   point_in_time_recovery {
     enabled = true
   }
@@ -54,9 +93,11 @@ resource "aws_dynamodb_table" "clients" {
 }
 
 resource "aws_dynamodb_table" "sales" {
-  name         = "${var.project_name}-sales"
-  billing_mode = "PAY_PER_REQUEST"
-  hash_key     = "saleId"
+  name             = "${var.project_name}-sales"
+  billing_mode     = "PAY_PER_REQUEST"
+  hash_key         = "saleId"
+  stream_enabled   = true
+  stream_view_type = "NEW_AND_OLD_IMAGES"
 
   attribute {
     name = "saleId"
@@ -108,6 +149,52 @@ resource "aws_dynamodb_table" "reservations" {
   }
 }
 
+resource "aws_dynamodb_table" "catalog_state" {
+  name         = "${var.project_name}-catalog-state"
+  billing_mode = "PAY_PER_REQUEST"
+  hash_key     = "catalogKey"
+
+  attribute {
+    name = "catalogKey"
+    type = "S"
+  }
+
+  ttl {
+    attribute_name = "expiresAt"
+    enabled        = true
+  }
+
+  server_side_encryption {
+    enabled = true
+  }
+}
+
+resource "aws_dynamodb_table" "sales_aggregates" {
+  name         = "${var.project_name}-sales-aggregates"
+  billing_mode = "PAY_PER_REQUEST"
+  hash_key     = "aggregateType"
+  range_key    = "aggregateKey"
+
+  attribute {
+    name = "aggregateType"
+    type = "S"
+  }
+
+  attribute {
+    name = "aggregateKey"
+    type = "S"
+  }
+
+  ttl {
+    attribute_name = "expiresAt"
+    enabled        = true
+  }
+
+  server_side_encryption {
+    enabled = true
+  }
+}
+
 resource "aws_sqs_queue" "sales_notifications" {
   name                       = "${var.project_name}-sales-notifications"
   visibility_timeout_seconds = 60
@@ -34,6 +34,12 @@ variable "lambda_artifact_path" {
   default     = "../hackaton-projeto-5/target/function.jar"
 }
 
+variable "lambda_runtime" {
+  description = "Lambda runtime: java17 for function.jar or provided.al2023 for the native function-native.zip"
+  type        = string
+  default     = "java17"
+}
+
 variable "lambda_timeout_seconds" {
   description = "Lambda timeout in seconds"
   type        = number
@@ -46,6 +52,24 @@ variable "lambda_memory_mb" {
   default     = 512
 }
 
+variable "listing_cache_ttl_seconds" {
+  description = "TTL of the per-container listing cache (0 disables it)"
+  type        = number
+  default     = 30
+}
+
+variable "search_index_max_age_seconds" {
+  description = "Maximum age of the in-memory search index before a full rebuild"
+  type        = number
+  default     = 300
+}
+
+variable "lambda_router_mode" {
+  description = "Route every HTTP endpoint to the single router Lambda instead of one function per route"
+  type        = bool
+  default     = false
+}
+
 variable "log_retention_days" {
   description = "CloudWatch Logs retention period"
   type        = number